@@ -4,6 +4,9 @@ import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 import duke.logic.Logic;
 import duke.logic.LogicManager;
+import duke.logic.PaymentScheduler;
+import duke.model.Budget;
+import duke.model.BudgetView;
 import duke.model.Income;
 import duke.model.IncomeList;
 import duke.model.Expense;
@@ -12,6 +15,7 @@ import duke.model.DukePP;
 import duke.model.Model;
 import duke.model.payment.Payment;
 import duke.model.payment.PaymentList;
+import duke.storage.AsyncStorageManager;
 import duke.storage.BudgetStorage;
 import duke.storage.BudgetViewStorage;
 import duke.storage.ExpenseListStorage;
@@ -20,8 +24,16 @@ import duke.storage.IncomeListStorage;
 import duke.storage.IncomeListStorageManager;
 import duke.storage.PlanAttributesStorage;
 import duke.storage.PlanAttributesStorageManager;
+import duke.storage.StartupLoader;
+import duke.storage.StorageBackend;
+import duke.storage.StorageConfig;
 import duke.storage.Storage;
 import duke.storage.StorageManager;
+import duke.storage.database.Database;
+import duke.storage.database.DatabaseExpenseListStorage;
+import duke.storage.database.DatabaseIncomeListStorage;
+import duke.storage.database.DatabaseMigrator;
+import duke.storage.database.DatabasePaymentListStorage;
 import duke.storage.payment.PaymentListStorage;
 import duke.storage.payment.PaymentListStorageManager;
 import duke.ui.Ui;
@@ -29,8 +41,10 @@ import duke.ui.UiManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -40,54 +54,88 @@ public class Main extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(Main.class);
 
+    private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
+
     private Ui ui;
     private Logic logic;
     private Model model;
-    private Storage storage;
+    private AsyncStorageManager storage;
+    private Thread shutdownHook;
+    private Database database;
+    private PaymentScheduler paymentScheduler;
 
     @Override
     public void init() throws Exception {
         super.init();
 
-        ExpenseListStorage expenseListStorage = new ExpenseListStorageManager();
+        StorageConfig storageConfig = StorageConfig.load();
+        ExpenseListStorage expenseListStorage = new ExpenseListStorageManager(storageConfig.getExpenseFileFormat());
         PlanAttributesStorage planAttributesStorage = new PlanAttributesStorageManager();
         IncomeListStorage incomeListStorage = new IncomeListStorageManager();
         BudgetStorage budgetStorage = new BudgetStorage();
         BudgetViewStorage budgetViewStorage = new BudgetViewStorage();
         PaymentListStorage paymentListStorage = new PaymentListStorageManager();
 
-        storage = new StorageManager(expenseListStorage,
+        if (storageConfig.getBackend() == StorageBackend.DATABASE) {
+            database = Database.open(DEFAULT_USER_DIRECTORY);
+            new DatabaseMigrator(database).migrateOnce(expenseListStorage, incomeListStorage, paymentListStorage);
+            expenseListStorage = new DatabaseExpenseListStorage(database);
+            incomeListStorage = new DatabaseIncomeListStorage(database);
+            paymentListStorage = new DatabasePaymentListStorage(database);
+        }
+
+        StorageManager storageManager = new StorageManager(expenseListStorage,
                 planAttributesStorage,
                 incomeListStorage,
                 budgetStorage,
                 budgetViewStorage,
                 paymentListStorage);
+        new StartupLoader(storageManager).loadAll();
+        storage = new AsyncStorageManager(storageManager);
+        // Writes the pending saves if Duke++ is ended without stop() being called.
+        shutdownHook = new Thread(storage::flush);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
 
         logger.info("Initialized the storage");
 
+        // The stores were read by the startup loader; the demo data and the model share the loaded instances.
+        final ExpenseList expenseList = storage.loadExpenseList();
+        final Map<String, String> planAttributes = storage.loadPlanAttributes();
+        final IncomeList incomeList = storage.loadIncomeList();
+        final Budget budget = storage.loadBudget();
+        final BudgetView budgetView = storage.loadBudgetView();
+        final Optional<PaymentList> paymentList = storage.loadPaymentList();
+
         //Demo Code, loads demo data on first boot
-        if (storage.loadExpenseList().internalSize() == 0 || storage.loadExpenseList() == null) {
+        if (expenseList == null) {
+            logger.warning("expenseList is not loaded");
+        } else if (expenseList.isEmpty()) {
             loadListDemoData(storage);
         }
-        if (storage.loadPaymentList().isEmpty()) {
-            logger.warning("PaymentList is not loaded");
+        if (expenseList != null && storageConfig.isExpenseListColumnar()) {
+            // The database keeps every expense it has loaded by identity, so the objects cannot be let go.
+            if (storageConfig.getBackend() == StorageBackend.FILES) {
+                expenseList.useColumnarStore();
+            } else {
+                logger.warning("expense.columnar is only used with the files backend");
+            }
         }
-        if (storage.loadExpenseList() == null) {
-            logger.warning("expenseList is not loaded");
+        if (paymentList.isEmpty()) {
+            logger.warning("PaymentList is not loaded");
         }
-        if (storage.loadIncomeList() == null) {
+        if (incomeList == null) {
             logger.warning("incomeList is not loaded");
         }
-        if (storage.loadBudget() == null) {
+        if (budget == null) {
             logger.warning("budgetList is not loaded");
         }
 
-        model = new DukePP(storage.loadExpenseList(),
-                storage.loadPlanAttributes(),
-                storage.loadIncomeList(),
-                storage.loadBudget(),
-                storage.loadBudgetView(),
-                storage.loadPaymentList());
+        model = new DukePP(expenseList,
+                planAttributes,
+                incomeList,
+                budget,
+                budgetView,
+                paymentList);
 
         logger.info("Initialized the model");
 
@@ -95,6 +143,9 @@ public class Main extends Application {
 
         logger.info("Initialized the logic");
 
+        paymentScheduler = new PaymentScheduler(logic);
+        paymentScheduler.start();
+
         ui = new UiManager(logic);
         logger.info("Initialized the app");
 
@@ -112,6 +163,25 @@ public class Main extends Application {
         ui.start(primaryStage);
     }
 
+    /**
+     * Writes any saves that are still pending, then closes the database if one is used, before Duke++ closes.
+     * The shutdown hook is removed first, as there is nothing left for it to write.
+     */
+    @Override
+    public void stop() {
+        logger.info("Stopping Duke++");
+        paymentScheduler.stop();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            logger.fine("Already shutting down");
+        }
+        storage.close();
+        if (database != null) {
+            database.close();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
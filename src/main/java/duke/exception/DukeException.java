@@ -8,6 +8,7 @@ public class DukeException extends Exception {
         + "I will back it up and create a new file.";
     public static final String MESSAGE_SAVE_FILE_FAILED = "The file at %s could not be saved to. "
         + "Close other programs that may be accessing it.";
+    public static final String MESSAGE_STORE_SAVE_FAILED = "Your %s could not be saved!";
     public static final String MESSAGE_NO_ITEM_AT_INDEX = "There is no %s numbered %d!";
     public static final String MESSAGE_PARSER_TIME_INVALID = "%s is not a valid time!";
     public static final String MESSAGE_EXPENSE_AMOUNT_INVALID = "%s is not a valid amount!";
@@ -22,6 +23,9 @@ public class DukeException extends Exception {
     public static final String MESSAGE_BUDGET_VIEW_INVALID = "%s is not a valid pane! Choose a pane between 1 to 6!";
     public static final String MESSAGE_SORT_CRITERIA_INVALID = "%s is not a valid sort criteria!";
     public static final String MESSAGE_EXPENSE_VIEW_NAME_INVALID = "%s is not a valid view scope name!";
+    public static final String MESSAGE_FILTER_TERM_INVALID = "%s is not a valid filter!";
+    public static final String MESSAGE_SEARCH_QUERY_INVALID = "%s is not a valid search!";
+    public static final String MESSAGE_RECURRENCE_INVALID = "%s is not a valid recurrence!";
     public static final String MESSAGE_EXPENSE_VIEW_NUMBER_INVALID = "%s is not a valid view scope number!";
     public static final String MESSAGE_PANE_NAME_INVALID = "%s is not an available pane! "
             + "Choose between \"expense, payment, budget and plan\"!";
@@ -34,6 +38,7 @@ public class DukeException extends Exception {
     public static final String MESSAGE_PAYMENT_TIME_INVALID = "%s is not a valid date!";
     public static final String MESSAGE_PAYMENT_SAVE_FAILED = "Errors occur in payment storage";
     public static final String MESSAGE_NUMBER_FORMAT_INVALID = "%s is not a valid index!";
+    public static final String MESSAGE_TIMES_INVALID = "%s is not a valid number of times!";
     public static final String MESSAGE_PAYMENT_SCOPE_INVALID = "%s is not a valid time scope";
     public static final String MESSAGE_PLANBOT_INVALID_REPLY = "Please enter a valid reply!";
 
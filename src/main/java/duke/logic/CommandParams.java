@@ -7,6 +7,7 @@ import duke.logic.command.ViewBudgetCommand;
 import duke.logic.command.payment.AddPaymentCommand;
 import duke.logic.command.payment.ChangePaymentCommand;
 import duke.logic.command.payment.DeletePaymentCommand;
+import duke.logic.command.payment.ExportPaymentCommand;
 import duke.logic.command.payment.FilterPaymentCommand;
 import duke.logic.command.payment.SearchPaymentCommand;
 import duke.logic.command.payment.SortPaymentCommand;
@@ -19,6 +20,9 @@ import duke.logic.command.ConfirmTentativeCommand;
 import duke.logic.command.DeleteExpenseCommand;
 import duke.logic.command.ExitCommand;
 import duke.logic.command.FilterExpenseCommand;
+import duke.logic.command.SearchExpenseCommand;
+import duke.logic.command.UndoCommand;
+import duke.logic.command.RedoCommand;
 import duke.logic.command.GoToCommand;
 import duke.logic.command.PlanBotCommand;
 import duke.logic.command.SortExpenseCommand;
@@ -63,6 +67,9 @@ public class CommandParams {
             new ConfirmTentativeCommand(),
             new ExitCommand(),
             new FilterExpenseCommand(),
+            new SearchExpenseCommand(),
+            new UndoCommand(),
+            new RedoCommand(),
             new SortExpenseCommand(),
             new ViewExpenseCommand(),
             new GoToCommand(),
@@ -77,7 +84,8 @@ public class CommandParams {
             new AddIncomeCommand(),
             new DeleteIncomeCommand(),
             new ViewBudgetCommand(),
-            new DonePaymentCommand()
+            new DonePaymentCommand(),
+            new ExportPaymentCommand()
     );
 
     /**
@@ -187,6 +195,17 @@ public class CommandParams {
         return true;
     }
 
+    /**
+     * Returns true if the parameter {@code paramName} exists and has a value.
+     * Can be used for flags that may optionally be given a value.
+     *
+     * @param paramName the parameter whose value to check for.
+     * @return true if the parameter exists and has a value, and false otherwise.
+     */
+    public boolean containsParamValue(String paramName) {
+        return secondaryParams.get(paramName) != null;
+    }
+
     private static String extractMainParam(String string, int numberOfWords) {
         String[] words = SPACE_REGEX.split(string, numberOfWords + 1);
         if (words.length <= numberOfWords) {
@@ -11,7 +11,9 @@ import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -28,8 +30,32 @@ public interface Logic {
      */
     CommandResult execute(String userInput) throws DukeException;
 
+    /**
+     * Follows each recurring payment whose due has passed with its next occurrences, and saves them in one write.
+     *
+     * @param today the current day.
+     * @return the number of payments generated.
+     * @throws DukeException if the payments could not be saved.
+     */
+    int rollPaymentsForward(LocalDate today) throws DukeException;
+
+    /**
+     * Sets the handler told about saves that fail after the command that made them has finished.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     *
+     * @param saveFailureHandler receives a message describing each failed save.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     ObservableList<Expense> getExternalExpenseList();
 
+    /**
+     * Returns whether any expenses have been recorded, including those outside the current view scope.
+     *
+     * @return true if there is at least one expense.
+     */
+    boolean hasExpenses();
+
     ObservableList<PlanBot.PlanDialog> getDialogObservableList();
 
     BigDecimal getTagAmount(String tag);
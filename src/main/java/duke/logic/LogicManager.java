@@ -14,7 +14,9 @@ import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -24,6 +26,7 @@ public class LogicManager implements Logic {
 
     private Model model;
     private Storage storage;
+    private Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with model and storage.
@@ -41,16 +44,56 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         CommandParams commandParams = new CommandParams(userInput);
         Command command = commandParams.getCommand();
-        commandResult = command.execute(commandParams, model, storage);
+        model.beginEdit();
+        try {
+            commandResult = command.execute(commandParams, model, storage);
+        } catch (DukeException | RuntimeException e) {
+            // A command that fails halfway may still have changed the model.
+            model.endEdit();
+            saveAfterFailedCommand();
+            throw e;
+        }
+        model.endEdit();
+        storage.saveDirty(model);
 
         return commandResult;
     }
 
+    /**
+     * Saves what a failed command changed. A failed save is reported to the save failure handler,
+     * so that the command's own exception is the one the user sees.
+     */
+    private void saveAfterFailedCommand() {
+        try {
+            storage.saveDirty(model);
+        } catch (DukeException e) {
+            saveFailureHandler.accept(e.getMessage());
+        }
+    }
+
+    @Override
+    public int rollPaymentsForward(LocalDate today) throws DukeException {
+        int generated = model.rollPaymentsForward(today);
+        storage.saveDirty(model);
+        return generated;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+        storage.setSaveFailureHandler(saveFailureHandler);
+    }
+
     @Override
     public ObservableList<Expense> getExternalExpenseList() {
         return model.getExpenseExternalList();
     }
 
+    @Override
+    public boolean hasExpenses() {
+        return !model.getExpenseList().isEmpty();
+    }
+
     @Override
     public ObservableList<PlanBot.PlanDialog> getDialogObservableList() {
         return model.getDialogObservableList();
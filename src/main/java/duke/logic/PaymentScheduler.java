@@ -0,0 +1,95 @@
+package duke.logic;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import javafx.application.Platform;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rolls the recurring payments forward when Duke++ starts and again at every midnight after, so that
+ * a payment whose due has passed is followed by its next occurrence without it being added again by hand.
+ * The runs at midnight change the payments on the JavaFX application thread, which shows them.
+ */
+public class PaymentScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(PaymentScheduler.class);
+
+    private final Logic logic;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Creates a {@code PaymentScheduler} which rolls the payments of {@code logic} forward.
+     *
+     * @param logic the logic to roll the payments forward and save them with.
+     */
+    public PaymentScheduler(Logic logic) {
+        this(logic, Clock.systemDefaultZone(), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code PaymentScheduler} telling the time by {@code clock},
+     * and running the changes to the payments on {@code modelExecutor}.
+     */
+    PaymentScheduler(Logic logic, Clock clock, Executor modelExecutor) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rolls the payments forward on the calling thread, before they are shown, and schedules the next run.
+     */
+    public void start() {
+        rollPaymentsForward();
+        scheduleNextRun();
+    }
+
+    /**
+     * Cancels the next run.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Returns the time from {@code now} until the start of the next day, which is not always 24 hours away.
+     */
+    static Duration getTimeUntilMidnight(ZonedDateTime now) {
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(now.getZone()));
+    }
+
+    private void scheduleNextRun() {
+        long delayMillis = getTimeUntilMidnight(ZonedDateTime.now(clock)).toMillis();
+        timer.schedule(() -> {
+            modelExecutor.execute(this::rollPaymentsForward);
+            scheduleNextRun();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void rollPaymentsForward() {
+        try {
+            logic.rollPaymentsForward(LocalDate.now(clock));
+        } catch (DukeException e) {
+            logger.warning("Could not save the payments rolled forward: " + e.getMessage());
+        }
+    }
+}
@@ -27,7 +27,7 @@ public class AddExpenseCommand extends Command {
         TAG("tag", "tags that should be added to the expense"),
         TIME("time", "the time of the expense"),
         TENTATIVE("tentative", "sets the expense to be tentative"),
-        RECURRING("recurring", "sets the expense to be recurring");
+        RECURRING("recurring", "sets the expense to be recurring, e.g. monthly, every 2 weeks until 31/12/2019");
 
 
         private String name;
@@ -76,13 +76,14 @@ public class AddExpenseCommand extends Command {
             expenseBuilder.setTentative(true);
         }
 
-        if (commandParams.containsParams(SecondaryParam.RECURRING.name)) {
+        if (commandParams.containsParamValue(SecondaryParam.RECURRING.name)) {
+            expenseBuilder.setRecurrence(commandParams.getParam(SecondaryParam.RECURRING.name));
+        } else if (commandParams.containsParams(SecondaryParam.RECURRING.name)) {
             expenseBuilder.setRecurring(true);
         }
 
         model.addExpense(expenseBuilder.build());
         // duke.expenseList.update();
-        storage.saveExpenseList(model.getExpenseList());
 
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
         /*
@@ -75,7 +75,6 @@ public class AddIncomeCommand extends Command {
         incomeBuilder.setDescription(commandParams.getParam(SecondaryParam.DESCRIPTION.name));
 
         model.addIncome(incomeBuilder.build());
-        storage.saveIncomeList(model.getIncomeList());
 
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.BUDGET);
     }
@@ -52,8 +52,6 @@ public class BudgetCommand extends Command {
             } else {
                 model.setMonthlyBudget(scaledAmount);
             }
-            storage.saveBudget(model.getBudget());
-
         } catch (NumberFormatException e) {
             throw new DukeException(String.format(DukeException.MESSAGE_BUDGET_AMOUNT_INVALID,
                     commandParams.getMainParam()));
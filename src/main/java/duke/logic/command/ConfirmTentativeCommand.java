@@ -48,9 +48,7 @@ public class ConfirmTentativeCommand extends Command {
             int index = Integer.parseInt(commandParams.getMainParam());
             Expense expense = model.getExpenseExternalList().get(index - 1);
             if (expense.isTentative()) {
-                model.deleteExpense(index);
-                expense.setTentative(false);
-                model.addExpense(expense);
+                model.confirmExpense(index);
             } else {
                 throw new DukeException(index + " is not a tentative task!");
             }
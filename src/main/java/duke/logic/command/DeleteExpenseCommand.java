@@ -3,6 +3,8 @@ package duke.logic.command;
 import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
+import duke.logic.parser.Parser;
+import duke.model.ExpenseFilter;
 import duke.model.Model;
 import duke.storage.Storage;
 
@@ -11,18 +13,24 @@ import java.util.stream.Stream;
 
 /**
  * Represents a specified command as DeleteCommand by extending the {@code Command} class.
- * Deletes the task with given index or specific command from the ExpenseList of Duke.
- * Responses with the result.
+ * Deletes the expenses with the given indices, the expenses shown that match the given parameters,
+ * or all expenses from the ExpenseList of Duke, as one edit.
+ * Responses with the number of expenses deleted.
  */
 public class DeleteExpenseCommand extends Command {
     private static final String name = "deleteExpense";
-    private static final String description = "Deletes an Expense";
-    private static final String usage = "delete $index";
+    private static final String description = "Deletes Expenses";
+    private static final String usage = "deleteExpense $indices";
 
-    private static final String COMPLETE_MESSAGE = "Deleted the expense(s)!";
+    private static final String COMPLETE_MESSAGE = "Deleted %d expense(s)!";
+    private static final String EXCEPTION_WORD_INDEX = "index";
 
     private enum SecondaryParam {
-        ;
+        TAG("tag", "deletes the expenses shown with this tag"),
+        BEFORE("before", "deletes the expenses shown before this day, e.g. 01/01/2019"),
+        AFTER("after", "deletes the expenses shown after this day"),
+        ON("on", "deletes the expenses shown on this day"),
+        FILTER("filter", "deletes the expenses shown that pass this filter, as in filterExpense");
 
         private String name;
         private String description;
@@ -43,58 +51,56 @@ public class DeleteExpenseCommand extends Command {
     }
 
     /**
-
-     *
-     * @param
-     * @throws DukeException If the index given is out of range, invalid, or does not exist.
-     */
-
-    /**
-     * Lets the ExpenseList of Duke delete the task with the given index(s), or the entire task list and
-     * updates content of storage file according to new ExpenseList.
+     * Lets the ExpenseList of Duke delete the expenses with the given indices, such as {@code 1-5,8},
+     * the expenses shown that match the secondary parameters, or all expenses.
+     * The indices all refer to the expenses as they are shown before any is deleted,
+     * and the expenses are deleted together, so that they are saved and undone at once.
      *
-     * Responses the result to user by using ui of Duke++ in ExpensePane.
+     * Responses the number of expenses deleted to user by using ui of Duke++ in ExpensePane,
+     * which is 0 if no expense shown matches the secondary parameters.
      *
      * @param commandParams the parameters given by the user, parsed into a {@code CommandParams} object.
      * @param model         {@code Model} which the command should operate on.
      * @param storage       the storage of Duke++.
      * @return CommandResult the result of the command, which is a completed logger message, in budget display pane
-     * @throws DukeException If the index given is out of range, invalid, or does not exist.
+     * @throws DukeException If an index given is out of range or invalid, or a parameter is not valid.
      */
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        int deleted;
         if (!commandParams.containsMainParam()) {
-            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING, "index"));
+            String query = buildQuery(commandParams);
+            if (query.isEmpty()) {
+                throw new DukeException(
+                        String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING, EXCEPTION_WORD_INDEX));
+            }
+            deleted = model.deleteExpenses(ExpenseFilter.parse(query));
+        } else if (commandParams.getMainParam().equals("all")) {
+            deleted = model.clearExpense();
+        } else {
+            deleted = model.deleteExpenses(Parser.parseIndices(commandParams.getMainParam(),
+                    model.getExpenseList().getExternalList().size()));
         }
+        return new CommandResult(String.format(COMPLETE_MESSAGE, deleted), CommandResult.DisplayedPane.EXPENSE);
+    }
 
-        try {
-            if (commandParams.getMainParam().contains("-")) {
-                String[] index = commandParams.getMainParam().split("-");
-                int difference = Integer.parseInt(index[1]) - Integer.parseInt(index[0]);
-                if (difference <= 0) {
-                    throw new DukeException(String.format(DukeException.MESSAGE_DELETE_FORMAT_INVALID,
-                            commandParams.getMainParam()));
-                }
-                if (Integer.parseInt(index[1]) > model.getExpenseList().internalSize()) {
-                    throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID,
-                            Integer.parseInt(index[1])));
-                } else {
-                    int counter = 0;
-                    for (int i = Integer.parseInt(index[0]); counter <= difference; counter++) {
-                        model.deleteExpense(i);
-                    }
-                }
-            } else if (commandParams.getMainParam().equals("all")) {
-                model.clearExpense();
+    /**
+     * Returns the {@code ExpenseFilter} query that the secondary parameters given stand for,
+     * which is empty if none is given.
+     */
+    private static String buildQuery(CommandParams commandParams) throws DukeException {
+        StringBuilder query = new StringBuilder();
+        for (SecondaryParam param : SecondaryParam.values()) {
+            if (!commandParams.containsParams(param.name)) {
+                continue;
+            }
+            String value = commandParams.getParam(param.name);
+            if (param == SecondaryParam.FILTER) {
+                query.append(' ').append(value);
             } else {
-                model.deleteExpense((Integer.parseInt(commandParams.getMainParam())));
+                query.append(' ').append(param.name).append(":\"").append(value).append('"');
             }
-            storage.saveExpenseList(model.getExpenseList());
-            return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
-
-        } catch (NumberFormatException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID,
-                    commandParams.getMainParam()));
         }
+        return query.toString().trim();
     }
 }
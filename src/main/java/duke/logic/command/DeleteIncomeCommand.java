@@ -80,7 +80,6 @@ public class DeleteIncomeCommand extends Command {
             } else {
                 model.deleteIncome((Integer.parseInt(commandParams.getMainParam())));
             }
-            storage.saveIncomeList(model.getIncomeList());
             return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.BUDGET);
 
         } catch (NumberFormatException e) {
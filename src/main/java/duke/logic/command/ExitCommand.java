@@ -50,6 +50,7 @@ public class ExitCommand extends Command {
 
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) {
+        storage.flush();
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE, true);
     }
 }
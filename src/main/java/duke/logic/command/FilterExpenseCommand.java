@@ -11,8 +11,8 @@ import java.util.stream.Stream;
 
 public class FilterExpenseCommand extends Command {
     private static final String name = "filterExpense";
-    private static final String description = "Filter expenses according to a given criteria";
-    private static final String usage = "filter $criteria";
+    private static final String description = "Filter expenses with a query, e.g. tag:FOOD amount>5 desc~rice";
+    private static final String usage = "filterExpense $query";
 
     private static final String COMPLETE_MESSAGE = "Filtered the expense!";
 
@@ -39,7 +39,7 @@ public class FilterExpenseCommand extends Command {
 
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
-        String mainParam = commandParams.getMainParam();
+        String mainParam = commandParams.containsMainParam() ? commandParams.getMainParam() : "";
         model.filterExpense(mainParam);
 
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
@@ -43,8 +43,6 @@ public class PlanBotCommand extends Command {
                 for (Expense recommendedExpense : model.getRecommendedBudgetPlan().getRecommendationExpenseList()) {
                     model.addExpense(recommendedExpense);
                 }
-                storage.saveExpenseList(model.getExpenseList());
-                storage.saveBudget(model.getBudget());
                 return new CommandResult("Exported successfully!", CommandResult.DisplayedPane.EXPENSE);
             } catch (NullPointerException e) {
                 return new CommandResult("Nothing to export!", CommandResult.DisplayedPane.PLAN);
@@ -52,7 +50,6 @@ public class PlanBotCommand extends Command {
 
         } else {
             model.processPlanInput(commandParams.getMainParam());
-            storage.savePlanAttributes(model.getKnownPlanAttributes());
             return new CommandResult("PlanBot replied!", CommandResult.DisplayedPane.PLAN);
         }
     }
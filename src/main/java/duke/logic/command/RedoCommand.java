@@ -0,0 +1,65 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Redoes the changes to expenses, incomes and payments undone last, one command at a time.
+ * Changes can no longer be redone once a command changes expenses, incomes or payments again.
+ */
+public class RedoCommand extends Command {
+    private static final String name = "redo";
+    private static final String description = "Redo the latest changes to expenses, incomes and payments";
+    private static final String usage = "redo $times";
+
+    private static final String COMPLETE_MESSAGE = "Redid %d command(s)!";
+    private static final String NOTHING_MESSAGE = "There is nothing to redo!";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Constructs a {@code RedoCommand} object.
+     */
+    public RedoCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        int times = 1;
+        if (commandParams.containsMainParam()) {
+            try {
+                times = Integer.parseInt(commandParams.getMainParam());
+            } catch (NumberFormatException e) {
+                times = 0;
+            }
+            if (times < 1) {
+                throw new DukeException(String.format(DukeException.MESSAGE_TIMES_INVALID,
+                        commandParams.getMainParam()));
+            }
+        }
+
+        int redone = model.redo(times);
+        if (redone == 0) {
+            throw new DukeException(NOTHING_MESSAGE);
+        }
+        return new CommandResult(String.format(COMPLETE_MESSAGE, redone), CommandResult.DisplayedPane.EXPENSE);
+    }
+}
@@ -0,0 +1,55 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shows the expenses of any time whose descriptions contain the given words, instead of those in the view scope.
+ * The view scope is shown again once it is set with {@code viewExpense}.
+ */
+public class SearchExpenseCommand extends Command {
+    private static final String name = "searchExpense";
+    private static final String description = "Search expenses by words in their descriptions, e.g. chicken ric*";
+    private static final String usage = "searchExpense $words";
+
+    private static final String COMPLETE_MESSAGE = "Here are the expenses found!";
+    private static final String EXCEPTION_WORD_WORDS = "words";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Constructs a {@code SearchExpenseCommand} object.
+     */
+    public SearchExpenseCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        if (!commandParams.containsMainParam()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
+                    EXCEPTION_WORD_WORDS));
+        }
+
+        model.searchExpense(commandParams.getMainParam());
+
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+    }
+}
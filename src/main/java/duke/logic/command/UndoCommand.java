@@ -0,0 +1,64 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Undoes the latest changes to expenses, incomes and payments, one command at a time.
+ */
+public class UndoCommand extends Command {
+    private static final String name = "undo";
+    private static final String description = "Undo the latest changes to expenses, incomes and payments";
+    private static final String usage = "undo $times";
+
+    private static final String COMPLETE_MESSAGE = "Undid %d command(s)!";
+    private static final String NOTHING_MESSAGE = "There is nothing to undo!";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Constructs a {@code UndoCommand} object.
+     */
+    public UndoCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        int times = 1;
+        if (commandParams.containsMainParam()) {
+            try {
+                times = Integer.parseInt(commandParams.getMainParam());
+            } catch (NumberFormatException e) {
+                times = 0;
+            }
+            if (times < 1) {
+                throw new DukeException(String.format(DukeException.MESSAGE_TIMES_INVALID,
+                        commandParams.getMainParam()));
+            }
+        }
+
+        int undone = model.undo(times);
+        if (undone == 0) {
+            throw new DukeException(NOTHING_MESSAGE);
+        }
+        return new CommandResult(String.format(COMPLETE_MESSAGE, undone), CommandResult.DisplayedPane.EXPENSE);
+    }
+}
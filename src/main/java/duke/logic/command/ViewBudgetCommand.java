@@ -73,8 +73,6 @@ public class ViewBudgetCommand extends Command {
         String category = commandParams.getParam(SecondaryParam.TAG.name).toUpperCase();
         model.setBudgetView(view, category);
 
-        storage.saveBudgetView(model.getBudgetView());
-
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.BUDGET);
     }
 }
\ No newline at end of file
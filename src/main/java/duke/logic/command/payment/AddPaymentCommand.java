@@ -5,10 +5,10 @@ import duke.logic.CommandParams;
 import duke.logic.CommandResult;
 import duke.logic.command.Command;
 import duke.model.Model;
+import duke.model.Recurrence;
 import duke.model.payment.Payment;
 import duke.storage.Storage;
 
-import java.io.IOException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,7 +32,8 @@ public class AddPaymentCommand extends Command {
         DUE("due", "the due date of affording the payment"),
         PRIORITY("priority", "the priority of the payment"),
         RECEIVER("receiver", "the receiver of the payment"),
-        TAG("tag", "tag of the pending payment");
+        TAG("tag", "tag of the pending payment"),
+        RECURRING("recurring", "sets the payment to be recurring, e.g. monthly, every 2 weeks until 31/12/2020");
 
         private String name;
         private String description;
@@ -101,14 +102,14 @@ public class AddPaymentCommand extends Command {
             paymentBuilder.setTag(commandParams.getParam(SecondaryParam.TAG.name));
         }
 
-        model.addPayment(paymentBuilder.build());
-
-        try {
-            storage.savePaymentList(model.getPaymentList());
-        } catch (IOException e) {
-            throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+        if (commandParams.containsParamValue(SecondaryParam.RECURRING.name)) {
+            paymentBuilder.setRecurrence(commandParams.getParam(SecondaryParam.RECURRING.name));
+        } else if (commandParams.containsParams(SecondaryParam.RECURRING.name)) {
+            paymentBuilder.setRecurrence(Recurrence.MONTHLY);
         }
 
+        model.addPayment(paymentBuilder.build());
+
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
     }
 }
@@ -4,23 +4,24 @@ import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
 import duke.logic.command.Command;
+import duke.logic.parser.Parser;
 import duke.model.Model;
 import duke.storage.Storage;
 
-import java.io.IOException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Deletes a payment identified using it's displayed index from the payments reminder.
+ * Deletes payments identified using their displayed indices, such as {@code 1-5,8}, from the payments reminder.
+ * The indices all refer to the payments as they are shown before any is deleted.
  */
 public class DeletePaymentCommand extends Command {
 
     private static final String name = "deletePayment";
-    private static final String description = "Deletes a Payment";
-    private static final String usage = "deletePayment $index";
+    private static final String description = "Deletes Payments";
+    private static final String usage = "deletePayment $indices";
 
-    private static final String COMPLETE_MESSAGE = "Deleted the payment!";
+    private static final String COMPLETE_MESSAGE = "Deleted %d payment(s)!";
     private static final String EXCEPTION_WORD_INDEX = "index";
 
     /**
@@ -61,19 +62,9 @@ public class DeletePaymentCommand extends Command {
                     String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING, EXCEPTION_WORD_INDEX));
         }
 
-        String mainParam = commandParams.getMainParam();
-        try {
-            model.removePayment(Integer.parseInt(mainParam));
-        } catch (NumberFormatException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, mainParam));
-        }
-
-        try {
-            storage.savePaymentList(model.getPaymentList());
-        } catch (IOException e) {
-            throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
-        }
+        int deleted = model.removePayments(Parser.parseIndices(commandParams.getMainParam(),
+                model.getUnmodifiableFilteredPaymentList().size())).size();
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
+        return new CommandResult(String.format(COMPLETE_MESSAGE, deleted), CommandResult.DisplayedPane.PAYMENT);
     }
 }
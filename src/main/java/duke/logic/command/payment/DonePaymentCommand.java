@@ -4,26 +4,27 @@ import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
 import duke.logic.command.Command;
+import duke.logic.parser.Parser;
 import duke.model.Expense;
 import duke.model.Model;
 import duke.model.payment.Payment;
 import duke.storage.Storage;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Finishes a payment identified using it's displayed index in the payments reminder.
- * The finished payment will be automatically recorded in the expense tracker.
+ * Finishes payments identified using their displayed indices, such as {@code 1-5,8}, in the payments reminder.
+ * The finished payments will be automatically recorded in the expense tracker.
  */
 public class DonePaymentCommand extends Command {
 
     private static final String name = "donePayment";
-    private static final String description = "Finish a Payment and add to expenseList";
-    private static final String usage = "donePayment $index";
+    private static final String description = "Finish Payments and add to expenseList";
+    private static final String usage = "donePayment $indices";
 
-    private static final String COMPLETE_MESSAGE = "Finished the payment!";
+    private static final String COMPLETE_MESSAGE = "Finished %d payment(s)!";
     private static final String EXCEPTION_WORD_INDEX = "index";
 
     /**
@@ -64,27 +65,21 @@ public class DonePaymentCommand extends Command {
                     EXCEPTION_WORD_INDEX));
         }
 
-        String mainParam = commandParams.getMainParam();
-        int targetIndex;
-        try {
-            targetIndex = Integer.parseInt(mainParam);
-        } catch (NumberFormatException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, mainParam));
-        }
-
-        Payment payment = model.getPayment(targetIndex); // Gets the finished payment.
-        Expense.Builder expenseBuilder = new Expense.Builder(payment); // Constructs an expense based on payment
+        // All finished payments are removed at once, before their indices could shift.
+        List<Payment> payments = model.removePayments(Parser.parseIndices(commandParams.getMainParam(),
+                model.getUnmodifiableFilteredPaymentList().size()));
 
-        model.addExpense(expenseBuilder.build());
-        storage.saveExpenseList(model.getExpenseList());
+        for (Payment payment : payments) {
+            model.addExpense(new Expense.Builder(payment).build()); // Constructs an expense based on payment
 
-        model.removePayment(targetIndex);
-        try {
-            storage.savePaymentList(model.getPaymentList());
-        } catch (IOException e) {
-            throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+            // A recurring payment is followed by its next occurrence.
+            Payment nextOccurrence = payment.getNextOccurrence();
+            if (nextOccurrence != null) {
+                model.addPayment(nextOccurrence);
+            }
         }
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
+        return new CommandResult(String.format(COMPLETE_MESSAGE, payments.size()),
+                CommandResult.DisplayedPane.PAYMENT);
     }
 }
@@ -0,0 +1,80 @@
+package duke.logic.command.payment;
+
+import duke.commons.FileUtil;
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.logic.command.Command;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exports all payments in payment reminder to the given file as pretty-printed json.
+ */
+public class ExportPaymentCommand extends Command {
+
+    private static final String name = "exportPayment";
+    private static final String description = "Exports all payments to the given file";
+    private static final String usage = "exportPayment $filePath";
+
+    private static final String COMPLETE_MESSAGE = "Payments are exported to %s!";
+    private static final String EXCEPTION_WORD_FILE_PATH = "file path";
+
+    /**
+     * Contains all secondary parameters used by {@code ExportPaymentCommand}.
+     * Here the {@code ExportPaymentCommand} does not demand secondary parameters.
+     */
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        /**
+         * Constructs a {@code SecondaryParam} with its name and usage.
+         *
+         * @param name        The name of the secondary parameter.
+         * @param description The usage of this parameter.
+         */
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Creates a ExportPaymentCommand, with its name, description, usage and secondary parameters.
+     */
+    public ExportPaymentCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+                .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        if (!commandParams.containsMainParam()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
+                    EXCEPTION_WORD_FILE_PATH));
+        }
+
+        String filePath = commandParams.getMainParam();
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, filePath));
+        }
+        Path exportPath = Paths.get(filePath);
+        try {
+            storage.exportPaymentList(model.getPaymentList(), exportPath);
+        } catch (IOException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, filePath));
+        }
+
+        return new CommandResult(String.format(COMPLETE_MESSAGE, exportPath.toAbsolutePath()),
+                CommandResult.DisplayedPane.PAYMENT);
+    }
+}
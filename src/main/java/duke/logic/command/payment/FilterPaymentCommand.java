@@ -5,6 +5,7 @@ import duke.logic.CommandParams;
 import duke.logic.CommandResult;
 import duke.logic.command.Command;
 import duke.model.Model;
+import duke.model.payment.Payment;
 import duke.storage.Storage;
 
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import java.util.stream.Stream;
  * Sets the time scope of visible payments in payment reminder.
  * Scopes include overdue payments, coming payments in current week, coming payments in current month
  * and all payments without limit.
+ * Payments can also be narrowed down to one priority. Both are kept along with any keyword searched for.
  */
 public class FilterPaymentCommand extends Command {
 
@@ -25,16 +27,16 @@ public class FilterPaymentCommand extends Command {
     private static final String WEEK_SCOPE = "week";
     private static final String MONTH_SCOPE = "month";
     private static final String ALL_SCOPE = "all";
+    private static final String ALL_PRIORITIES = "all";
 
     private static final String COMPLETE_MESSAGE = "Here are payments!";
     private static final String EXCEPTION_WORD_TIME_SCOPE = "time scope";
 
     /**
      * Contains all secondary parameters used by {@code FilterPaymentCommand}.
-     * Here the {@code FilterPaymentCommand} does not demand secondary parameters.
      */
     private enum SecondaryParam {
-        ;
+        PRIORITY("priority", "only show payments of this priority, or of all priorities");
 
         private String name;
         private String description;
@@ -61,13 +63,23 @@ public class FilterPaymentCommand extends Command {
 
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
-        if (!commandParams.containsMainParam()) {
+        boolean hasPriority = commandParams.containsParams(SecondaryParam.PRIORITY.name);
+        if (!commandParams.containsMainParam() && !hasPriority) {
             throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
                     EXCEPTION_WORD_TIME_SCOPE));
         }
 
-        String timeScope = commandParams.getMainParam().toLowerCase(); // case insensitive
+        if (hasPriority) {
+            model.setPaymentPriority(parsePriority(commandParams.getParam(SecondaryParam.PRIORITY.name)));
+        }
+        if (commandParams.containsMainParam()) {
+            setTimeScope(commandParams.getMainParam().toLowerCase(), model); // case insensitive
+        }
+
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
+    }
 
+    private void setTimeScope(String timeScope, Model model) throws DukeException {
         switch (timeScope) {
         case OVERDUE_SCOPE:
             model.setOverduePredicate();
@@ -84,7 +96,23 @@ public class FilterPaymentCommand extends Command {
         default:
             throw new DukeException(String.format(DukeException.MESSAGE_PAYMENT_SCOPE_INVALID, timeScope));
         }
+    }
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
+    /**
+     * Parses the priority to show, where {@code all} stands for every priority.
+     *
+     * @param priority the priority as given by the user, ignoring case.
+     * @return the priority, or null for every priority.
+     * @throws DukeException if {@code priority} is neither {@code all} nor a priority name.
+     */
+    private Payment.Priority parsePriority(String priority) throws DukeException {
+        if (priority.equalsIgnoreCase(ALL_PRIORITIES)) {
+            return null;
+        }
+        try {
+            return Payment.Priority.valueOf(priority.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_PRIORITY_NAME_INVALID, priority));
+        }
     }
 }
@@ -12,8 +12,8 @@ import java.util.stream.Stream;
 
 /**
  * Searches and lists all payments in payment reminder
- * whose description, receiver or tag contains the given keyword.
- * Keyword matching is case insensitive.
+ * whose description, receiver or tag contains the given keyword, within the time scope and priority shown.
+ * Keyword matching is case insensitive. Without a keyword, the search is cleared.
  */
 public class SearchPaymentCommand extends Command {
 
@@ -22,7 +22,7 @@ public class SearchPaymentCommand extends Command {
     private static final String usage = "searchPayment $keyword";
 
     private static final String COMPLETE_MESSAGE = "Here are searching results!";
-    private static final String EXCEPTION_WORD_KEYWORD = "keyword";
+    private static final String CLEARED_MESSAGE = "Cleared the search!";
 
     /**
      * Contains all secondary parameters used by {@code SearchPaymentCommand}.
@@ -57,8 +57,8 @@ public class SearchPaymentCommand extends Command {
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
         if (!commandParams.containsMainParam()) {
-            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
-                    EXCEPTION_WORD_KEYWORD));
+            model.setSearchKeyword("");
+            return new CommandResult(CLEARED_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
         }
 
         model.setSearchKeyword(commandParams.getMainParam());
@@ -4,9 +4,14 @@ import duke.exception.DukeException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Parses the command line from user input to tokens and
@@ -34,6 +39,10 @@ public class Parser {
      * @throws DukeException if the string cannot be parsed into a {@code LocalDateTime} object.
      */
     public static LocalDateTime parseTime(String string) throws DukeException {
+        LocalDateTime time = parseFixedWidthTime(string);
+        if (time != null) {
+            return time;
+        }
         try {
             return LocalDateTime.parse(string, dateTimeFormatter);
         } catch (DateTimeParseException e) {
@@ -41,6 +50,91 @@ public class Parser {
         }
     }
 
+    /**
+     * Reads a time in the exact form {@code HH:mm dd/MM/yyyy}, which is how every time is stored,
+     * by reading the digits at their fixed positions instead of going through {@code dateTimeFormatter}.
+     * Returns null for anything else, including invalid dates, which are left to {@code dateTimeFormatter}
+     * so that they are resolved the same way as before.
+     *
+     * @param string the string to read.
+     * @return the time, or null if {@code string} is not a valid time in the exact form.
+     */
+    private static LocalDateTime parseFixedWidthTime(String string) {
+        if (string == null || string.length() != 16 || string.charAt(2) != ':' || string.charAt(5) != ' '
+                || string.charAt(8) != '/' || string.charAt(11) != '/') {
+            return null;
+        }
+        int hour = parseDigits(string, 0, 2);
+        int minute = parseDigits(string, 3, 5);
+        int day = parseDigits(string, 6, 8);
+        int month = parseDigits(string, 9, 11);
+        int year = parseDigits(string, 12, 16);
+        if (hour < 0 || minute < 0 || day < 0 || month < 0 || year < 1) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number written in {@code string} from {@code start} to {@code end}, or -1 if a character
+     * in between is not a digit.
+     */
+    private static int parseDigits(String string, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Parses a list of indices and ranges of indices, such as {@code 1-5,8}, into the indices they stand for.
+     *
+     * @param indices the indices, separated by commas, where {@code a-b} stands for {@code a} to {@code b}.
+     * @param count the number of items shown, which no index can be over.
+     * @return the indices, in increasing order and each only once.
+     * @throws DukeException if an index is not a number from 1 to {@code count}, or a range is backwards.
+     */
+    public static List<Integer> parseIndices(String indices, int count) throws DukeException {
+        SortedSet<Integer> parsed = new TreeSet<>();
+        for (String part : indices.split(",", -1)) {
+            String[] bounds = part.split("-", -1);
+            if (bounds.length > 2) {
+                throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, part.trim()));
+            }
+            int first = parseIndex(bounds[0], count);
+            int last = bounds.length == 1 ? first : parseIndex(bounds[1], count);
+            if (first > last) {
+                throw new DukeException(String.format(DukeException.MESSAGE_DELETE_FORMAT_INVALID, part.trim()));
+            }
+            for (int index = first; index <= last; index++) {
+                parsed.add(index);
+            }
+        }
+        return new ArrayList<>(parsed);
+    }
+
+    private static int parseIndex(String string, int count) throws DukeException {
+        int index;
+        try {
+            index = Integer.parseInt(string.trim());
+        } catch (NumberFormatException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, string.trim()));
+        }
+        if (index < 1 || index > count) {
+            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, index));
+        }
+        return index;
+    }
+
     /**
      * Returns a formatted BigDecimal representing Money.
      * @param string String we want to format
@@ -7,6 +7,9 @@ import duke.logic.command.ConfirmTentativeCommand;
 import duke.logic.command.DeleteExpenseCommand;
 import duke.logic.command.ExitCommand;
 import duke.logic.command.FilterExpenseCommand;
+import duke.logic.command.SearchExpenseCommand;
+import duke.logic.command.UndoCommand;
+import duke.logic.command.RedoCommand;
 import duke.logic.command.GoToCommand;
 import duke.logic.command.PlanBotCommand;
 import duke.logic.command.SortExpenseCommand;
@@ -16,6 +19,7 @@ import duke.logic.command.ViewBudgetCommand;
 import duke.logic.command.payment.AddPaymentCommand;
 import duke.logic.command.payment.ChangePaymentCommand;
 import duke.logic.command.payment.DeletePaymentCommand;
+import duke.logic.command.payment.ExportPaymentCommand;
 import duke.logic.command.payment.DonePaymentCommand;
 import duke.logic.command.payment.FilterPaymentCommand;
 import duke.logic.command.payment.SearchPaymentCommand;
@@ -134,6 +138,9 @@ public class AutoCompleter {
             new ConfirmTentativeCommand(),
             new ExitCommand(),
             new FilterExpenseCommand(),
+            new SearchExpenseCommand(),
+            new UndoCommand(),
+            new RedoCommand(),
             new SortExpenseCommand(),
             new ViewExpenseCommand(),
             new GoToCommand(),
@@ -145,6 +152,7 @@ public class AutoCompleter {
             new SearchPaymentCommand(),
             new SortPaymentCommand(),
             new DonePaymentCommand(),
+            new ExportPaymentCommand(),
             new BudgetCommand(),
             new ViewBudgetCommand()
     );
@@ -0,0 +1,212 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An inverted index of the words in the descriptions of the items of a {@code DukeList}, so that items can be
+ * searched for by words without looking at every description.
+ *
+ * <p>Each item is given an id when added, and each word maps to the ids of the items with that word, in the order
+ * they were added. A search is looked up word by word and the ids are then merged.
+ *
+ * @param <T> the type of the items.
+ */
+class DescriptionIndex<T> {
+
+    /**
+     * The ids of the items with a word, from smallest to largest.
+     */
+    private static class Postings {
+        private int[] ids = new int[2];
+        private int size = 0;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private static final String WORD_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private final Function<T, String> descriptionOf;
+    private final NavigableMap<String, Postings> postingsByWord = new TreeMap<>();
+    private final Map<T, Integer> idOf = new IdentityHashMap<>();
+    private final Map<Integer, T> itemOf = new HashMap<>();
+    private int nextId = 0;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param descriptionOf gives the description of an item.
+     */
+    DescriptionIndex(Function<T, String> descriptionOf) {
+        this.descriptionOf = descriptionOf;
+    }
+
+    void add(T item) {
+        int id = nextId++;
+        idOf.put(item, id);
+        itemOf.put(id, item);
+        for (String word : wordsOf(descriptionOf.apply(item))) {
+            postingsByWord.computeIfAbsent(word, w -> new Postings()).add(id);
+        }
+    }
+
+    void addAll(Collection<T> items) {
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} itself, rather than an item equal to it.
+     */
+    void remove(T item) {
+        Integer id = idOf.remove(item);
+        if (id == null) {
+            return;
+        }
+        itemOf.remove(id);
+        for (String word : wordsOf(descriptionOf.apply(item))) {
+            Postings postings = postingsByWord.get(word);
+            if (postings != null) {
+                postings.remove(id);
+                if (postings.size == 0) {
+                    postingsByWord.remove(word);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postingsByWord.clear();
+        idOf.clear();
+        itemOf.clear();
+    }
+
+    /**
+     * Returns the items matching {@code query}, in the order they were added.
+     *
+     * @param query the query.
+     * @return the items matching the query.
+     */
+    List<T> search(DescriptionQuery query) {
+        int[] ids = new int[0];
+        for (List<String> group : query.getGroups()) {
+            int[] groupIds = null;
+            for (String term : group) {
+                int[] termIds = lookUp(term);
+                groupIds = groupIds == null ? termIds : intersect(groupIds, termIds);
+                if (groupIds.length == 0) {
+                    break;
+                }
+            }
+            ids = unite(ids, groupIds);
+        }
+
+        List<T> items = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            items.add(itemOf.get(id));
+        }
+        return items;
+    }
+
+    /**
+     * Returns the ids of the items with the word {@code term}, or with a word starting with it if it ends with
+     * {@link DescriptionQuery#PREFIX_WILDCARD}.
+     */
+    private int[] lookUp(String term) {
+        if (!DescriptionQuery.isPrefix(term)) {
+            Postings postings = postingsByWord.get(term);
+            return postings == null ? new int[0] : postings.toArray();
+        }
+        String prefix = term.substring(0, term.length() - 1);
+        int[] ids = new int[0];
+        for (Map.Entry<String, Postings> entry : postingsByWord.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            ids = unite(ids, entry.getValue().toArray());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the distinct words of {@code description} in lower case.
+     */
+    static Set<String> wordsOf(String description) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : description.toLowerCase().split(WORD_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] ids = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                ids[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    private static int[] unite(int[] first, int[] second) {
+        if (first.length == 0 || second.length == 0) {
+            return first.length == 0 ? second : first;
+        }
+        int[] ids = new int[first.length + second.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                ids[size++] = first[i++];
+            } else if (i == first.length || first[i] > second[j]) {
+                ids[size++] = second[j++];
+            } else {
+                ids[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(ids, size);
+    }
+}
@@ -0,0 +1,102 @@
+package duke.model;
+
+import duke.exception.DukeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A search for items by the words in their descriptions, such as {@code chicken ric* or nasi}.
+ *
+ * <p>Words separated by spaces must all be in a description, ignoring case. Groups of words can be separated
+ * by {@code or}, in which case all the words of one group must be in the description.
+ * A word ending with {@code *} matches any word starting with the rest of it.
+ */
+public class DescriptionQuery {
+
+    static final char PREFIX_WILDCARD = '*';
+
+    private static final String TERM_SEPARATOR = "[^\\p{L}\\p{N}*]+";
+    private static final String OR = "or";
+
+    private final String text;
+    private final List<List<String>> groups;
+
+    private DescriptionQuery(String text, List<List<String>> groups) {
+        this.text = text;
+        this.groups = groups;
+    }
+
+    /**
+     * Reads a search query.
+     *
+     * @param query the query.
+     * @return the query read.
+     * @throws DukeException if the query has no words, or an {@code or} without words on both sides.
+     */
+    public static DescriptionQuery parse(String query) throws DukeException {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> group = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase(OR)) {
+                if (group.isEmpty()) {
+                    throw new DukeException(String.format(DukeException.MESSAGE_SEARCH_QUERY_INVALID, query));
+                }
+                groups.add(group);
+                group = new ArrayList<>();
+                continue;
+            }
+            for (String term : word.toLowerCase().split(TERM_SEPARATOR)) {
+                if (term.isEmpty()) {
+                    continue;
+                }
+                int wildcardIndex = term.indexOf(PREFIX_WILDCARD);
+                if (wildcardIndex != -1 && (wildcardIndex != term.length() - 1 || term.length() == 1)) {
+                    throw new DukeException(String.format(DukeException.MESSAGE_SEARCH_QUERY_INVALID, query));
+                }
+                group.add(term);
+            }
+        }
+        if (group.isEmpty()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_SEARCH_QUERY_INVALID, query));
+        }
+        groups.add(group);
+        return new DescriptionQuery(query.trim(), groups);
+    }
+
+    /**
+     * Returns whether {@code description} matches this query.
+     */
+    public boolean matches(String description) {
+        Set<String> words = DescriptionIndex.wordsOf(description);
+        for (List<String> group : groups) {
+            if (group.stream().allMatch(term -> hasTerm(words, term))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    List<List<String>> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
+    static boolean isPrefix(String term) {
+        return term.charAt(term.length() - 1) == PREFIX_WILDCARD;
+    }
+
+    private static boolean hasTerm(Set<String> words, String term) {
+        if (!isPrefix(term)) {
+            return words.contains(term);
+        }
+        String prefix = term.substring(0, term.length() - 1);
+        return words.stream().anyMatch(word -> word.startsWith(prefix));
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -31,9 +31,9 @@ abstract class DukeItem implements Serializable {
      */
     protected static final String TAG_SEPARATOR = " ";
     /**
-     * The item's tags.
+     * The item's tag, shared with all items with the same tag.
      */
-    protected final String tag;
+    protected final TagDictionary.Tag tag;
 
     /**
      * A utility method used to extract fields from a storage string into a map, so that they can be
@@ -71,7 +71,7 @@ abstract class DukeItem implements Serializable {
          * @param i the existing item.
          */
         protected Builder(DukeItem i) {
-            tag = i.tag;
+            tag = i.getTag();
         }
 
         /**
@@ -119,7 +119,16 @@ abstract class DukeItem implements Serializable {
      * @param builder the builder containing information for this object.
      */
     protected DukeItem(Builder<?> builder) {
-        tag = builder.tag;
+        tag = TagDictionary.tagOf(builder.tag);
+    }
+
+    /**
+     * Constructs an item with the same tag as {@code item}.
+     *
+     * @param item the item whose tag to use.
+     */
+    protected DukeItem(DukeItem item) {
+        tag = item.tag;
     }
 
     /**
@@ -129,7 +138,7 @@ abstract class DukeItem implements Serializable {
      */
     protected String toStorageString() {
         StringJoiner stringJoiner = new StringJoiner(STORAGE_FIELD_DELIMITER);
-        stringJoiner.add("tag" + STORAGE_NAME_SEPARATOR + String.join(" ", tag));
+        stringJoiner.add("tag" + STORAGE_NAME_SEPARATOR + tag.getName());
         return stringJoiner.toString();
     }
 
@@ -139,7 +148,25 @@ abstract class DukeItem implements Serializable {
      * @return the set of tags of this item.
      */
     public String getTag() {
-        return tag;
+        return tag.getName();
+    }
+
+    /**
+     * Returns the id of the tag of this item in {@link TagDictionary}, so that tags can be compared as ints.
+     *
+     * @return the id of the tag.
+     */
+    public int getTagId() {
+        return tag.getId();
+    }
+
+    /**
+     * Returns the id of the tag of this item in {@link TagDictionary}, ignoring case.
+     *
+     * @return the id of the tag in lower case.
+     */
+    public int getTagIdIgnoringCase() {
+        return tag.getIdIgnoringCase();
     }
 
     /**
@@ -149,10 +176,10 @@ abstract class DukeItem implements Serializable {
      */
     public String getTagString() {
         StringJoiner stringJoiner = new StringJoiner(" ");
-        if (tag.isEmpty()) {
+        if (tag.getName().isEmpty()) {
             return "";
         } else {
-            return tag;
+            return tag.getName();
         }
     }
 
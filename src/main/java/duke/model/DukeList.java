@@ -1,26 +1,20 @@
 package duke.model;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.ObjectInput;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Scanner;
-import java.util.Stack;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import duke.exception.DukeException;
-import duke.exception.DukeRuntimeException;
 import javafx.collections.ObservableList;
 
 /**
- * The generic parent list of all lists in Duke, which are responsible for saving their own information
- * and have undo and redo capabilities.
+ * The generic parent list of all lists in Duke, which are responsible for saving their own information.
+ * Undo and redo are done by {@code DukePP}, which reverses the adds and removes made to these lists.
  *
  * @param <T> The {@code DukeItem} contained in the list.
  */
@@ -29,9 +23,13 @@ abstract class DukeList<T extends DukeItem> {
 
     // private final File file;
     private final String itemName;
-    private Stack<byte[]> undoStates;
-    private byte[] currentState;
-    private Stack<byte[]> redoStates;
+
+    /**
+     * Changes made since storage last collected them. Only recorded once {@link #startTrackingChanges()}
+     * is called, so that lists nobody saves incrementally do not grow this queue forever.
+     */
+    private final Queue<DukeListChange<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private volatile boolean isTrackingChanges = false;
 
     protected List<T> internalList;
     protected ObservableList<T> externalList;
@@ -40,10 +38,6 @@ abstract class DukeList<T extends DukeItem> {
     public DukeList(List<T> internalList, String itemName) {
         this.itemName = itemName;
         this.internalList = internalList;
-
-        undoStates = new Stack<byte[]>();
-        currentState = toByteArray(internalList);
-        redoStates = new Stack<byte[]>();
     }
 
     /**
@@ -76,6 +70,7 @@ abstract class DukeList<T extends DukeItem> {
      */
     public void add(T item) {
         internalList.add(item);
+        recordChange(DukeListChange.added(item));
     }
 
     /**
@@ -108,49 +103,107 @@ abstract class DukeList<T extends DukeItem> {
      * @throws DukeException if the index is out of bounds.
      */
     public void remove(int index) throws DukeException {
-        internalList.remove(get(index));
+        T item = get(index);
+        internalList.remove(item);
+        recordChange(DukeListChange.removed(item));
+    }
+
+    /**
+     * Removes {@code item} itself, rather than an item equal to it, from {@code internalList}
+     * (items are only equal to themselves),
+     * whether it is in {@code externalList} or not. Used to reverse adding it.
+     *
+     * @param item the item to remove.
+     * @return true if the item was in the list.
+     */
+    public boolean removeItem(T item) {
+        int i = internalList.lastIndexOf(item);
+        if (i == -1) {
+            return false;
+        }
+        internalList.remove(i);
+        recordChange(DukeListChange.removed(item));
+        return true;
+    }
+
+    /**
+     * Removes {@code items} themselves from {@code internalList} in one pass over it, whether they are
+     * in {@code externalList} or not. Items not in the list, and items given more than once, are skipped.
+     *
+     * @param items the items to remove.
+     * @return the items removed, in the order they were in {@code internalList}.
+     */
+    public List<T> removeItems(Collection<T> items) {
+        Set<T> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(items);
+        List<T> removed = new ArrayList<>();
+        internalList.removeIf(item -> {
+            if (toRemove.remove(item)) {
+                removed.add(item);
+                return true;
+            }
+            return false;
+        });
+        removed.forEach(item -> recordChange(DukeListChange.removed(item)));
+        return removed;
     }
 
     /**
      * Removes all items from {@code internalList}.
+     *
+     * @return the items removed.
      */
-    public void clear() {
+    public List<T> clear() {
+        List<T> removed = new ArrayList<>(internalList);
         internalList.clear();
+        recordChange(DukeListChange.cleared());
+        return removed;
     }
 
+    /**
+     * Starts recording the changes made to this list, so that storage can save only those changes
+     * instead of the whole list. Changes made before this call are not recorded.
+     */
+    public void startTrackingChanges() {
+        isTrackingChanges = true;
+    }
 
     /**
-     * Taken from https://stackoverflow.com/a/30968827
-     * Converts the current state of {@code internalList} into a byte array so that it can be restored later.
+     * Stops recording the changes made to this list and forgets the ones not yet collected.
+     * Used by storage when the recorded changes could not be saved, so that the whole list is saved next time.
+     */
+    public void stopTrackingChanges() {
+        isTrackingChanges = false;
+        pendingChanges.clear();
+    }
+
+    /**
+     * Returns whether changes made to this list are being recorded.
      *
-     * @return the byte array of the current {@code internalList}.
+     * @return true if {@link #startTrackingChanges()} has been called.
      */
-    private byte[] toByteArray(List<T> list) {
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ObjectOutput out = new ObjectOutputStream(bos)) {
-            out.writeObject(list);
-            return bos.toByteArray();
-        } catch (IOException e) {
-            throw new DukeRuntimeException("Failed to create byte array from list.", e);
-        }
+    public boolean isTrackingChanges() {
+        return isTrackingChanges;
     }
 
     /**
-     * Taken from https://stackoverflow.com/a/30968827
-     * Returns a list corresponding to a previous state of {@code internalList}.
-     * Casting to {@code List<T>} causes the warning. As the code is self-contained, there is no risk of
-     * the object in {@code bytes} not being one of type {@code List<T>}.
+     * Returns all changes recorded since the last call, in the order they were made, and forgets them.
+     * Safe to call from a thread other than the one modifying the list.
      *
-     * @param bytes a byte array corresponding to a previous state of {@code internalList}.
-     * @return the previous state of {@code internalList}.
+     * @return the changes made since the last call.
      */
-    @SuppressWarnings("unchecked")
-    private List<T> fromByteArray(byte[] bytes) {
-        try (ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
-            ObjectInput in = new ObjectInputStream(bis)) {
-            return (List<T>) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            throw new DukeRuntimeException("Failed to load list from byte array.", e);
+    public List<DukeListChange<T>> drainChanges() {
+        List<DukeListChange<T>> changes = new ArrayList<>();
+        DukeListChange<T> change;
+        while ((change = pendingChanges.poll()) != null) {
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private void recordChange(DukeListChange<T> change) {
+        if (isTrackingChanges) {
+            pendingChanges.add(change);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package duke.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single change made to a {@code DukeList} since it was last saved.
+ * The storage string of the item is captured when the change is made, so that later changes to the
+ * item (e.g. confirming a tentative expense) do not affect what was recorded.
+ *
+ * @param <T> The {@code DukeItem} contained in the list.
+ */
+public class DukeListChange<T extends DukeItem> {
+
+    /**
+     * The kinds of changes a {@code DukeList} can go through.
+     */
+    public enum Type {
+        ADDED,
+        REMOVED,
+        CLEARED
+    }
+
+    private final Type type;
+    private final T item;
+    private final String storageString;
+
+    private DukeListChange(Type type, T item, String storageString) {
+        this.type = type;
+        this.item = item;
+        this.storageString = storageString;
+    }
+
+    static <T extends DukeItem> DukeListChange<T> added(T item) {
+        requireNonNull(item);
+        return new DukeListChange<>(Type.ADDED, item, item.toStorageString());
+    }
+
+    static <T extends DukeItem> DukeListChange<T> removed(T item) {
+        requireNonNull(item);
+        return new DukeListChange<>(Type.REMOVED, item, item.toStorageString());
+    }
+
+    static <T extends DukeItem> DukeListChange<T> cleared() {
+        return new DukeListChange<>(Type.CLEARED, null, "");
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the item that was added or removed. Is null if the list was cleared.
+     *
+     * @return the item that was added or removed.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the storage string of the item at the time of the change.
+     *
+     * @return the storage string of the item at the time of the change.
+     */
+    public String getStorageString() {
+        return storageString;
+    }
+}
@@ -13,7 +13,11 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -39,6 +43,16 @@ public class DukePP implements Model {
     public ObservableList<Expense> externalExpenseList;
     public ObservableList<Income> externalIncomeList;
 
+    /**
+     * The number of changes made to each store, which only ever increases.
+     */
+    private final Map<Store, Long> versions = new EnumMap<>(Store.class);
+
+    /**
+     * The changes to expenses, incomes and payments that can be undone and redone.
+     */
+    private final UndoLog undoLog = new UndoLog();
+
 
     /**
      * Creates a DukePP.
@@ -59,26 +73,173 @@ public class DukePP implements Model {
         } else {
             this.payments = optionalPayments.get();
         }
+        for (Store store : Store.values()) {
+            versions.put(store, 0L);
+        }
+    }
+
+    @Override
+    public long getVersion(Store store) {
+        return versions.get(store);
+    }
+
+    private void markChanged(Store store) {
+        versions.merge(store, 1L, Long::sum);
+    }
+
+    //******************************** Undo and redo
+
+    @Override
+    public void beginEdit() {
+        undoLog.beginEdit();
+    }
+
+    @Override
+    public void endEdit() {
+        undoLog.endEdit();
+    }
+
+    @Override
+    public int undo(int times) {
+        int undone = 0;
+        while (undone < times && markStepsChanged(undoLog.undo())) {
+            undone++;
+        }
+        return undone;
+    }
+
+    @Override
+    public int redo(int times) {
+        int redone = 0;
+        while (redone < times && markStepsChanged(undoLog.redo())) {
+            redone++;
+        }
+        return redone;
+    }
+
+    /**
+     * Marks the stores changed by {@code steps} as changed.
+     *
+     * @return false if there are no steps.
+     */
+    private boolean markStepsChanged(List<UndoLog.Step> steps) {
+        for (UndoLog.Step step : steps) {
+            markChanged(step.getStore());
+        }
+        return !steps.isEmpty();
     }
 
     //******************************** ExpenseList operations
 
+    /**
+     * Adds an expense, which can be undone.
+     */
     public void addExpense(Expense expense) {
         expenseList.add(expense);
+        markChanged(Store.EXPENSE_LIST);
+        undoLog.record(new UndoLog.Step(Store.EXPENSE_LIST,
+            () -> expenseList.removeItem(expense), () -> expenseList.add(expense)));
     }
 
+    /**
+     * Deletes the expense at {@code index} in the expense pane, which can be undone.
+     */
     public void deleteExpense(int index) throws DukeException {
+        Expense expense = expenseList.get(index);
+        expenseList.remove(index);
+        markChanged(Store.EXPENSE_LIST);
+        undoLog.record(new UndoLog.Step(Store.EXPENSE_LIST,
+            () -> expenseList.add(expense), () -> expenseList.removeItem(expense)));
+    }
+
+    /**
+     * Deletes the expenses at {@code indices} in the expense pane together. All of them are looked up before
+     * any is deleted, so that the indices all refer to the expense pane as it was shown.
+     * An occurrence of a recurring expense stands for the recurring expense, as in {@link #deleteExpense(int)}.
+     *
+     * @param indices the indices of the expenses in the expense pane.
+     * @return the number of expenses deleted.
+     * @throws DukeException if there is no expense at one of the indices, in which case none are deleted.
+     */
+    public int deleteExpenses(List<Integer> indices) throws DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        for (int index : indices) {
+            expenses.add(expenseList.get(index));
+        }
+        return deleteExpenses(expenses);
+    }
+
+    /**
+     * Deletes the expenses in the expense pane that pass {@code filter} together.
+     * An occurrence of a recurring expense that passes stands for the recurring expense.
+     *
+     * @param filter the filter the expenses to delete pass.
+     * @return the number of expenses deleted.
+     */
+    public int deleteExpenses(ExpenseFilter filter) {
+        List<Expense> expenses = new ArrayList<>();
+        for (Expense expense : expenseList.getExternalList()) {
+            if (filter.test(expense)) {
+                expenses.add(expense.getOccurrenceOf() == null ? expense : expense.getOccurrenceOf());
+            }
+        }
+        return deleteExpenses(expenses);
+    }
+
+    private int deleteExpenses(Collection<Expense> expenses) {
+        List<Expense> removed = expenseList.removeItems(expenses);
+        if (!removed.isEmpty()) {
+            markChanged(Store.EXPENSE_LIST);
+            undoLog.record(new UndoLog.Step(Store.EXPENSE_LIST,
+                () -> removed.forEach(expenseList::add), () -> expenseList.removeItems(removed)));
+        }
+        logger.info("Deleted " + removed.size() + " expenses");
+        return removed.size();
+    }
+
+    /**
+     * Confirms a tentative expense, which is taken out of the list and added back as it changes.
+     *
+     * @param index the index of the expense in the expense pane.
+     * @throws DukeException if there is no expense at that index.
+     */
+    public void confirmExpense(int index) throws DukeException {
+        Expense expense = expenseList.get(index);
         expenseList.remove(index);
+        expense.setTentative(false);
+        expenseList.add(expense);
+        markChanged(Store.EXPENSE_LIST);
+        undoLog.record(new UndoLog.Step(Store.EXPENSE_LIST,
+            () -> setTentative(expense, true), () -> setTentative(expense, false)));
+    }
+
+    private void setTentative(Expense expense, boolean isTentative) {
+        expenseList.removeItem(expense);
+        expense.setTentative(isTentative);
+        expenseList.add(expense);
     }
 
-    public void clearExpense() {
-        expenseList.clear();
+    /**
+     * Deletes all expenses, including those not loaded yet, which can be undone.
+     *
+     * @return the number of expenses deleted.
+     */
+    public int clearExpense() {
+        List<Expense> removed = expenseList.clear();
+        markChanged(Store.EXPENSE_LIST);
+        undoLog.record(new UndoLog.Step(Store.EXPENSE_LIST,
+            () -> removed.forEach(expenseList::add), expenseList::clear));
+        return removed.size();
     }
 
     public void filterExpense(String filterCriteria) throws DukeException {
         expenseList.setFilterCriteria(filterCriteria);
     }
 
+    public void searchExpense(String query) throws DukeException {
+        expenseList.setSearchQuery(query);
+    }
+
     public void sortExpense(String sortCriteria) throws DukeException {
         expenseList.setSortCriteria(sortCriteria);
     }
@@ -145,11 +306,13 @@ public class DukePP implements Model {
     @Override
     public void setMonthlyBudget(BigDecimal monthlyBudget) {
         budget.setMonthlyBudget(monthlyBudget);
+        markChanged(Store.BUDGET);
     }
 
     @Override
     public void setCategoryBudget(String category, BigDecimal budgetBD) {
         budget.setCategoryBudget(category, budgetBD);
+        markChanged(Store.BUDGET);
     }
 
     @Override
@@ -185,6 +348,7 @@ public class DukePP implements Model {
     @Override
     public void setBudgetView(Integer view, String category) {
         budgetView.setBudgetView(view,category);
+        markChanged(Store.BUDGET_VIEW);
     }
 
     @Override
@@ -200,7 +364,15 @@ public class DukePP implements Model {
         return planBot.getDialogObservableList();
     }
 
+    /**
+     * Passes the user's reply on to PlanBot.
+     *
+     * @param input the user's reply.
+     * @throws DukeException if the reply is not valid.
+     */
     public void processPlanInput(String input) throws DukeException {
+        // Marked first, as the input may be partly processed before it is rejected.
+        markChanged(Store.PLAN_ATTRIBUTES);
         planBot.processInput(input);
     }
 
@@ -227,16 +399,32 @@ public class DukePP implements Model {
      */
     public void addIncome(Income income) {
         incomeList.add(income);
+        markChanged(Store.INCOME_LIST);
+        undoLog.record(new UndoLog.Step(Store.INCOME_LIST,
+            () -> incomeList.removeItem(income), () -> incomeList.add(income)));
         logger.info("Model's income externalList length now is "
                 + externalIncomeList.size());
     }
 
+    /**
+     * Deletes the income at {@code index} in the budget pane, which can be undone.
+     */
     public void deleteIncome(int index) throws DukeException {
+        Income income = incomeList.get(index);
         incomeList.remove(index);
+        markChanged(Store.INCOME_LIST);
+        undoLog.record(new UndoLog.Step(Store.INCOME_LIST,
+            () -> incomeList.add(income), () -> incomeList.removeItem(income)));
     }
 
+    /**
+     * Deletes all incomes, which can be undone.
+     */
     public void clearIncome() {
-        incomeList.clear();
+        List<Income> removed = incomeList.clear();
+        markChanged(Store.INCOME_LIST);
+        undoLog.record(new UndoLog.Step(Store.INCOME_LIST,
+            () -> removed.forEach(incomeList::add), incomeList::clear));
     }
 
     public void filterIncome(String filterCriteria) throws DukeException {
@@ -270,16 +458,111 @@ public class DukePP implements Model {
     //************************************************************
     // Pending Payments operations
 
+    /**
+     * Adds a payment, which can be undone.
+     */
     public void addPayment(Payment payment) {
         payments.add(payment);
+        markChanged(Store.PAYMENT_LIST);
+        undoLog.record(new UndoLog.Step(Store.PAYMENT_LIST,
+            () -> payments.remove(payment), () -> payments.add(payment)));
     }
 
+    /**
+     * Replaces the payment at {@code index} with {@code editedPayment}, which can be undone.
+     */
     public void setPayment(int index, Payment editedPayment) throws DukeException {
+        Payment payment = payments.getPayment(index);
         payments.setPayment(index, editedPayment);
+        markChanged(Store.PAYMENT_LIST);
+        undoLog.record(new UndoLog.Step(Store.PAYMENT_LIST,
+            () -> payments.setPayment(editedPayment, payment), () -> payments.setPayment(payment, editedPayment)));
     }
 
+    /**
+     * Removes the payment at {@code index}, which can be undone.
+     */
     public void removePayment(int index) throws DukeException {
+        Payment payment = payments.getPayment(index);
         payments.remove(index);
+        markChanged(Store.PAYMENT_LIST);
+        undoLog.record(new UndoLog.Step(Store.PAYMENT_LIST,
+            () -> payments.add(payment), () -> payments.remove(payment)));
+    }
+
+    /**
+     * Removes the payments at {@code indices} in the payment pane together. All of them are looked up before
+     * any is removed, so that the indices all refer to the payment pane as it was shown.
+     *
+     * @param indices the indices of the payments in the payment pane.
+     * @return the payments removed.
+     * @throws DukeException if there is no payment at one of the indices, in which case none are removed.
+     */
+    public List<Payment> removePayments(List<Integer> indices) throws DukeException {
+        List<Payment> removed = new ArrayList<>();
+        for (int index : indices) {
+            removed.add(payments.getPayment(index));
+        }
+        payments.removeAll(removed);
+        markChanged(Store.PAYMENT_LIST);
+        undoLog.record(new UndoLog.Step(Store.PAYMENT_LIST,
+            () -> removed.forEach(payments::add), () -> payments.removeAll(removed)));
+        return removed;
+    }
+
+    /**
+     * Rolls the recurring payments whose due has passed forward. Each stays as a one-off payment still to be paid,
+     * followed by its occurrences up to the first one due from {@code today} on, which carries the recurrence on.
+     * The payments are all changed before they are saved, so that they are saved in one write.
+     * The roll can be undone as an edit of its own, so that the edits before it still undo the payments they made.
+     *
+     * @param today the current day.
+     * @return the number of payments generated.
+     */
+    public int rollPaymentsForward(LocalDate today) {
+        List<Payment> rolledPayments = new ArrayList<>();
+        List<Payment> oneOffPayments = new ArrayList<>();
+        List<Payment> generatedPayments = new ArrayList<>();
+        for (Payment payment : new ArrayList<>(payments.getInternalList())) {
+            if (!payment.isRecurring() || !payment.getDue().isBefore(today)) {
+                continue;
+            }
+            Payment oneOff = new Payment.Builder(payment).setRecurrence((Recurrence) null).build();
+            payments.setPayment(payment, oneOff);
+            rolledPayments.add(payment);
+            oneOffPayments.add(oneOff);
+
+            Payment next = payment.getNextOccurrence();
+            for (int missed = 0; next != null && next.getDue().isBefore(today)
+                    && missed < Recurrence.MAX_OCCURRENCES; missed++) {
+                Payment missedPayment = new Payment.Builder(next).setRecurrence((Recurrence) null).build();
+                payments.add(missedPayment);
+                generatedPayments.add(missedPayment);
+                next = next.getNextOccurrence();
+            }
+            if (next != null) {
+                payments.add(next);
+                generatedPayments.add(next);
+            }
+        }
+
+        if (!rolledPayments.isEmpty()) {
+            markChanged(Store.PAYMENT_LIST);
+            undoLog.record(new UndoLog.Step(Store.PAYMENT_LIST, () -> {
+                payments.removeAll(generatedPayments);
+                for (int i = 0; i < rolledPayments.size(); i++) {
+                    payments.setPayment(oneOffPayments.get(i), rolledPayments.get(i));
+                }
+            }, () -> {
+                for (int i = 0; i < rolledPayments.size(); i++) {
+                    payments.setPayment(rolledPayments.get(i), oneOffPayments.get(i));
+                }
+                generatedPayments.forEach(payments::add);
+            }));
+            logger.info("Rolled " + rolledPayments.size() + " recurring payments forward into "
+                    + generatedPayments.size() + " payments");
+        }
+        return generatedPayments.size();
     }
 
     public void setPaymentSortingCriteria(String sortCriteria) throws DukeException {
@@ -309,6 +592,10 @@ public class DukePP implements Model {
         payments.setSearchPredicate(keyword);
     }
 
+    public void setPaymentPriority(Payment.Priority priority) {
+        payments.setPriorityPredicate(priority);
+    }
+
     public Payment getPayment(int index) throws DukeException {
         return payments.getPayment(index);
     }
@@ -6,7 +6,10 @@ import duke.model.payment.Payment;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 
@@ -15,6 +18,10 @@ public class Expense extends DukeItem {
      * The amount of money of the expense.
      */
     private final BigDecimal amount;
+    /**
+     * {@link #amount} in cents, for adding up amounts without creating {@code BigDecimal}s.
+     */
+    private final long amountInCents;
     /**
      * The description of the expense.
      */
@@ -28,9 +35,13 @@ public class Expense extends DukeItem {
      */
     private final LocalDateTime time;
     /**
-     * Is true if expense is a recurring one.
+     * How the expense recurs from the day of {@link #time}, or null if it does not recur.
+     */
+    private final Recurrence recurrence;
+    /**
+     * The recurring expense this is an occurrence of, or null if it is not an occurrence.
      */
-    private boolean isRecurring;
+    private final Expense occurrenceOf;
 
     /**
      * {@inheritDoc}
@@ -39,7 +50,7 @@ public class Expense extends DukeItem {
         private BigDecimal amount = BigDecimal.ZERO;
         private String description = "";
         private boolean isTentative = false;
-        private boolean isRecurring = false;
+        private Recurrence recurrence = null;
         private LocalDateTime time = LocalDateTime.now();
 
         public Builder() {
@@ -56,6 +67,7 @@ public class Expense extends DukeItem {
             amount = expense.amount;
             description = expense.description;
             isTentative = expense.isTentative;
+            recurrence = expense.recurrence;
             time = expense.time;
         }
 
@@ -65,7 +77,8 @@ public class Expense extends DukeItem {
          */
         public Builder(Payment payment) {
             setTag(payment.getTag());
-            amount = payment.getAmount();
+            // Payments may have more decimal places than expenses do.
+            amount = payment.getAmount().setScale(2, RoundingMode.HALF_UP);
             description = payment.getDescription();
             isTentative = false;
             time = LocalDateTime.now();
@@ -95,6 +108,9 @@ public class Expense extends DukeItem {
             if (mappedStorageString.containsKey("time")) {
                 setTime(Parser.parseTime(mappedStorageString.get("time")));
             }
+            if (mappedStorageString.containsKey("recurrence")) {
+                setRecurrence(mappedStorageString.get("recurrence"));
+            }
             if (mappedStorageString.containsKey("isRecurring")) {
                 setRecurring(Boolean.parseBoolean(mappedStorageString.get("isRecurring")));
             }
@@ -129,6 +145,12 @@ public class Expense extends DukeItem {
                 throw new DukeException(
                         String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, amount.toPlainString()));
             }
+            try {
+                Money.of(amount);
+            } catch (ArithmeticException e) {
+                throw new DukeException(
+                        String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, amount.toPlainString()));
+            }
             this.amount = amount.setScale(2, RoundingMode.UNNECESSARY);
             return this;
         }
@@ -156,13 +178,39 @@ public class Expense extends DukeItem {
         }
 
         /**
-         * Sets the expense as a recurring expense.
+         * Sets the expense as a recurring expense. One with no recurrence set yet recurs monthly.
          *
-         * @param recurring whether the expense is tentative.
+         * @param recurring whether the expense is recurring.
          * @return this builder.
          */
         public Builder setRecurring(boolean recurring) {
-            isRecurring = recurring;
+            if (!recurring) {
+                recurrence = null;
+            } else if (recurrence == null) {
+                recurrence = Recurrence.MONTHLY;
+            }
+            return this;
+        }
+
+        /**
+         * Sets how the expense recurs, using a string.
+         *
+         * @param recurrence the recurrence, as understood by {@link Recurrence#parse(String)}.
+         * @return this builder.
+         * @throws DukeException if the string is not a valid recurrence.
+         */
+        public Builder setRecurrence(String recurrence) throws DukeException {
+            return setRecurrence(Recurrence.parse(recurrence));
+        }
+
+        /**
+         * Sets how the expense recurs.
+         *
+         * @param recurrence the recurrence, or null if the expense does not recur.
+         * @return this builder.
+         */
+        public Builder setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
             return this;
         }
 
@@ -212,12 +260,31 @@ public class Expense extends DukeItem {
     private Expense(Builder builder) {
         super(builder);
         amount = builder.amount;
-        description = builder.description;
+        amountInCents = Money.of(amount).getCents();
+        description = StringPool.intern(builder.description);
         isTentative = builder.isTentative;
-        isRecurring = builder.isRecurring;
+        recurrence = builder.recurrence;
+        occurrenceOf = null;
         time = builder.time;
     }
 
+    /**
+     * Constructs the occurrence of a recurring expense on {@code day}, at the time of day of the recurring expense.
+     *
+     * @param recurringExpense the recurring expense.
+     * @param day the day of the occurrence.
+     */
+    private Expense(Expense recurringExpense, LocalDate day) {
+        super(recurringExpense);
+        amount = recurringExpense.amount;
+        amountInCents = recurringExpense.amountInCents;
+        description = recurringExpense.description;
+        isTentative = recurringExpense.isTentative;
+        recurrence = null;
+        occurrenceOf = recurringExpense;
+        time = day.atTime(recurringExpense.time.toLocalTime());
+    }
+
     /**
      * Returns the amount of the expense.
      *
@@ -227,6 +294,15 @@ public class Expense extends DukeItem {
         return amount;
     }
 
+    /**
+     * Returns the amount of the expense in cents.
+     *
+     * @return {@link #amountInCents}.
+     */
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
     /**
      * Returns the description of the expense.
      *
@@ -259,12 +335,47 @@ public class Expense extends DukeItem {
     }
 
     /**
-     * Returns whether the expense is recurring.
+     * Returns whether the expense is recurring, or an occurrence of a recurring expense.
      *
-     * @return {@link #isTentative}.
+     * @return true if the expense is recurring.
      */
     public boolean isRecurring() {
-        return isRecurring;
+        return recurrence != null || occurrenceOf != null;
+    }
+
+    /**
+     * Returns how the expense, or the recurring expense it is an occurrence of, recurs.
+     *
+     * @return the recurrence, or null if the expense does not recur.
+     */
+    public Recurrence getRecurrence() {
+        return occurrenceOf == null ? recurrence : occurrenceOf.recurrence;
+    }
+
+    /**
+     * Returns the recurring expense this is an occurrence of. Occurrences are only shown, never stored;
+     * changing one changes the recurring expense.
+     *
+     * @return the recurring expense, or null if this is not an occurrence.
+     */
+    public Expense getOccurrenceOf() {
+        return occurrenceOf;
+    }
+
+    /**
+     * Returns the occurrences of this recurring expense from {@code firstDay} to {@code lastDay} (inclusive).
+     *
+     * @param firstDay the first day, or null for no first day.
+     * @param lastDay the last day, or null for the end date of the recurrence, which must have one then.
+     * @return the occurrences, earliest first.
+     */
+    List<Expense> getOccurrences(LocalDate firstDay, LocalDate lastDay) {
+        assert recurrence != null;
+        List<Expense> occurrences = new ArrayList<>();
+        for (LocalDate day : recurrence.getOccurrences(time.toLocalDate(), firstDay, lastDay)) {
+            occurrences.add(new Expense(this, day));
+        }
+        return occurrences;
     }
 
 
@@ -274,8 +385,8 @@ public class Expense extends DukeItem {
      * @return String of time that is formatted
      */
     public String getTimeString() {
-        if (isRecurring) {
-            return "recurring";
+        if (recurrence != null) {
+            return "recurring " + recurrence;
         }
         return Parser.formatTime(time);
     }
@@ -294,7 +405,10 @@ public class Expense extends DukeItem {
         stringJoiner.add("description" + STORAGE_NAME_SEPARATOR + description);
         stringJoiner.add("time" + STORAGE_NAME_SEPARATOR + Parser.formatTime(time));
         stringJoiner.add("isTentative" + STORAGE_NAME_SEPARATOR + isTentative);
-        stringJoiner.add("isRecurring" + STORAGE_NAME_SEPARATOR + isRecurring);
+        stringJoiner.add("isRecurring" + STORAGE_NAME_SEPARATOR + (recurrence != null));
+        if (recurrence != null) {
+            stringJoiner.add("recurrence" + STORAGE_NAME_SEPARATOR + recurrence);
+        }
         return stringJoiner.toString();
     }
 }
@@ -0,0 +1,279 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import duke.exception.DukeRuntimeException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Expenses kept as columns of primitives rather than as {@code Expense} objects: amounts in cents, times in
+ * epoch seconds, tags and descriptions as ids into string pools, and bit sets for the tentative and
+ * recurring flags. A few hundred thousand expenses then take a handful of arrays instead of millions of
+ * small objects.
+ *
+ * <p>As a {@code List}, each row is an {@code Expense}. The expenses added one at a time, the recurring ones,
+ * and those {@link #keep(int, Expense) kept} because they are shown, are the same objects every time they
+ * are read, so they can be found and removed by identity. The other rows are built afresh each time they are read.
+ * Rows can only be appended, or removed.
+ */
+class ExpenseColumns extends AbstractList<Expense> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int AMOUNT_SCALE = 2;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final StringPool tags = new StringPool();
+    private final StringPool descriptions = new StringPool();
+
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private long[] epochSeconds = new long[INITIAL_CAPACITY];
+    private int[] nanos = new int[INITIAL_CAPACITY];
+    private int[] tagIds = new int[INITIAL_CAPACITY];
+    private int[] descriptionIds = new int[INITIAL_CAPACITY];
+    private final BitSet tentative = new BitSet();
+    private final BitSet recurring = new BitSet();
+    /**
+     * The {@code Expense} of each row that is read as the same object every time, or null.
+     */
+    private Expense[] views = new Expense[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the expense in {@code row}, building it if it is not kept.
+     */
+    @Override
+    public Expense get(int row) {
+        checkRow(row);
+        return views[row] == null ? materialize(row) : views[row];
+    }
+
+    /**
+     * Makes {@code expense}, which must have been read from {@code row}, the object read from it from now on.
+     */
+    void keep(int row, Expense expense) {
+        checkRow(row);
+        if (views[row] == null) {
+            views[row] = expense;
+        }
+    }
+
+    /**
+     * Appends {@code expense}, which is read back as the same object.
+     */
+    @Override
+    public void add(int row, Expense expense) {
+        if (row != size) {
+            throw new UnsupportedOperationException("Expenses can only be appended");
+        }
+        append(expense);
+        views[row] = expense;
+        modCount++;
+    }
+
+    /**
+     * Appends {@code expenses} as columns only, so that the objects can be let go.
+     *
+     * @param expenses the expenses to append.
+     */
+    void addAllCompactly(Collection<Expense> expenses) {
+        for (Expense expense : expenses) {
+            append(expense);
+        }
+        modCount++;
+    }
+
+    @Override
+    public Expense remove(int row) {
+        final Expense expense = get(row);
+        int moved = size - row - 1;
+        System.arraycopy(cents, row + 1, cents, row, moved);
+        System.arraycopy(epochSeconds, row + 1, epochSeconds, row, moved);
+        System.arraycopy(nanos, row + 1, nanos, row, moved);
+        System.arraycopy(tagIds, row + 1, tagIds, row, moved);
+        System.arraycopy(descriptionIds, row + 1, descriptionIds, row, moved);
+        System.arraycopy(views, row + 1, views, row, moved);
+        for (int i = row; i < size - 1; i++) {
+            tentative.set(i, tentative.get(i + 1));
+            recurring.set(i, recurring.get(i + 1));
+        }
+        size--;
+        tentative.clear(size);
+        recurring.clear(size);
+        views[size] = null;
+        modCount++;
+        return expense;
+    }
+
+    /**
+     * Removes {@code object} itself, which must be an expense read as the same object every time.
+     */
+    @Override
+    public boolean remove(Object object) {
+        int row = lastIndexOf(object);
+        if (row == -1) {
+            return false;
+        }
+        remove(row);
+        return true;
+    }
+
+    /**
+     * Finds {@code object} itself among the expenses read as the same object every time,
+     * without building the others.
+     */
+    @Override
+    public int indexOf(Object object) {
+        for (int row = 0; row < size; row++) {
+            if (views[row] == object) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object object) {
+        for (int row = size - 1; row >= 0; row--) {
+            if (views[row] == object) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) != -1;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(views, 0, size, null);
+        tentative.clear();
+        recurring.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the total amount of the confirmed expenses, in cents.
+     */
+    long sumConfirmedCents() {
+        long totalInCents = 0;
+        for (int row = tentative.nextClearBit(0); row < size; row = tentative.nextClearBit(row + 1)) {
+            totalInCents += cents[row];
+        }
+        return totalInCents;
+    }
+
+    /**
+     * Returns the rows of the non-recurring expenses spent from {@code firstDay} to {@code lastDay} (inclusive)
+     * which have the tag {@code tag} if it is given.
+     *
+     * @param firstDay the first day, or null for no first day.
+     * @param lastDay the last day, or null for no last day.
+     * @param tag the tag in lower case, or null for any tag.
+     * @return the rows, from first to last.
+     */
+    int[] findRows(LocalDate firstDay, LocalDate lastDay, String tag) {
+        long from = firstDay == null ? Long.MIN_VALUE : firstDay.toEpochDay() * SECONDS_PER_DAY;
+        long to = lastDay == null ? Long.MAX_VALUE : (lastDay.toEpochDay() + 1) * SECONDS_PER_DAY - 1;
+        boolean[] isTagMatched = null;
+        if (tag != null) {
+            int tagId = TagDictionary.findIdIgnoringCaseOf(tag);
+            isTagMatched = new boolean[tags.size()];
+            for (int id = 0; id < isTagMatched.length; id++) {
+                isTagMatched[id] = TagDictionary.idIgnoringCaseOf(tags.get(id)) == tagId;
+            }
+        }
+
+        int[] rows = new int[size];
+        int found = 0;
+        for (int row = 0; row < size; row++) {
+            boolean isInRange = !recurring.get(row) && epochSeconds[row] >= from && epochSeconds[row] <= to;
+            if (isInRange && (isTagMatched == null || isTagMatched[tagIds[row]])) {
+                rows[found++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, found);
+    }
+
+    /**
+     * Returns the rows of the expenses whose descriptions match {@code query}. Each distinct description
+     * is matched once.
+     *
+     * @param query the search.
+     * @return the rows, from first to last.
+     */
+    int[] searchRows(DescriptionQuery query) {
+        boolean[] isMatched = new boolean[descriptions.size()];
+        for (int id = 0; id < isMatched.length; id++) {
+            isMatched[id] = query.matches(descriptions.get(id));
+        }
+
+        int[] rows = new int[size];
+        int found = 0;
+        for (int row = 0; row < size; row++) {
+            if (isMatched[descriptionIds[row]]) {
+                rows[found++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, found);
+    }
+
+    private void append(Expense expense) {
+        if (size == cents.length) {
+            int capacity = size * 2;
+            cents = Arrays.copyOf(cents, capacity);
+            epochSeconds = Arrays.copyOf(epochSeconds, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+            tagIds = Arrays.copyOf(tagIds, capacity);
+            descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+            views = Arrays.copyOf(views, capacity);
+        }
+        cents[size] = expense.getAmountInCents();
+        epochSeconds[size] = expense.getTime().toEpochSecond(ZoneOffset.UTC);
+        nanos[size] = expense.getTime().getNano();
+        tagIds[size] = tags.idOf(expense.getTag());
+        descriptionIds[size] = descriptions.idOf(expense.getDescription());
+        tentative.set(size, expense.isTentative());
+        recurring.set(size, expense.isRecurring());
+        // Recurring expenses are few, and their recurrences are not kept in columns.
+        views[size] = expense.isRecurring() ? expense : null;
+        size++;
+    }
+
+    private Expense materialize(int row) {
+        try {
+            return new Expense.Builder()
+                    .setAmount(BigDecimal.valueOf(cents[row], AMOUNT_SCALE))
+                    .setTime(LocalDateTime.ofEpochSecond(epochSeconds[row], nanos[row], ZoneOffset.UTC))
+                    .setTag(tags.get(tagIds[row]))
+                    .setDescription(descriptions.get(descriptionIds[row]))
+                    .setTentative(tentative.get(row))
+                    .setRecurring(recurring.get(row))
+                    .build();
+        } catch (DukeException e) {
+            throw new DukeRuntimeException("Could not rebuild an expense from its columns.", e);
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package duke.model;
+
+import duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A filter on expenses, compiled once from a query such as
+ * {@code tag:FOOD amount>5 desc~rice before:01/12/2019 tentative:false}.
+ *
+ * <p>A query is made of terms separated by spaces, all of which an expense must match.
+ * Groups of terms can be separated by {@code or}, in which case an expense must match all terms of one group.
+ * A term starting with {@code !} matches the expenses the rest of the term does not match.
+ * Values with spaces can be put in double quotes, e.g. {@code desc~"chicken rice"}.
+ *
+ * <ul>
+ *     <li>{@code tag:FOOD} or {@code tag=FOOD}: the tag is FOOD, ignoring case.</li>
+ *     <li>{@code amount>5}, {@code amount>=5}, {@code amount<5}, {@code amount<=5}, {@code amount=5}:
+ *     compares the amount.</li>
+ *     <li>{@code desc~rice}: the description contains rice, ignoring case.
+ *     {@code desc:rice} or {@code desc=rice}: the description is rice, ignoring case.</li>
+ *     <li>{@code before:01/12/2019}, {@code after:01/12/2019}, {@code on:01/12/2019}:
+ *     the expense was spent before, after or on that day.</li>
+ *     <li>{@code tentative:true}, {@code recurring:false}: whether the expense is tentative or recurring.</li>
+ *     <li>A term without a field, e.g. {@code rice}, is the same as {@code desc~rice}.</li>
+ * </ul>
+ *
+ * <p>Besides matching expenses, a filter tells which tag and days all of its expenses have, if it can,
+ * so that {@code ExpenseList} can look them up in its indexes instead of testing every expense.
+ */
+public class ExpenseFilter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String OR = "or";
+    private static final String NOT = "!";
+    private static final String[] OPERATORS = {">=", "<=", ">", "<", "=", ":", "~"};
+
+    /**
+     * The filter matching every expense.
+     */
+    public static final ExpenseFilter ALL = new ExpenseFilter(new ArrayList<>());
+
+    /**
+     * A term of a query, with what it tells about the expenses it matches.
+     */
+    private static class Term {
+        private final Predicate<Expense> predicate;
+        private String tag;
+        private LocalDate firstDay;
+        private LocalDate lastDay;
+
+        private Term(Predicate<Expense> predicate) {
+            this.predicate = predicate;
+        }
+    }
+
+    /**
+     * The groups of terms, of which an expense must match all the terms of at least one.
+     */
+    private final List<List<Term>> groups;
+    private final String tag;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    private ExpenseFilter(List<List<Term>> groups) {
+        this.groups = groups;
+
+        String tag = null;
+        LocalDate firstDay = null;
+        LocalDate lastDay = null;
+        if (groups.size() == 1) {
+            for (Term term : groups.get(0)) {
+                if (term.tag != null) {
+                    tag = term.tag;
+                }
+                firstDay = later(firstDay, term.firstDay);
+                lastDay = earlier(lastDay, term.lastDay);
+            }
+        }
+        this.tag = tag;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    /**
+     * Compiles a query into a filter. An empty query gives a filter that matches every expense.
+     *
+     * @param query the query.
+     * @return the filter.
+     * @throws DukeException if the query has a term that is not understood.
+     */
+    public static ExpenseFilter parse(String query) throws DukeException {
+        List<List<Term>> groups = new ArrayList<>();
+        List<Term> group = new ArrayList<>();
+        for (String token : tokenize(query)) {
+            if (token.equalsIgnoreCase(OR)) {
+                if (group.isEmpty()) {
+                    throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+                }
+                groups.add(group);
+                group = new ArrayList<>();
+                continue;
+            }
+            group.add(parseTerm(token));
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        } else if (!groups.isEmpty()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, OR));
+        }
+        return groups.isEmpty() ? ALL : new ExpenseFilter(groups);
+    }
+
+    /**
+     * Returns whether {@code expense} passes this filter.
+     */
+    public boolean test(Expense expense) {
+        if (groups.isEmpty()) {
+            return true;
+        }
+        for (List<Term> group : groups) {
+            if (matchesAll(group, expense)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isAll() {
+        return groups.isEmpty();
+    }
+
+    /**
+     * Returns the tag, in lower case, that every expense passing this filter has, or null if there is none.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the earliest day an expense passing this filter can be spent on, or null if there is none.
+     */
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Returns the latest day an expense passing this filter can be spent on, or null if there is none.
+     */
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    private static boolean matchesAll(List<Term> group, Expense expense) {
+        for (Term term : group) {
+            if (!term.predicate.test(expense)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a query at spaces that are not in double quotes, dropping the quotes.
+     */
+    private static List<String> tokenize(String query) throws DukeException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean isQuoted = false;
+        for (char c : query.trim().toCharArray()) {
+            if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (Character.isWhitespace(c) && !isQuoted) {
+                if (token.length() > 0) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, query));
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static Term parseTerm(String token) throws DukeException {
+        if (token.startsWith(NOT) && token.length() > NOT.length()) {
+            Term negated = parseTerm(token.substring(NOT.length()));
+            return new Term(negated.predicate.negate());
+        }
+
+        int operatorIndex = -1;
+        String operator = null;
+        for (String candidate : OPERATORS) {
+            int index = token.indexOf(candidate);
+            if (index > 0 && (operatorIndex == -1 || index < operatorIndex)) {
+                operatorIndex = index;
+                operator = candidate;
+            }
+        }
+        if (operator == null) {
+            String word = token.toLowerCase();
+            return new Term(expense -> expense.getDescription().toLowerCase().contains(word));
+        }
+
+        String field = token.substring(0, operatorIndex).toLowerCase();
+        String value = token.substring(operatorIndex + operator.length());
+        if (value.isEmpty()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+        switch (field) {
+        case "tag":
+            return parseTagTerm(token, operator, value);
+
+        case "amount":
+            return parseAmountTerm(token, operator, value);
+
+        case "desc":
+        case "description":
+            return parseDescriptionTerm(token, operator, value);
+
+        case "before":
+        case "after":
+        case "on":
+            return parseDayTerm(token, field, operator, value);
+
+        case "tentative":
+            final boolean isTentative = parseFlag(token, operator, value);
+            return new Term(expense -> expense.isTentative() == isTentative);
+
+        case "recurring":
+            final boolean isRecurring = parseFlag(token, operator, value);
+            return new Term(expense -> expense.isRecurring() == isRecurring);
+
+        default:
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+    }
+
+    private static Term parseTagTerm(String token, String operator, String value) throws DukeException {
+        if (!operator.equals(":") && !operator.equals("=")) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+        String tag = value.toLowerCase();
+        int tagId = TagDictionary.findIdIgnoringCaseOf(tag);
+        // A tag no expense has yet is not added to the dictionary, so expenses given it later are matched by name.
+        Term term = tagId == TagDictionary.NO_TAG
+                ? new Term(expense -> expense.getTag().toLowerCase().equals(tag))
+                : new Term(expense -> expense.getTagIdIgnoringCase() == tagId);
+        term.tag = tag;
+        return term;
+    }
+
+    private static Term parseAmountTerm(String token, String operator, String value) throws DukeException {
+        final long cents;
+        try {
+            cents = Money.parse(value).getCents();
+        } catch (NumberFormatException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+        switch (operator) {
+        case ">":
+            return new Term(expense -> expense.getAmountInCents() > cents);
+
+        case ">=":
+            return new Term(expense -> expense.getAmountInCents() >= cents);
+
+        case "<":
+            return new Term(expense -> expense.getAmountInCents() < cents);
+
+        case "<=":
+            return new Term(expense -> expense.getAmountInCents() <= cents);
+
+        case "=":
+        case ":":
+            return new Term(expense -> expense.getAmountInCents() == cents);
+
+        default:
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+    }
+
+    private static Term parseDescriptionTerm(String token, String operator, String value) throws DukeException {
+        String text = value.toLowerCase();
+        switch (operator) {
+        case "~":
+            return new Term(expense -> expense.getDescription().toLowerCase().contains(text));
+
+        case "=":
+        case ":":
+            return new Term(expense -> expense.getDescription().equalsIgnoreCase(text));
+
+        default:
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+    }
+
+    private static Term parseDayTerm(String token, String field, String operator, String value)
+            throws DukeException {
+        if (!operator.equals(":") && !operator.equals("=")) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+        final LocalDate day;
+        try {
+            day = LocalDate.parse(value, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+        }
+
+        Term term;
+        switch (field) {
+        case "before":
+            term = new Term(expense -> expense.getTime().toLocalDate().isBefore(day));
+            term.lastDay = day.minusDays(1);
+            break;
+
+        case "after":
+            term = new Term(expense -> expense.getTime().toLocalDate().isAfter(day));
+            term.firstDay = day.plusDays(1);
+            break;
+
+        default: // case "on":
+            term = new Term(expense -> expense.getTime().toLocalDate().isEqual(day));
+            term.firstDay = day;
+            term.lastDay = day;
+            break;
+        }
+        return term;
+    }
+
+    private static boolean parseFlag(String token, String operator, String value) throws DukeException {
+        if ((operator.equals(":") || operator.equals("=")) && (value.equalsIgnoreCase("true")
+                || value.equalsIgnoreCase("false"))) {
+            return Boolean.parseBoolean(value);
+        }
+        throw new DukeException(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, token));
+    }
+
+    /**
+     * Returns the later of two days, either of which may be null for no day.
+     */
+    static LocalDate later(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    /**
+     * Returns the earlier of two days, either of which may be null for no day.
+     */
+    static LocalDate earlier(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isBefore(second) ? first : second;
+    }
+}
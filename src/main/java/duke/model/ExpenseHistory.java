@@ -0,0 +1,42 @@
+package duke.model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * The expenses of an {@code ExpenseList} that are kept in storage until they are needed,
+ * e.g. expenses of past months that are not in the current view scope.
+ * Each expense is returned by at most one of the load methods.
+ */
+public interface ExpenseHistory {
+
+    /**
+     * Returns the expenses from {@code first} to {@code last} (inclusive) that have not been loaded yet.
+     *
+     * @param first the first month to load.
+     * @param last the last month to load.
+     * @return the expenses of those months that have not been loaded yet.
+     */
+    List<Expense> loadMonths(YearMonth first, YearMonth last);
+
+    /**
+     * Returns all expenses that have not been loaded yet.
+     *
+     * @return all expenses that have not been loaded yet.
+     */
+    List<Expense> loadAll();
+
+    /**
+     * Returns the number of expenses that have not been loaded yet.
+     *
+     * @return the number of expenses that have not been loaded yet.
+     */
+    int getUnloadedCount();
+
+    /**
+     * Returns the total amount of the expenses that have not been loaded yet, leaving out tentative ones.
+     *
+     * @return the total amount of the confirmed expenses that have not been loaded yet.
+     */
+    Money getUnloadedTotal();
+}
@@ -8,9 +8,17 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -20,7 +28,7 @@ public class ExpenseList extends DukeList<Expense> {
     private static final Logger logger = LogsCenter.getLogger(ExpenseList.class);
 
     private enum SortCriteria {
-        AMOUNT(Comparator.comparing(Expense::getAmount).reversed()),
+        AMOUNT(Comparator.comparingLong(Expense::getAmountInCents).reversed()),
         TIME(Comparator.comparing(Expense::getTime).reversed()),
         DESCRIPTION(Comparator.comparing(Expense::getDescription));
 
@@ -60,82 +68,68 @@ public class ExpenseList extends DukeList<Expense> {
             this.viewScopeName = viewScopeName;
         }
 
+        /**
+         * Returns the first day this view scope shows. Only meaningful if it is not ALL.
+         */
+        private LocalDate getFirstDay() {
+            LocalDate today = LocalDate.now();
+            switch (viewScopeName) {
+            case DAY:
+                return today.minusDays(viewScopeNumber);
 
-        private List<Expense> dayView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusDays(viewScopeNumber);
-                        return dateOfExpense.equals(current) && !isRecurring;
-                    })
-                    .collect(Collectors.toList());
-        }
-
-        private List<Expense> weekView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        int dayOfWeek = e.getTime().getDayOfWeek().getValue();
-                        LocalDate start = e.getTime().minusDays(dayOfWeek - 1).toLocalDate();
-                        // Sunday of week of expense.
-                        LocalDate end = e.getTime().plusDays(7 - dayOfWeek).toLocalDate();
-                        // Monday of week of expense.
-                        LocalDate current = LocalDate.now().minusWeeks(viewScopeNumber);
-
-                        return (current.equals(end) || current.equals(start)
-                                || (current.isAfter(start) && current.isBefore(end)) && !isRecurring);
-                    })
-                    .collect(Collectors.toList());
-        }
+            case WEEK:
+                return today.minusWeeks(viewScopeNumber).with(DayOfWeek.MONDAY);
 
-        private List<Expense> monthView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusMonths(viewScopeNumber);
-                        boolean isSameYear = dateOfExpense.getYear() == current.getYear();
-                        boolean isSameMonth = dateOfExpense.getMonth().equals(current.getMonth());
-                        return (isSameYear && isSameMonth || isRecurring);
-                    })
-                    .collect(Collectors.toList());
-        }
+            case MONTH:
+                return YearMonth.from(today).minusMonths(viewScopeNumber).atDay(1);
 
-        private List<Expense> yearView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusYears(viewScopeNumber);
-                        return dateOfExpense.getYear() == current.getYear() || isRecurring;
-                    })
-                    .collect(Collectors.toList());
+            default: // case YEAR:
+                return Year.from(today).minusYears(viewScopeNumber).atDay(1);
+            }
         }
 
         /**
-         * Returns a filtered list based on the view scope.
-         *
-         * @param currentList List of Expenses we want to filter down
-         * @return the filtered List of Expense
+         * Returns the last day this view scope shows. Only meaningful if it is not ALL.
          */
-        public List<Expense> view(List<Expense> currentList) {
+        private LocalDate getLastDay(LocalDate firstDay) {
             switch (viewScopeName) {
             case DAY:
-                return dayView(currentList);
+                return firstDay;
 
             case WEEK:
-                return weekView(currentList);
+                return firstDay.with(DayOfWeek.SUNDAY);
 
             case MONTH:
-                return monthView(currentList);
+                return YearMonth.from(firstDay).atEndOfMonth();
 
-            case YEAR:
-                return yearView(currentList);
+            default: // case YEAR:
+                return Year.from(firstDay).atMonth(12).atEndOfMonth();
+            }
+        }
 
-            default: // case ALL:
-                return currentList; // the viewScope here is ALL.
+        /**
+         * Returns a filtered list based on the view scope.
+         * Recurring expenses have no single day, so only the view scope of all expenses keeps them;
+         * the others show their occurrences instead.
+         *
+         * @param currentList List of Expenses we want to filter down
+         * @return the filtered List of Expense
+         */
+        public List<Expense> view(List<Expense> currentList) {
+            if (viewScopeName == ViewScopeName.ALL) {
+                return currentList;
             }
+            LocalDate firstDay = getFirstDay();
+            LocalDate lastDay = getLastDay(firstDay);
+            return currentList.stream()
+                    .filter(e -> {
+                        if (e.isRecurring()) {
+                            return false;
+                        }
+                        LocalDate dateOfExpense = e.getTime().toLocalDate();
+                        return !dateOfExpense.isBefore(firstDay) && !dateOfExpense.isAfter(lastDay);
+                    })
+                    .collect(Collectors.toList());
         }
 
         public ViewScopeName getViewScopeName() {
@@ -146,8 +140,47 @@ public class ExpenseList extends DukeList<Expense> {
     private SortCriteria sortCriteria;
     private ViewScope viewScope;
     private String filterCriteria;
+    private ExpenseFilter filter;
+    /**
+     * The search shown instead of the view scope, or null if there is none.
+     */
+    private DescriptionQuery searchQuery;
+
+    /**
+     * The expenses not in {@code internalList} yet. Is null if all expenses are in {@code internalList}.
+     */
+    private ExpenseHistory history;
+    /**
+     * The expenses of {@code internalList} by day, kept up to date with it.
+     */
+    private final ExpenseTimeIndex timeIndex = new ExpenseTimeIndex();
+    /**
+     * The expenses of {@code internalList} by tag, kept up to date with it.
+     */
+    private final ExpenseTagIndex tagIndex = new ExpenseTagIndex();
+    /**
+     * The expenses of {@code internalList} by the words in their descriptions, kept up to date with it.
+     */
+    private final DescriptionIndex<Expense> descriptionIndex = new DescriptionIndex<>(Expense::getDescription);
+    /**
+     * {@code internalList} itself once {@link #useColumnarStore()} is called, or null before.
+     * The indexes above are not kept then, as the columns are scanned instead.
+     */
+    private ExpenseColumns columns;
+    /**
+     * The recurring expenses of {@code internalList}, and their occurrences in the windows shown.
+     */
+    private final ExpenseOccurrences occurrences = new ExpenseOccurrences();
 
     private ObservableList<Expense> externalFinalList;
+    /**
+     * The total amount of the confirmed expenses in {@code externalList}, kept up to date as expenses come and go.
+     */
+    private long externalTotalInCents = 0;
+    /**
+     * The totals of the expenses in {@code externalList} by tag, kept up to date with it.
+     */
+    private final ExpenseTagTotals externalTagTotals = new ExpenseTagTotals();
     private StringProperty totalString;
     private StringProperty filterString;
     private StringProperty sortString;
@@ -156,12 +189,17 @@ public class ExpenseList extends DukeList<Expense> {
 
     /**
      * Constructor for ExpenseList.
+     * Shows the expenses of the current month at first.
+     *
      * @param internalList the List&lt;Expense> object we want to populate the list with
      */
     public ExpenseList(List<Expense> internalList) {
         super(internalList, "expense");
+        index(internalList);
+        occurrences.addAll(internalList);
         filterCriteria = "";
-        viewScope = new ViewScope(ViewScopeName.ALL);
+        filter = ExpenseFilter.ALL;
+        viewScope = new ViewScope(ViewScopeName.MONTH);
         sortCriteria = SortCriteria.TIME;
         externalList = FXCollections.observableArrayList();
         externalFinalList = FXCollections.unmodifiableObservableList(externalList);
@@ -172,11 +210,116 @@ public class ExpenseList extends DukeList<Expense> {
         updateExternalList();
     }
 
+    /**
+     * Rebuilds {@code externalList} from scratch. Only needed when the sort, filter, view criteria or search
+     * change; single expenses are added to and removed from it in place.
+     */
     private void updateExternalList() {
-        List<Expense> filteredSortedViewedList = filter(sort(view(internalList)));
-        ObservableList<Expense> internalFinalList = FXCollections.observableArrayList(filteredSortedViewedList);
-        externalList.setAll(internalFinalList);
-        totalString.setValue("Total: $" + getTotalExternalAmount());
+        List<Expense> candidates = searchQuery == null ? findCandidates() : findSearchResults();
+        List<Expense> filteredSortedViewedList = sort(filter(candidates));
+        externalList.setAll(filteredSortedViewedList);
+        externalTagTotals.clear();
+        filteredSortedViewedList.forEach(externalTagTotals::add);
+        externalTotalInCents = sumConfirmed(filteredSortedViewedList);
+        updateLabels();
+    }
+
+    /**
+     * Keeps the expenses from now on as columns of primitives rather than as objects, so that large histories
+     * take much less memory. Only the expenses shown now, and those added or shown later, stay the same objects;
+     * should be called before any change is recorded for undo.
+     */
+    public void useColumnarStore() {
+        if (columns != null) {
+            return;
+        }
+        Set<Expense> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        shown.addAll(externalList);
+        final ExpenseColumns newColumns = new ExpenseColumns();
+        newColumns.addAllCompactly(internalList);
+        for (int row = 0; row < internalList.size(); row++) {
+            if (shown.contains(internalList.get(row))) {
+                newColumns.keep(row, internalList.get(row));
+            }
+        }
+        internalList = newColumns;
+        columns = newColumns;
+        timeIndex.clear();
+        tagIndex.clear();
+        descriptionIndex.clear();
+        logger.info("Keeping " + columns.size() + " expenses as columns");
+    }
+
+    /**
+     * Returns the expenses in the view scope that could pass the filter.
+     * Only the expenses with the filter's tag, or on the days both the view scope and the filter allow,
+     * are loaded and looked at. Recurring expenses are replaced by their occurrences on those days.
+     */
+    private List<Expense> findCandidates() {
+        LocalDate firstDay = filter.getFirstDay();
+        LocalDate lastDay = filter.getLastDay();
+        if (viewScope.getViewScopeName() != ViewScopeName.ALL) {
+            LocalDate scopeFirstDay = viewScope.getFirstDay();
+            firstDay = ExpenseFilter.later(firstDay, scopeFirstDay);
+            lastDay = ExpenseFilter.earlier(lastDay, viewScope.getLastDay(scopeFirstDay));
+        }
+        boolean isBounded = firstDay != null && lastDay != null;
+
+        if (history != null) {
+            if (!isBounded) {
+                loadHistory(history.loadAll());
+            } else if (!firstDay.isAfter(lastDay)) {
+                loadHistory(history.loadMonths(YearMonth.from(firstDay), YearMonth.from(lastDay)));
+            }
+        }
+
+        List<Expense> candidates;
+        if (columns != null) {
+            candidates = showRows(columns.findRows(firstDay, lastDay, filter.getTag()));
+        } else if (filter.getTag() != null) {
+            candidates = view(tagIndex.get(filter.getTag()));
+            candidates.removeIf(Expense::isRecurring);
+        } else if (firstDay == null && lastDay == null) {
+            candidates = new ArrayList<>(internalList);
+            candidates.removeIf(Expense::isRecurring);
+        } else {
+            candidates = timeIndex.getBetween(firstDay == null ? LocalDate.MIN : firstDay,
+                    lastDay == null ? LocalDate.MAX : lastDay);
+        }
+        candidates.addAll(occurrences.get(firstDay, lastDay));
+        return candidates;
+    }
+
+    /**
+     * Returns the expenses matching the search, whatever the view scope, loading all expenses first.
+     */
+    private List<Expense> findSearchResults() {
+        if (history != null) {
+            loadHistory(history.loadAll());
+        }
+        if (columns != null) {
+            return showRows(columns.searchRows(searchQuery));
+        }
+        return descriptionIndex.search(searchQuery);
+    }
+
+    /**
+     * Returns the expenses in {@code rows} of {@code columns} that pass the filter, keeping them as they are shown.
+     */
+    private List<Expense> showRows(int[] rows) {
+        List<Expense> expenses = new ArrayList<>();
+        for (int row : rows) {
+            Expense expense = columns.get(row);
+            if (filter.test(expense)) {
+                columns.keep(row, expense);
+                expenses.add(expense);
+            }
+        }
+        return expenses;
+    }
+
+    private void updateLabels() {
+        totalString.setValue("Total: $" + Money.ofCents(externalTotalInCents));
         filterString.setValue("Filter: " + filterCriteria);
         switch (sortCriteria) {
         case AMOUNT:
@@ -189,26 +332,273 @@ public class ExpenseList extends DukeList<Expense> {
             sortString.setValue("Sort by: Newest");
             break;
         }
-        viewString.set("Viewscope: " + viewScope.getViewScopeName());
+        if (searchQuery == null) {
+            viewString.set("Viewscope: " + viewScope.getViewScopeName());
+        } else {
+            viewString.set("Search: " + searchQuery);
+        }
+    }
+
+    /**
+     * Returns whether {@code expense} passes the view scope and filter, i.e. belongs in {@code externalList}.
+     */
+    private boolean isShown(Expense expense) {
+        if (searchQuery != null) {
+            return searchQuery.matches(expense.getDescription()) && filter.test(expense);
+        }
+        return !filter(view(new ArrayList<>(List.of(expense)))).isEmpty();
     }
 
+    /**
+     * Inserts {@code expense} into {@code externalList} where a full sort would put it, i.e. after the expenses
+     * it ties with, as it was added to {@code internalList} after them.
+     */
+    private void insertIntoExternalList(Expense expense) {
+        int low = 0;
+        int high = externalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortCriteria.comparator.compare(externalList.get(middle), expense) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        externalList.add(low, expense);
+        externalTagTotals.add(expense);
+        if (!expense.isTentative()) {
+            externalTotalInCents += expense.getAmountInCents();
+        }
+    }
+
+    /**
+     * Sets where the expenses not in this list yet are loaded from, and loads those the view scope needs.
+     *
+     * @param history the expenses not in this list yet.
+     */
+    public void setHistory(ExpenseHistory history) {
+        this.history = history;
+        updateExternalList();
+    }
+
+    public ExpenseHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Adds expenses loaded from {@code history}. They are not recorded as changes, as they are already stored.
+     *
+     * @return the expenses loaded.
+     */
+    private List<Expense> loadHistory(List<Expense> expenses) {
+        if (!expenses.isEmpty()) {
+            if (columns != null) {
+                columns.addAllCompactly(expenses);
+            } else {
+                internalList.addAll(expenses);
+                index(expenses);
+            }
+            occurrences.addAll(expenses);
+            logger.info("Loaded " + expenses.size() + " more expenses");
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns whether there are no expenses at all, including those not loaded yet.
+     *
+     * @return true if there are no expenses.
+     */
+    public boolean isEmpty() {
+        return internalList.isEmpty() && (history == null || history.getUnloadedCount() == 0);
+    }
+
+    /**
+     * Adds an expense. The other expenses of its month are loaded first, so that every month
+     * in this list is complete.
+     *
+     * @param expense the expense to add.
+     */
     @Override
     public void add(Expense expense) {
+        if (history != null && !expense.isRecurring()) {
+            YearMonth month = YearMonth.from(expense.getTime());
+            List<Expense> loaded = loadHistory(history.loadMonths(month, month));
+            if (columns != null && !loaded.isEmpty()) {
+                // The loaded objects were let go, so the shown ones are looked up again.
+                updateExternalList();
+            } else {
+                for (Expense loadedExpense : loaded) {
+                    if (isShown(loadedExpense)) {
+                        insertIntoExternalList(loadedExpense);
+                    }
+                }
+            }
+        }
         super.add(expense);
-        updateExternalList();
-        logger.info("externalList lengths " + externalList.size());
+        index(List.of(expense));
+        if (expense.isRecurring()) {
+            // Its occurrences are worked out with those of the other recurring expenses.
+            occurrences.add(expense);
+            updateExternalList();
+            return;
+        }
+        if (isShown(expense)) {
+            insertIntoExternalList(expense);
+        }
+        updateLabels();
+    }
+
+    /**
+     * Returns the expense at {@code index} in {@code externalList}. An occurrence of a recurring expense
+     * stands for the recurring expense, so that deleting or confirming it changes all of its occurrences.
+     *
+     * @param index the index of the expense in {@code externalList}.
+     * @return the expense, or the recurring expense of an occurrence.
+     * @throws DukeException if the index is out of bounds.
+     */
+    @Override
+    public Expense get(int index) throws DukeException {
+        Expense expense = super.get(index);
+        return expense.getOccurrenceOf() == null ? expense : expense.getOccurrenceOf();
     }
 
     @Override
     public void remove(int index) throws DukeException {
+        Expense expense = get(index);
         super.remove(index);
-        updateExternalList();
+        forget(expense, index - 1);
     }
 
     @Override
-    public void clear() {
-        super.clear();
-        updateExternalList();
+    public boolean removeItem(Expense expense) {
+        if (!super.removeItem(expense)) {
+            return false;
+        }
+        int externalIndex = -1;
+        for (int i = 0; i < externalList.size() && externalIndex == -1; i++) {
+            if (externalList.get(i) == expense) {
+                externalIndex = i;
+            }
+        }
+        forget(expense, externalIndex);
+        return true;
+    }
+
+    /**
+     * Removes {@code expenses} themselves, then takes them out of the indexes and {@code externalList} together,
+     * so that {@code externalList} changes once however many are removed.
+     *
+     * @param expenses the expenses to remove.
+     * @return the expenses removed.
+     */
+    @Override
+    public List<Expense> removeItems(Collection<Expense> expenses) {
+        List<Expense> removed;
+        if (columns == null) {
+            removed = super.removeItems(expenses);
+        } else {
+            // Rows are looked up one by one, rather than turning every row back into an expense.
+            removed = new ArrayList<>();
+            for (Expense expense : expenses) {
+                if (super.removeItem(expense)) {
+                    removed.add(expense);
+                }
+            }
+        }
+        if (removed.isEmpty()) {
+            return removed;
+        }
+
+        boolean hasRecurring = false;
+        for (Expense expense : removed) {
+            if (columns == null) {
+                timeIndex.remove(expense);
+                tagIndex.remove(expense);
+                descriptionIndex.remove(expense);
+            }
+            if (expense.isRecurring()) {
+                occurrences.remove(expense);
+                hasRecurring = true;
+            }
+        }
+        if (hasRecurring) {
+            updateExternalList();
+            return removed;
+        }
+        Set<Expense> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedSet.addAll(removed);
+        for (Expense expense : externalList) {
+            if (removedSet.contains(expense)) {
+                externalTagTotals.remove(expense);
+                if (!expense.isTentative()) {
+                    externalTotalInCents -= expense.getAmountInCents();
+                }
+            }
+        }
+        externalList.removeAll(removedSet);
+        updateLabels();
+        return removed;
+    }
+
+    /**
+     * Takes an expense just removed from {@code internalList} out of the indexes and {@code externalList}.
+     *
+     * @param expense the expense removed.
+     * @param externalIndex its index in {@code externalList}, or -1 if it is not shown.
+     */
+    private void forget(Expense expense, int externalIndex) {
+        if (columns == null) {
+            timeIndex.remove(expense);
+            tagIndex.remove(expense);
+            descriptionIndex.remove(expense);
+        }
+        if (expense.isRecurring()) {
+            occurrences.remove(expense);
+            updateExternalList();
+            return;
+        }
+        if (externalIndex != -1) {
+            externalList.remove(externalIndex);
+            externalTagTotals.remove(expense);
+            if (!expense.isTentative()) {
+                externalTotalInCents -= expense.getAmountInCents();
+            }
+        }
+        updateLabels();
+    }
+
+    /**
+     * Adds {@code expenses}, just added to {@code internalList}, to the indexes, unless they are not kept.
+     */
+    private void index(Collection<Expense> expenses) {
+        if (columns == null) {
+            timeIndex.addAll(expenses);
+            tagIndex.addAll(expenses);
+            descriptionIndex.addAll(expenses);
+        }
+    }
+
+    /**
+     * Removes all expenses, including those not loaded yet.
+     *
+     * @return the expenses removed.
+     */
+    @Override
+    public List<Expense> clear() {
+        if (history != null) {
+            loadHistory(history.loadAll());
+        }
+        final List<Expense> removed = super.clear();
+        timeIndex.clear();
+        tagIndex.clear();
+        descriptionIndex.clear();
+        occurrences.clear();
+        externalList.clear();
+        externalTagTotals.clear();
+        externalTotalInCents = 0;
+        updateLabels();
+        return removed;
     }
 
     /**
@@ -243,9 +633,17 @@ public class ExpenseList extends DukeList<Expense> {
         updateExternalList();
     }
 
+    /**
+     * Sets the filter, as a query understood by {@link ExpenseFilter#parse(String)}.
+     * An empty query shows all expenses in the view scope.
+     *
+     * @param filterCriteria the query.
+     * @throws DukeException If the query cannot be understood.
+     */
     @Override
     public void setFilterCriteria(String filterCriteria) throws DukeException {
-        this.filterCriteria = filterCriteria;
+        this.filter = ExpenseFilter.parse(filterCriteria);
+        this.filterCriteria = filterCriteria.trim();
         updateExternalList();
     }
     
@@ -259,6 +657,19 @@ public class ExpenseList extends DukeList<Expense> {
     @Override
     public void setViewScope(String viewScopeName, int viewScopeNumber) throws DukeException {
         this.viewScope = new ViewScope(viewScopeName, viewScopeNumber);
+        this.searchQuery = null;
+        updateExternalList();
+    }
+
+    /**
+     * Shows the expenses of any time whose descriptions match {@code query} instead of those in the view scope,
+     * until the view scope is set again. The filter still applies.
+     *
+     * @param query the search, as understood by {@link DescriptionQuery#parse(String)}.
+     * @throws DukeException If the search cannot be understood.
+     */
+    public void setSearchQuery(String query) throws DukeException {
+        this.searchQuery = DescriptionQuery.parse(query);
         updateExternalList();
     }
 
@@ -275,14 +686,19 @@ public class ExpenseList extends DukeList<Expense> {
     }
 
     /**
-     * To be implemented when tags are specified.
+     * Returns the expenses in the given List that pass the filter.
      *
      * @param currentList The List going to be filtered.
      * @return The filtered List.
      */
     @Override
     public List<Expense> filter(List<Expense> currentList) {
-        return currentList;
+        if (filter.isAll()) {
+            return currentList;
+        }
+        return currentList.stream()
+                .filter(filter::test)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -311,33 +727,36 @@ public class ExpenseList extends DukeList<Expense> {
     }
 
     /**
-     * Returns the total amount of money spent.
+     * Returns the total amount of money spent, including on expenses not loaded yet.
      *
      * @return BigDecimal of the total amount of money spent.
      */
     public BigDecimal getTotalAmount() {
-        return internalList.stream()
-                .filter(expense -> !expense.isTentative())
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalInCents = columns == null ? sumConfirmed(internalList) : columns.sumConfirmedCents();
+        if (history != null) {
+            totalInCents += history.getUnloadedTotal().getCents();
+        }
+        return Money.ofCents(totalInCents).toBigDecimal();
     }
 
     /**
-     * returns the total Amount given a specific tag.
+     * Returns the total amount spent on the confirmed expenses in {@code externalList} whose tag is {@code tag}.
      *
-     * @param tag the tag of
+     * @param tag the tag to total, matched exactly.
      * @return A BigDecimal which is the sum of all items of a single tag
      */
     public BigDecimal getTagAmount(String tag) {
-        try {
-            return externalList.stream()
-                    .filter(expense -> expense.getTag().contains(tag))
-                    .filter(expense -> !expense.isTentative())
-                    .map(Expense::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-        } catch (NullPointerException e) {
-            return BigDecimal.ZERO;
-        }
+        return tag == null ? BigDecimal.ZERO : externalTagTotals.getConfirmed(tag).toBigDecimal();
+    }
+
+    /**
+     * Returns the total amount of the tentative expenses in {@code externalList} whose tag is {@code tag}.
+     *
+     * @param tag the tag to total, matched exactly.
+     * @return the total amount of the tentative expenses with that tag.
+     */
+    public BigDecimal getTentativeTagAmount(String tag) {
+        return tag == null ? BigDecimal.ZERO : externalTagTotals.getTentative(tag).toBigDecimal();
     }
 
     /**
@@ -346,10 +765,20 @@ public class ExpenseList extends DukeList<Expense> {
      * @return BigDecimal of the total amount of money spent on currently visible expenses.
      */
     public BigDecimal getTotalExternalAmount() {
-        return externalList.stream()
-                .filter(expense -> !expense.isTentative())
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Money.ofCents(externalTotalInCents).toBigDecimal();
+    }
+
+    /**
+     * Returns the total amount of the confirmed expenses in {@code expenses}, in cents.
+     */
+    private static long sumConfirmed(List<Expense> expenses) {
+        long totalInCents = 0;
+        for (Expense expense : expenses) {
+            if (!expense.isTentative()) {
+                totalInCents += expense.getAmountInCents();
+            }
+        }
+        return totalInCents;
     }
 
 
@@ -0,0 +1,93 @@
+package duke.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The recurring expenses of an {@code ExpenseList}, and their occurrences in the windows of days it shows.
+ * Occurrences are only worked out for a window when it is shown, and are kept for the last
+ * {@link #MAX_WINDOWS} windows shown, so that switching back and forth between view scopes does not
+ * work them out again and shows the same occurrences. They are worked out again once a recurring expense
+ * is added or removed.
+ */
+class ExpenseOccurrences {
+
+    static final int MAX_WINDOWS = 8;
+
+    private final List<Expense> recurringExpenses = new ArrayList<>();
+    /**
+     * The occurrences by window, as the list of its first and last day, least recently shown first.
+     */
+    private final Map<List<LocalDate>, List<Expense>> occurrencesByWindow = new LinkedHashMap<>(
+            MAX_WINDOWS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<LocalDate>, List<Expense>> eldest) {
+            return size() > MAX_WINDOWS;
+        }
+    };
+
+    /**
+     * Adds {@code expense} if it is recurring.
+     */
+    void add(Expense expense) {
+        if (expense.isRecurring() && expense.getOccurrenceOf() == null) {
+            recurringExpenses.add(expense);
+            occurrencesByWindow.clear();
+        }
+    }
+
+    void addAll(Collection<Expense> expenses) {
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    /**
+     * Removes {@code expense} itself, rather than an expense equal to it.
+     */
+    void remove(Expense expense) {
+        for (int i = recurringExpenses.size() - 1; i >= 0; i--) {
+            if (recurringExpenses.get(i) == expense) {
+                recurringExpenses.remove(i);
+                occurrencesByWindow.clear();
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        recurringExpenses.clear();
+        occurrencesByWindow.clear();
+    }
+
+    /**
+     * Returns the occurrences of the recurring expenses from {@code firstDay} to {@code lastDay} (inclusive).
+     * A recurring expense that never ends has no last occurrence to show when there is no last day,
+     * so the recurring expense itself is returned instead.
+     *
+     * @param firstDay the first day, or null for no first day.
+     * @param lastDay the last day, or null for no last day.
+     * @return the occurrences, and the recurring expenses standing for their own.
+     */
+    List<Expense> get(LocalDate firstDay, LocalDate lastDay) {
+        List<LocalDate> window = Arrays.asList(firstDay, lastDay);
+        List<Expense> occurrences = occurrencesByWindow.get(window);
+        if (occurrences == null) {
+            occurrences = new ArrayList<>();
+            for (Expense recurringExpense : recurringExpenses) {
+                if (lastDay == null && recurringExpense.getRecurrence().getEndDate() == null) {
+                    occurrences.add(recurringExpense);
+                } else {
+                    occurrences.addAll(recurringExpense.getOccurrences(firstDay, lastDay));
+                }
+            }
+            occurrencesByWindow.put(window, occurrences);
+        }
+        return new ArrayList<>(occurrences);
+    }
+}
@@ -0,0 +1,63 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The expenses of an {@code ExpenseList} grouped by tag, ignoring case, so that a filter on a tag
+ * only has to look at the expenses with that tag.
+ */
+class ExpenseTagIndex {
+
+    /**
+     * The expenses by the id of their tag in {@link TagDictionary}, ignoring case.
+     */
+    private final Map<Integer, List<Expense>> expensesByTag = new HashMap<>();
+
+    void add(Expense expense) {
+        expensesByTag.computeIfAbsent(expense.getTagIdIgnoringCase(), tag -> new ArrayList<>()).add(expense);
+    }
+
+    void addAll(Collection<Expense> expenses) {
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    /**
+     * Removes {@code expense} itself, rather than an expense equal to it.
+     */
+    void remove(Expense expense) {
+        int tag = expense.getTagIdIgnoringCase();
+        List<Expense> tagExpenses = expensesByTag.get(tag);
+        if (tagExpenses == null) {
+            return;
+        }
+        for (int i = tagExpenses.size() - 1; i >= 0; i--) {
+            if (tagExpenses.get(i) == expense) {
+                tagExpenses.remove(i);
+                break;
+            }
+        }
+        if (tagExpenses.isEmpty()) {
+            expensesByTag.remove(tag);
+        }
+    }
+
+    void clear() {
+        expensesByTag.clear();
+    }
+
+    /**
+     * Returns the expenses whose tag is {@code tag}, ignoring case.
+     *
+     * @param tag the tag in lower case.
+     * @return the expenses with that tag.
+     */
+    List<Expense> get(String tag) {
+        return new ArrayList<>(expensesByTag.getOrDefault(TagDictionary.findIdIgnoringCaseOf(tag), List.of()));
+    }
+}
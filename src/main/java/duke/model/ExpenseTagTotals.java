@@ -0,0 +1,77 @@
+package duke.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running totals of the expenses shown by an {@code ExpenseList}, by tag, with confirmed and tentative
+ * expenses added up separately. Kept up to date as expenses are shown and hidden, so that the budget bars
+ * and the pie chart do not add up the expenses again on every read.
+ */
+class ExpenseTagTotals {
+
+    private static class Totals {
+        private int count = 0;
+        private long confirmedInCents = 0;
+        private long tentativeInCents = 0;
+    }
+
+    /**
+     * The totals by the id of the tag in {@link TagDictionary}.
+     */
+    private final Map<Integer, Totals> totalsByTag = new HashMap<>();
+
+    void add(Expense expense) {
+        Totals totals = totalsByTag.computeIfAbsent(expense.getTagId(), tag -> new Totals());
+        totals.count++;
+        if (expense.isTentative()) {
+            totals.tentativeInCents += expense.getAmountInCents();
+        } else {
+            totals.confirmedInCents += expense.getAmountInCents();
+        }
+    }
+
+    /**
+     * Takes {@code expense} out of the totals. It should not have been confirmed since it was added.
+     */
+    void remove(Expense expense) {
+        Totals totals = totalsByTag.get(expense.getTagId());
+        if (totals == null) {
+            return;
+        }
+        if (--totals.count == 0) {
+            totalsByTag.remove(expense.getTagId());
+        } else if (expense.isTentative()) {
+            totals.tentativeInCents -= expense.getAmountInCents();
+        } else {
+            totals.confirmedInCents -= expense.getAmountInCents();
+        }
+    }
+
+    void clear() {
+        totalsByTag.clear();
+    }
+
+    /**
+     * Returns the total amount of the confirmed expenses with the tag {@code tag}.
+     * The tag is looked up by its id, not compared with every tag shown.
+     *
+     * @param tag the tag to total.
+     * @return the total amount of the confirmed expenses with that tag.
+     */
+    Money getConfirmed(String tag) {
+        Totals totals = totalsByTag.get(TagDictionary.findIdOf(tag));
+        return Money.ofCents(totals == null ? 0 : totals.confirmedInCents);
+    }
+
+    /**
+     * Returns the total amount of the tentative expenses with the tag {@code tag}.
+     *
+     * @param tag the tag to total.
+     * @return the total amount of the tentative expenses with that tag.
+     */
+    Money getTentative(String tag) {
+        Totals totals = totalsByTag.get(TagDictionary.findIdOf(tag));
+        return Money.ofCents(totals == null ? 0 : totals.tentativeInCents);
+    }
+}
@@ -0,0 +1,76 @@
+package duke.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The expenses of an {@code ExpenseList} grouped by the day they were spent on, so that the expenses of
+ * a range of days can be found without looking at the others. Recurring expenses belong to no day and are
+ * left out; their occurrences are worked out by {@code ExpenseOccurrences}.
+ */
+class ExpenseTimeIndex {
+
+    private final NavigableMap<LocalDate, List<Expense>> expensesByDay = new TreeMap<>();
+
+    void add(Expense expense) {
+        if (!expense.isRecurring()) {
+            expensesByDay.computeIfAbsent(expense.getTime().toLocalDate(), day -> new ArrayList<>()).add(expense);
+        }
+    }
+
+    void addAll(Collection<Expense> expenses) {
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    /**
+     * Removes {@code expense} itself, rather than an expense equal to it.
+     */
+    void remove(Expense expense) {
+        if (expense.isRecurring()) {
+            return;
+        }
+        LocalDate day = expense.getTime().toLocalDate();
+        List<Expense> dayExpenses = expensesByDay.get(day);
+        if (dayExpenses != null && removeSame(dayExpenses, expense) && dayExpenses.isEmpty()) {
+            expensesByDay.remove(day);
+        }
+    }
+
+    void clear() {
+        expensesByDay.clear();
+    }
+
+    /**
+     * Returns the non-recurring expenses spent from {@code first} to {@code last} (inclusive), earliest day first.
+     *
+     * @param first the first day.
+     * @param last the last day.
+     * @return the expenses spent on those days.
+     */
+    List<Expense> getBetween(LocalDate first, LocalDate last) {
+        List<Expense> expenses = new ArrayList<>();
+        if (first.isAfter(last)) {
+            return expenses;
+        }
+        for (List<Expense> dayExpenses : expensesByDay.subMap(first, true, last, true).values()) {
+            expenses.addAll(dayExpenses);
+        }
+        return expenses;
+    }
+
+    private static boolean removeSame(List<Expense> expenses, Expense expense) {
+        for (int i = expenses.size() - 1; i >= 0; i--) {
+            if (expenses.get(i) == expense) {
+                expenses.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,6 +15,10 @@ public class Income extends DukeItem {
      * The amount of money of the income.
      */
     private final BigDecimal amount;
+    /**
+     * {@link #amount} in cents, for adding up amounts without creating {@code BigDecimal}s.
+     */
+    private final long amountInCents;
     /**
      * The description of the income.
      */
@@ -94,6 +98,12 @@ public class Income extends DukeItem {
                 throw new DukeException(
                         String.format(DukeException.MESSAGE_INCOME_AMOUNT_INVALID, amount.toPlainString()));
             }
+            try {
+                Money.of(amount);
+            } catch (ArithmeticException e) {
+                throw new DukeException(
+                        String.format(DukeException.MESSAGE_INCOME_AMOUNT_INVALID, amount.toPlainString()));
+            }
             this.amount = amount.setScale(2, RoundingMode.UNNECESSARY);
             return this;
         }
@@ -127,7 +137,8 @@ public class Income extends DukeItem {
     private Income(Builder builder) {
         super(builder);
         amount = builder.amount;
-        description = builder.description;
+        amountInCents = Money.of(amount).getCents();
+        description = StringPool.intern(builder.description);
     }
 
     /**
@@ -139,6 +150,15 @@ public class Income extends DukeItem {
         return amount;
     }
 
+    /**
+     * Returns the amount of the income in cents.
+     *
+     * @return {@link #amountInCents}.
+     */
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
     /**
      * Returns the description of the income.
      *
@@ -26,6 +26,10 @@ public class IncomeList extends DukeList<Income> {
     private List<Income> internalIncomeList;
     private ObservableList<Income> externalIncomeList;
     private StringProperty totalString;
+    /**
+     * The incomes by the words in their descriptions, kept up to date with {@code internalList}.
+     */
+    private final DescriptionIndex<Income> descriptionIndex = new DescriptionIndex<>(Income::getDescription);
 
     /**
      * Constructor for IncomeList.
@@ -34,6 +38,7 @@ public class IncomeList extends DukeList<Income> {
      */
     public IncomeList(List<Income> internalList) {
         super(internalList, "income");
+        descriptionIndex.addAll(internalList);
 
         externalList = FXCollections.observableArrayList();
         externalIncomeList = FXCollections.unmodifiableObservableList(externalList);
@@ -58,6 +63,7 @@ public class IncomeList extends DukeList<Income> {
     @Override
     public void add(Income income) {
         super.add(income);
+        descriptionIndex.add(income);
         updateExternalList();
         logger.info("externalList lengths " + externalList.size());
     }
@@ -70,17 +76,43 @@ public class IncomeList extends DukeList<Income> {
      */
     @Override
     public void remove(int index) throws DukeException {
+        Income income = get(index);
         super.remove(index);
+        descriptionIndex.remove(income);
+        updateExternalList();
+    }
+
+    @Override
+    public boolean removeItem(Income income) {
+        if (!super.removeItem(income)) {
+            return false;
+        }
+        descriptionIndex.remove(income);
         updateExternalList();
+        return true;
     }
 
     /**
      * Clears the entire incomeList.
+     *
+     * @return the incomes removed.
      */
     @Override
-    public void clear() {
-        super.clear();
+    public List<Income> clear() {
+        List<Income> removed = super.clear();
+        descriptionIndex.clear();
         updateExternalList();
+        return removed;
+    }
+
+    /**
+     * Returns the incomes whose descriptions match {@code query}, in the order they were added.
+     *
+     * @param query the search.
+     * @return the incomes matching the search.
+     */
+    public List<Income> search(DescriptionQuery query) {
+        return descriptionIndex.search(query);
     }
 
     /**
@@ -121,9 +153,11 @@ public class IncomeList extends DukeList<Income> {
      * @return BigDecimal of the total amount of money spent on currently visible incomes.
      */
     public BigDecimal getTotalExternalAmount() {
-        return externalList.stream()
-                .map(Income::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalInCents = 0;
+        for (Income income : externalList) {
+            totalInCents += income.getAmountInCents();
+        }
+        return Money.ofCents(totalInCents).toBigDecimal();
     }
 
     /**
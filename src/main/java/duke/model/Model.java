@@ -8,6 +8,8 @@ import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -16,16 +18,92 @@ import java.util.function.Predicate;
  */
 public interface Model {
 
+    /**
+     * The parts of the model that are saved separately.
+     */
+    enum Store {
+        EXPENSE_LIST,
+        PLAN_ATTRIBUTES,
+        INCOME_LIST,
+        BUDGET,
+        BUDGET_VIEW,
+        PAYMENT_LIST
+    }
+
+    /**
+     * Returns the number of times {@code store} has been changed, so that storage can tell
+     * whether it changed since it was last saved.
+     *
+     * @param store the part of the model to check.
+     * @return the number of changes made to the store so far.
+     */
+    public long getVersion(Store store);
+
+    //******************************** Undo and redo
+
+    /**
+     * Starts an edit, e.g. for a command. The changes made to expenses, incomes and payments until
+     * {@link #endEdit()} are undone and redone together.
+     */
+    public void beginEdit();
+
+    /**
+     * Ends the edit started by {@link #beginEdit()}.
+     */
+    public void endEdit();
+
+    /**
+     * Undoes the latest edits to expenses, incomes and payments.
+     *
+     * @param times the number of edits to undo.
+     * @return the number of edits undone, which is less than {@code times} if there were fewer to undo.
+     */
+    public int undo(int times);
+
+    /**
+     * Redoes the latest edits undone.
+     *
+     * @param times the number of edits to redo.
+     * @return the number of edits redone, which is less than {@code times} if there were fewer to redo.
+     */
+    public int redo(int times);
+
     //******************************** ExpenseList operations
 
     public void addExpense(Expense expense);
 
     public void deleteExpense(int index) throws DukeException;
 
-    public void clearExpense();
+    /**
+     * Deletes the expenses at {@code indices} in the expense pane together, as one edit.
+     *
+     * @param indices the indices of the expenses in the expense pane.
+     * @return the number of expenses deleted.
+     * @throws DukeException if there is no expense at one of the indices, in which case none are deleted.
+     */
+    public int deleteExpenses(List<Integer> indices) throws DukeException;
+
+    /**
+     * Deletes the expenses in the expense pane that pass {@code filter} together, as one edit.
+     *
+     * @param filter the filter the expenses to delete pass.
+     * @return the number of expenses deleted.
+     */
+    public int deleteExpenses(ExpenseFilter filter);
+
+    public void confirmExpense(int index) throws DukeException;
+
+    /**
+     * Deletes all expenses, including those not loaded yet, as one edit.
+     *
+     * @return the number of expenses deleted.
+     */
+    public int clearExpense();
 
     public void filterExpense(String filterCriteria) throws DukeException;
 
+    public void searchExpense(String query) throws DukeException;
+
     public void sortExpense(String sortCriteria) throws DukeException;
 
     public void viewExpense(String viewScope, int previous) throws DukeException;
@@ -88,6 +166,23 @@ public interface Model {
 
     public void removePayment(int index) throws DukeException;
 
+    /**
+     * Removes the payments at {@code indices} in the payment pane together, as one edit.
+     *
+     * @param indices the indices of the payments in the payment pane.
+     * @return the payments removed.
+     * @throws DukeException if there is no payment at one of the indices, in which case none are removed.
+     */
+    public List<Payment> removePayments(List<Integer> indices) throws DukeException;
+
+    /**
+     * Follows each recurring payment whose due is before {@code today} with its next occurrences.
+     *
+     * @param today the current day.
+     * @return the number of payments generated.
+     */
+    public int rollPaymentsForward(LocalDate today);
+
     public void setPaymentSortingCriteria(String sortingCriteria) throws DukeException;
 
     public void setAllPredicate();
@@ -100,6 +195,8 @@ public interface Model {
 
     public void setSearchKeyword(String keyword);
 
+    public void setPaymentPriority(Payment.Priority priority);
+
     public Payment getPayment(int index) throws DukeException;
 
     public ObservableList<Payment> getUnmodifiableFilteredPaymentList();
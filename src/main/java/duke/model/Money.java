@@ -0,0 +1,131 @@
+package duke.model;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount of money with two decimal places, kept as a whole number of cents.
+ * Used where many amounts are added up, e.g. the totals of an {@code ExpenseList}, so that adding up
+ * does not create a {@code BigDecimal} per amount. Amounts are still given to and taken from the
+ * rest of Duke++ as {@code BigDecimal}s.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+    private static final int CENTS_PER_UNIT = 100;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount {@code amount} stands for.
+     *
+     * @param amount an amount with at most two decimal places.
+     * @return the same amount.
+     * @throws ArithmeticException if the amount has more than two decimal places, or too many cents to count.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    /**
+     * Reads an amount such as {@code 12}, {@code -3.5} or {@code 0.05}, without rounding it.
+     *
+     * @param amount the amount as text.
+     * @return the amount.
+     * @throws NumberFormatException if the text is not an amount with at most two decimal places,
+     *                               or has too many cents to count.
+     */
+    public static Money parse(String amount) {
+        int position = 0;
+        boolean isNegative = false;
+        if (amount.startsWith("-") || amount.startsWith("+")) {
+            isNegative = amount.charAt(0) == '-';
+            position = 1;
+        }
+
+        long cents = 0;
+        int digits = 0;
+        int decimals = -1;
+        try {
+            for (; position < amount.length(); position++) {
+                char c = amount.charAt(position);
+                if (c == '.' && decimals == -1) {
+                    decimals = 0;
+                    continue;
+                }
+                if (c < '0' || c > '9' || decimals == SCALE) {
+                    throw new NumberFormatException("Not an amount of money: " + amount);
+                }
+                cents = Math.addExact(Math.multiplyExact(cents, 10), c - '0');
+                digits++;
+                if (decimals != -1) {
+                    decimals++;
+                }
+            }
+            if (digits == 0) {
+                throw new NumberFormatException("Not an amount of money: " + amount);
+            }
+            for (int i = Math.max(decimals, 0); i < SCALE; i++) {
+                cents = Math.multiplyExact(cents, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Too large an amount of money: " + amount);
+        }
+        return ofCents(isNegative ? -cents : cents);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount as a {@code BigDecimal} with two decimal places.
+     *
+     * @return this amount as a {@code BigDecimal}.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Returns this amount with two decimal places, e.g. {@code 12.50}, the same as {@link #toBigDecimal()} would.
+     */
+    @Override
+    public String toString() {
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        long remainingCents = Math.abs(cents % CENTS_PER_UNIT);
+        return (cents < 0 ? "-" : "") + units + (remainingCents < 10 ? ".0" : ".") + remainingCents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || (other instanceof Money && ((Money) other).cents == cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+}
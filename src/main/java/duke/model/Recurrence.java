@@ -0,0 +1,216 @@
+package duke.model;
+
+import duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * How often a recurring expense or payment recurs, starting from its day: every so many days, weeks
+ * or months, until an optional end date. Written as, for example:
+ * <ul>
+ *     <li>{@code monthly}, {@code weekly} or {@code daily};</li>
+ *     <li>{@code every 3 days}, {@code every 2 weeks} or {@code every 6 months};</li>
+ *     <li>any of the above followed by {@code until 31/12/2019}.</li>
+ * </ul>
+ * An expense recurring monthly from the 31st recurs on the last day of the shorter months.
+ */
+public class Recurrence {
+
+    /**
+     * The unit of the interval between occurrences.
+     */
+    public enum Unit {
+        DAY("daily", "days"),
+        WEEK("weekly", "weeks"),
+        MONTH("monthly", "months");
+
+        private final String adverb;
+        private final String plural;
+
+        Unit(String adverb, String plural) {
+            this.adverb = adverb;
+            this.plural = plural;
+        }
+    }
+
+    /**
+     * The recurrence of the recurring expenses saved before they had their own, and of those added
+     * without one.
+     */
+    public static final Recurrence MONTHLY = new Recurrence(Unit.MONTH, 1, null);
+
+    /**
+     * The most occurrences listed for an expense at once, so that a window of centuries does not list
+     * a daily expense for every day of it.
+     */
+    static final int MAX_OCCURRENCES = 10000;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String EVERY = "every";
+    private static final String UNTIL = "until";
+
+    private final Unit unit;
+    private final int interval;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a recurrence.
+     *
+     * @param unit the unit of the interval.
+     * @param interval the number of units between occurrences, at least 1.
+     * @param endDate the last day an occurrence can be on, or null if the expense recurs forever.
+     */
+    public Recurrence(Unit unit, int interval, LocalDate endDate) {
+        assert interval >= 1;
+        this.unit = unit;
+        this.interval = interval;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Parses a recurrence written as described in {@link Recurrence}.
+     *
+     * @param recurrence the recurrence as a string.
+     * @return the recurrence.
+     * @throws DukeException if the string is not a valid recurrence.
+     */
+    public static Recurrence parse(String recurrence) throws DukeException {
+        String[] words = recurrence.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        int next = 0;
+        Unit unit = null;
+        int interval = 1;
+        try {
+            if (words[next].equals(EVERY) && words.length >= next + 3) {
+                interval = Integer.parseInt(words[next + 1]);
+                for (Unit candidate : Unit.values()) {
+                    if (candidate.plural.equals(words[next + 2])) {
+                        unit = candidate;
+                    }
+                }
+                next += 3;
+            } else {
+                for (Unit candidate : Unit.values()) {
+                    if (candidate.adverb.equals(words[next])) {
+                        unit = candidate;
+                    }
+                }
+                next += 1;
+            }
+
+            LocalDate endDate = null;
+            if (next < words.length && words[next].equals(UNTIL) && next + 2 == words.length) {
+                endDate = LocalDate.parse(words[next + 1], DATE_FORMATTER);
+                next += 2;
+            }
+            if (unit == null || interval < 1 || next != words.length) {
+                throw new DukeException(String.format(DukeException.MESSAGE_RECURRENCE_INVALID, recurrence));
+            }
+            return new Recurrence(unit, interval, endDate);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_RECURRENCE_INVALID, recurrence));
+        }
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the days an expense recurring from {@code start} is spent on, from {@code firstDay} to {@code lastDay}
+     * (inclusive). Only the days in that window are worked out, however long ago {@code start} is.
+     *
+     * @param start the day of the first occurrence.
+     * @param firstDay the first day of the window, or null to start from {@code start}.
+     * @param lastDay the last day of the window, or null to end on {@link #getEndDate()}, which must not be null then.
+     * @return the days of the occurrences in the window, earliest first.
+     */
+    public List<LocalDate> getOccurrences(LocalDate start, LocalDate firstDay, LocalDate lastDay) {
+        assert lastDay != null || endDate != null;
+        LocalDate from = firstDay == null || firstDay.isBefore(start) ? start : firstDay;
+        LocalDate to = lastDay == null || (endDate != null && endDate.isBefore(lastDay)) ? endDate : lastDay;
+        List<LocalDate> occurrences = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return occurrences;
+        }
+
+        if (unit == Unit.MONTH) {
+            // Each occurrence is counted from the start, so that one on the 31st comes back to the 31st.
+            long count = ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from)) / interval;
+            LocalDate occurrence = start.plusMonths(count * interval);
+            while (!occurrence.isAfter(to) && occurrences.size() < MAX_OCCURRENCES) {
+                if (!occurrence.isBefore(from)) {
+                    occurrences.add(occurrence);
+                }
+                count++;
+                occurrence = start.plusMonths(count * interval);
+            }
+        } else {
+            long days = unit == Unit.WEEK ? 7L * interval : interval;
+            long count = (ChronoUnit.DAYS.between(start, from) + days - 1) / days;
+            LocalDate occurrence = start.plusDays(count * days);
+            while (!occurrence.isAfter(to) && occurrences.size() < MAX_OCCURRENCES) {
+                occurrences.add(occurrence);
+                occurrence = occurrence.plusDays(days);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the day of the first occurrence of something recurring from {@code start} after {@code after}.
+     *
+     * @param start the day of the first occurrence.
+     * @param after the day to find the next occurrence after, such as the day of the current occurrence.
+     * @return the day of the next occurrence, or null if the recurrence ends before then.
+     */
+    public LocalDate getNextOccurrence(LocalDate start, LocalDate after) {
+        LocalDate firstDay = after.plusDays(1);
+        // Occurrences are never further apart than this, even when months of different lengths clamp their day.
+        LocalDate lastDay = unit == Unit.MONTH
+                ? firstDay.plusMonths(interval + 1)
+                : firstDay.plusDays(unit == Unit.WEEK ? 7L * interval : interval);
+        if (start.isAfter(lastDay)) {
+            lastDay = start;
+        }
+        if (endDate != null && endDate.isBefore(lastDay)) {
+            lastDay = endDate;
+        }
+        List<LocalDate> occurrences = getOccurrences(start, firstDay, lastDay);
+        return occurrences.isEmpty() ? null : occurrences.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+        Recurrence recurrence = (Recurrence) other;
+        return unit == recurrence.unit && interval == recurrence.interval
+                && Objects.equals(endDate, recurrence.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(unit, interval, endDate);
+    }
+
+    /**
+     * Returns the recurrence as it is written, so that {@link #parse(String)} gives it back.
+     */
+    @Override
+    public String toString() {
+        String recurrence = interval == 1 ? unit.adverb : EVERY + " " + interval + " " + unit.plural;
+        return endDate == null ? recurrence : recurrence + " " + UNTIL + " " + endDate.format(DATE_FORMATTER);
+    }
+}
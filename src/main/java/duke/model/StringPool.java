@@ -0,0 +1,50 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each distinct string a small id, so that a string repeated across many items is kept once
+ * and compared as an int. Strings are never taken out, so ids stay valid.
+ * {@link #intern(String)} is how every item keeps its description once, whether it is in a pool or not.
+ */
+public class StringPool {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Returns the single instance kept of {@code text}, so that the many items with the same description
+     * share one string. Used on the descriptions of items as they are built, whether loaded or added.
+     *
+     * @param text the text, or null.
+     * @return a string equal to {@code text}.
+     */
+    public static String intern(String text) {
+        return text == null ? null : text.intern();
+    }
+
+    /**
+     * Returns the id of {@code string}, giving it a new one if it has none yet.
+     * The pool keeps the instance {@link #intern(String)} gives, so it shares it with the items.
+     */
+    int idOf(String string) {
+        Integer id = ids.get(string);
+        if (id == null) {
+            id = strings.size();
+            ids.put(string, id);
+            strings.add(intern(string));
+        }
+        return id;
+    }
+
+    String get(int id) {
+        return strings.get(id);
+    }
+
+    int size() {
+        return strings.size();
+    }
+}
@@ -0,0 +1,146 @@
+package duke.model;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The tags of all items, each kept once and given a small id, so that the many items sharing a tag
+ * share one string, and tags are compared by id rather than by their text.
+ * Tags are never taken out, so ids stay valid until Duke++ exits; they are not stored.
+ * Tags that are only searched for are looked up with {@link #findIdOf(String)} and
+ * {@link #findIdIgnoringCaseOf(String)}, which do not add them.
+ */
+public final class TagDictionary {
+
+    /**
+     * A tag in the dictionary. There is only one {@code Tag} for each tag string.
+     */
+    static final class Tag implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final int id;
+        private final int idIgnoringCase;
+
+        private Tag(String name, int id, int idIgnoringCase) {
+            this.name = name;
+            this.id = id;
+            this.idIgnoringCase = idIgnoringCase;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        /**
+         * Returns the id of this tag in lower case, which is the same for all tags equal ignoring case.
+         */
+        int getIdIgnoringCase() {
+            return idIgnoringCase;
+        }
+
+        /**
+         * Keeps deserialized tags unique.
+         */
+        private Object readResolve() {
+            return tagOf(name);
+        }
+    }
+
+    /**
+     * The id returned for a tag that no item has.
+     */
+    public static final int NO_TAG = -1;
+
+    private static final Map<String, Tag> tags = new ConcurrentHashMap<>();
+    private static int nextId = 0;
+
+    private TagDictionary() {
+    }
+
+    /**
+     * Returns the {@code Tag} of {@code name}, adding it if it is new. Safe to call from any thread,
+     * as the stores are loaded in parallel.
+     */
+    static Tag tagOf(String name) {
+        Tag tag = tags.get(name);
+        if (tag != null) {
+            return tag;
+        }
+        synchronized (tags) {
+            tag = tags.get(name);
+            if (tag == null) {
+                String lowerCaseName = name.toLowerCase();
+                int idIgnoringCase = lowerCaseName.equals(name) ? nextId : tagOf(lowerCaseName).getId();
+                tag = new Tag(name, nextId++, idIgnoringCase);
+                tags.put(name, tag);
+            }
+            return tag;
+        }
+    }
+
+    /**
+     * Returns the single instance kept of the tag {@code name}.
+     *
+     * @param name the tag.
+     * @return a string equal to {@code name}, shared by all items with that tag.
+     */
+    public static String intern(String name) {
+        return tagOf(name).getName();
+    }
+
+    /**
+     * Returns the id of the tag {@code name}.
+     *
+     * @param name the tag.
+     * @return the id, equal to that of another tag only if the tags are equal.
+     */
+    public static int idOf(String name) {
+        return tagOf(name).getId();
+    }
+
+    /**
+     * Returns the id of the tag {@code name}, ignoring case.
+     *
+     * @param name the tag.
+     * @return the id, equal to that of another tag only if the tags are equal ignoring case.
+     */
+    public static int idIgnoringCaseOf(String name) {
+        return tagOf(name).getIdIgnoringCase();
+    }
+
+    /**
+     * Returns the id of the tag {@code name} without adding it, e.g. for a tag that is only searched for.
+     *
+     * @param name the tag.
+     * @return the id, or {@link #NO_TAG} if no item has had the tag.
+     */
+    public static int findIdOf(String name) {
+        Tag tag = tags.get(name);
+        return tag == null ? NO_TAG : tag.getId();
+    }
+
+    /**
+     * Returns the id of the tag {@code name}, ignoring case, without adding it.
+     *
+     * @param name the tag.
+     * @return the id, or {@link #NO_TAG} if no item has had the tag in any case.
+     */
+    public static int findIdIgnoringCaseOf(String name) {
+        // Adding a tag adds its lower case form too, whose id is the id ignoring case.
+        Tag tag = tags.get(name.toLowerCase());
+        return tag == null ? NO_TAG : tag.getId();
+    }
+
+    /**
+     * Returns the number of distinct tags seen.
+     */
+    public static int size() {
+        return tags.size();
+    }
+}
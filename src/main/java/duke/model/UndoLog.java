@@ -0,0 +1,137 @@
+package duke.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The edits that can be undone and redone, each kept as the steps it made together with how to reverse them,
+ * e.g. adding an expense is undone by removing that expense.
+ * Only the items the steps touch are kept, so the memory needed grows with the number of edits rather than
+ * with the size of the lists. At most {@link #MAX_EDITS} edits are kept; older ones can no longer be undone.
+ */
+class UndoLog {
+
+    static final int MAX_EDITS = 50;
+
+    /**
+     * A single change to the model, and how to make and reverse it.
+     */
+    static class Step {
+        private final Model.Store store;
+        private final Runnable undo;
+        private final Runnable redo;
+
+        /**
+         * Creates a step.
+         *
+         * @param store the store the step changes.
+         * @param undo reverses the step.
+         * @param redo makes the step again after it has been reversed.
+         */
+        Step(Model.Store store, Runnable undo, Runnable redo) {
+            this.store = store;
+            this.undo = undo;
+            this.redo = redo;
+        }
+
+        Model.Store getStore() {
+            return store;
+        }
+    }
+
+    private final Deque<List<Step>> undoableEdits = new ArrayDeque<>();
+    private final Deque<List<Step>> redoableEdits = new ArrayDeque<>();
+    private List<Step> currentEdit = null;
+    private boolean isReplaying = false;
+
+    /**
+     * Starts an edit. The steps recorded until {@link #endEdit()} are undone and redone together.
+     */
+    void beginEdit() {
+        if (currentEdit == null) {
+            currentEdit = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Ends the edit started by {@link #beginEdit()}. An edit that made changes can no longer be redone past.
+     */
+    void endEdit() {
+        List<Step> edit = currentEdit;
+        currentEdit = null;
+        if (edit != null && !edit.isEmpty()) {
+            push(edit);
+        }
+    }
+
+    /**
+     * Records a step that has just been made. A step made outside of an edit is an edit on its own.
+     * Steps made while undoing or redoing are not recorded.
+     */
+    void record(Step step) {
+        if (isReplaying) {
+            return;
+        }
+        if (currentEdit != null) {
+            currentEdit.add(step);
+        } else {
+            push(new ArrayList<>(List.of(step)));
+        }
+    }
+
+    /**
+     * Undoes the latest edit that has not been undone yet.
+     *
+     * @return the steps undone, latest first, or an empty list if there is nothing to undo.
+     */
+    List<Step> undo() {
+        List<Step> edit = undoableEdits.pollLast();
+        if (edit == null) {
+            return List.of();
+        }
+        List<Step> undone = new ArrayList<>();
+        isReplaying = true;
+        try {
+            for (int i = edit.size() - 1; i >= 0; i--) {
+                edit.get(i).undo.run();
+                undone.add(edit.get(i));
+            }
+        } finally {
+            isReplaying = false;
+        }
+        redoableEdits.addLast(edit);
+        return undone;
+    }
+
+    /**
+     * Redoes the latest edit undone.
+     *
+     * @return the steps redone, in the order they were first made, or an empty list if there is nothing to redo.
+     */
+    List<Step> redo() {
+        List<Step> edit = redoableEdits.pollLast();
+        if (edit == null) {
+            return List.of();
+        }
+        isReplaying = true;
+        try {
+            for (Step step : edit) {
+                step.redo.run();
+            }
+        } finally {
+            isReplaying = false;
+        }
+        undoableEdits.addLast(edit);
+        return edit;
+    }
+
+    private void push(List<Step> edit) {
+        undoableEdits.addLast(edit);
+        if (undoableEdits.size() > MAX_EDITS) {
+            undoableEdits.pollFirst();
+        }
+        redoableEdits.clear();
+    }
+}
@@ -1,6 +1,9 @@
 package duke.model.payment;
 
 import duke.exception.DukeException;
+import duke.model.Recurrence;
+import duke.model.StringPool;
+import duke.model.TagDictionary;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,6 +14,8 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Represents a Payment to pay.
+ * A recurring payment has a {@code Recurrence}, and is followed by its next occurrence once it is done
+ * or its due passes.
  */
 public class Payment {
 
@@ -26,6 +31,9 @@ public class Payment {
     // Initializes Priority as default
     private static final Priority DEFAULT_PRIORITY = Priority.MEDIUM;
 
+    // Separates the fields in the search text, so that a keyword cannot match across two of them
+    private static final String SEARCH_TEXT_SEPARATOR = "\n";
+
     // Compulsory fields
     private String description;
     private LocalDate due;
@@ -35,6 +43,13 @@ public class Payment {
     private String receiver;
     private String tag;
     private Priority priority;
+    private Recurrence recurrence;
+
+    // The due of the first occurrence of a recurring payment, which the later occurrences are counted from
+    private LocalDate recurrenceStart;
+
+    // Description, receiver and tag in lower case, worked out once for searching
+    private String searchText;
 
     /**
      * Represents the Priority of the Payment.
@@ -82,6 +97,8 @@ public class Payment {
         private String receiver = NOT_ASSIGNED;
         private String tag = NOT_ASSIGNED;
         private Priority priority = DEFAULT_PRIORITY;
+        private Recurrence recurrence = null;
+        private LocalDate recurrenceStart = null;
 
         /**
          * Initializes a builder with all properties undefined.
@@ -105,6 +122,8 @@ public class Payment {
             tag = payment.tag;
             amount = payment.amount;
             priority = payment.priority;
+            recurrence = payment.recurrence;
+            recurrenceStart = payment.recurrenceStart;
         }
 
         /**
@@ -139,6 +158,7 @@ public class Payment {
 
         /**
          * Parses and sets the field due in builder.
+         * A recurring payment then recurs from the new due.
          *
          * @param due String expected to follow format dd/mm/yyyy
          * @return a builder with the due already set
@@ -153,6 +173,51 @@ public class Payment {
             } catch (DateTimeParseException e) {
                 throw new DukeException(String.format(DukeException.MESSAGE_PAYMENT_TIME_INVALID, due));
             }
+            this.recurrenceStart = null;
+            return this;
+        }
+
+        /**
+         * Parses and sets the recurrence in builder, as described in {@link Recurrence}.
+         *
+         * @param recurrence String such as {@code monthly} or {@code every 2 weeks until 31/12/2020}
+         * @return a builder with the recurrence already set
+         * @throws DukeException if the String is not a valid recurrence
+         */
+        public Builder setRecurrence(String recurrence) throws DukeException {
+            requireNonNull(recurrence);
+
+            this.recurrence = Recurrence.parse(recurrence);
+            return this;
+        }
+
+        /**
+         * Sets the recurrence in builder.
+         *
+         * @param recurrence the recurrence, or null to make the payment a one-off payment
+         * @return a builder with the recurrence already set
+         */
+        public Builder setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
+            return this;
+        }
+
+        /**
+         * Parses and sets the due of the first occurrence of a recurring payment, which its later occurrences
+         * are counted from. It is the due of the payment itself unless set.
+         *
+         * @param recurrenceStart String expected to follow format dd/mm/yyyy
+         * @return a builder with the recurrence start already set
+         * @throws DukeException if the String has incorrect time format
+         */
+        public Builder setRecurrenceStart(String recurrenceStart) throws DukeException {
+            requireNonNull(recurrenceStart);
+
+            try {
+                this.recurrenceStart = LocalDate.parse(recurrenceStart, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+            } catch (DateTimeParseException e) {
+                throw new DukeException(String.format(DukeException.MESSAGE_PAYMENT_TIME_INVALID, recurrenceStart));
+            }
             return this;
         }
 
@@ -227,12 +292,18 @@ public class Payment {
     public Payment(Builder builder) {
         requireNonNull(builder);
 
-        description = builder.description;
+        // Descriptions and tags repeat across payments, so each is kept once.
+        description = StringPool.intern(builder.description);
         receiver = builder.receiver;
         due = builder.due;
-        tag = builder.tag;
+        tag = TagDictionary.intern(builder.tag);
         amount = builder.amount;
         priority = builder.priority;
+        recurrence = builder.recurrence;
+        if (recurrence != null) {
+            recurrenceStart = builder.recurrenceStart == null ? due : builder.recurrenceStart;
+        }
+        searchText = String.join(SEARCH_TEXT_SEPARATOR, description, receiver, tag).toLowerCase();
     }
 
     public String getDescription() {
@@ -263,6 +334,42 @@ public class Payment {
         return priority.getNumeratedLevel();
     }
 
+    /**
+     * Returns the recurrence of the payment, or null if it is a one-off payment.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns the due of the first occurrence of the payment, or null if it is a one-off payment.
+     */
+    public LocalDate getRecurrenceStart() {
+        return recurrenceStart;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the next occurrence of this recurring payment: the same payment, due on the next day it recurs on.
+     *
+     * @return the next occurrence, or null if this payment is a one-off payment or its recurrence ends before then.
+     */
+    public Payment getNextOccurrence() {
+        if (recurrence == null) {
+            return null;
+        }
+        LocalDate nextDue = recurrence.getNextOccurrence(recurrenceStart, due);
+        if (nextDue == null) {
+            return null;
+        }
+        Builder builder = new Builder(this);
+        builder.due = nextDue;
+        return builder.build();
+    }
+
     /**
      * Tests whether any of description, receiver and tag contains the keyword.
      * The case of letter is ignored.
@@ -274,8 +381,17 @@ public class Payment {
         requireNonNull(keyword);
         assert !keyword.isEmpty();
 
-        return description.toLowerCase().contains(keyword.toLowerCase())
-                || receiver.toLowerCase().contains(keyword.toLowerCase())
-                || tag.toLowerCase().contains(keyword.toLowerCase());
+        return containsLowerCaseKeyword(keyword.toLowerCase());
+    }
+
+    /**
+     * Tests whether any of description, receiver and tag contains the keyword, which is already in lower case.
+     * Used to search many payments for one keyword without lower-casing it again for each.
+     *
+     * @param lowerCaseKeyword the keyword being searched, in lower case
+     * @return true if the keyword is found
+     */
+    boolean containsLowerCaseKeyword(String lowerCaseKeyword) {
+        return searchText.contains(lowerCaseKeyword);
     }
 }
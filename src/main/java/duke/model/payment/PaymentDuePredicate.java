@@ -0,0 +1,64 @@
+package duke.model.payment;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tests whether a {@code payment} is due within a range of days, worked out once from the day the predicate
+ * is created, so that testing a payment only compares its due with the first and last day of the range.
+ */
+abstract class PaymentDuePredicate implements Predicate<Payment> {
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    /**
+     * Constructs a predicate for the days from {@code firstDay} to {@code lastDay} (inclusive).
+     *
+     * @param firstDay the first day, or null for no first day.
+     * @param lastDay the last day, or null for no last day.
+     */
+    PaymentDuePredicate(LocalDate firstDay, LocalDate lastDay) {
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    @Override
+    public boolean test(Payment payment) {
+        requireNonNull(payment);
+
+        LocalDate due = payment.getDue();
+        return (firstDay == null || !due.isBefore(firstDay)) && (lastDay == null || !due.isAfter(lastDay));
+    }
+
+    /**
+     * Returns true if {@code other} is the same kind of predicate for the same days.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        PaymentDuePredicate predicate = (PaymentDuePredicate) other;
+        return Objects.equals(firstDay, predicate.firstDay) && Objects.equals(lastDay, predicate.lastDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), firstDay, lastDay);
+    }
+}
@@ -0,0 +1,122 @@
+package duke.model.payment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tests whether a {@code payment} is shown, by a time scope, a search keyword and a priority together.
+ * The keyword and the priority are optional. A filter is never changed; each {@code with} method
+ * returns a new filter with one part replaced, so that the others stay as they were.
+ */
+public class PaymentFilter implements Predicate<Payment> {
+
+    private final Predicate<Payment> timePredicate;
+    private final SearchKeywordPredicate searchPredicate;
+    private final Payment.Priority priority;
+
+    /**
+     * Constructs a filter showing all payments.
+     */
+    public PaymentFilter() {
+        this(PaymentList.PREDICATE_SHOW_ALL_PAYMENTS, null, null);
+    }
+
+    private PaymentFilter(Predicate<Payment> timePredicate, SearchKeywordPredicate searchPredicate,
+                          Payment.Priority priority) {
+        requireNonNull(timePredicate);
+
+        this.timePredicate = timePredicate;
+        this.searchPredicate = searchPredicate;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns this filter with its time scope replaced by {@code timePredicate}.
+     */
+    public PaymentFilter withTimePredicate(Predicate<Payment> timePredicate) {
+        return new PaymentFilter(timePredicate, searchPredicate, priority);
+    }
+
+    /**
+     * Returns this filter searching for {@code keyword} instead, or not searching if it is null.
+     */
+    public PaymentFilter withKeyword(String keyword) {
+        return new PaymentFilter(timePredicate, keyword == null ? null : new SearchKeywordPredicate(keyword),
+                priority);
+    }
+
+    /**
+     * Returns this filter only showing payments of {@code priority} instead, or of any priority if it is null.
+     */
+    public PaymentFilter withPriority(Payment.Priority priority) {
+        return new PaymentFilter(timePredicate, searchPredicate, priority);
+    }
+
+    public Predicate<Payment> getTimePredicate() {
+        return timePredicate;
+    }
+
+    /**
+     * Returns the keyword searched for, or null if there is none.
+     */
+    public String getKeyword() {
+        return searchPredicate == null ? null : searchPredicate.getKeyword();
+    }
+
+    /**
+     * Returns the priority shown, or null if payments of any priority are shown.
+     */
+    public Payment.Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Tests the cheapest part first: the priority, then the due, then the keyword.
+     */
+    @Override
+    public boolean test(Payment payment) {
+        requireNonNull(payment);
+
+        return (priority == null || payment.getPriority() == priority)
+                && timePredicate.test(payment)
+                && (searchPredicate == null || searchPredicate.test(payment));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PaymentFilter)) {
+            return false;
+        }
+        PaymentFilter filter = (PaymentFilter) other;
+        return timePredicate.equals(filter.timePredicate)
+                && Objects.equals(searchPredicate, filter.searchPredicate)
+                && priority == filter.priority;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timePredicate, searchPredicate, priority);
+    }
+
+    /**
+     * Returns the keyword and priority shown, such as {@code "john" / High}, or an empty string if there are none.
+     */
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        if (searchPredicate != null) {
+            parts.add("\"" + searchPredicate.getKeyword() + "\"");
+        }
+        if (priority != null) {
+            parts.add(priority.toString());
+        }
+        return String.join(" / ", parts);
+    }
+}
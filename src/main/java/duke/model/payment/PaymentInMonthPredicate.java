@@ -1,30 +1,23 @@
 package duke.model.payment;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
-
-import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is coming to due in current month.
  */
-public class PaymentInMonthPredicate implements Predicate<Payment> {
+public class PaymentInMonthPredicate extends PaymentDuePredicate {
 
     public PaymentInMonthPredicate() {
-
+        this(LocalDate.now());
     }
 
-    @Override
-    public boolean test(Payment payment) {
-        requireNonNull(payment);
-
-        LocalDate due = payment.getDue();
-        LocalDate now = LocalDate.now();
-
-        boolean isSameYear = (due.getYear() == now.getYear());
-        boolean isSameMonth = due.getMonth().equals(now.getMonth());
-        boolean isOverdue = due.isBefore(now);
-
-        return (isSameYear && isSameMonth && !isOverdue);
+    /**
+     * Constructs a predicate for the payments coming to due in the month of {@code today},
+     * from {@code today} to the last day of that month.
+     *
+     * @param today the current day
+     */
+    PaymentInMonthPredicate(LocalDate today) {
+        super(today, today.withDayOfMonth(today.lengthOfMonth()));
     }
 }
@@ -1,40 +1,24 @@
 package duke.model.payment;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
-
-import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is coming to due in current week.
  */
-public class PaymentInWeekPredicate implements Predicate<Payment> {
+public class PaymentInWeekPredicate extends PaymentDuePredicate {
 
     public PaymentInWeekPredicate() {
-
+        this(LocalDate.now());
     }
 
-    @Override
-    public boolean test(Payment payment) {
-        requireNonNull(payment);
-
-        LocalDate now = LocalDate.now();
-        LocalDate due = payment.getDue();
-
-        // The current day of week. e.g. Wednesday corresponds to 3
-        int dayOfWeek = now.getDayOfWeek().getValue();
-
-        // Monday of current week
-        LocalDate thisMonday = now.minusDays(dayOfWeek - 1);
-
-        // Sunday of current week
-        LocalDate thisSunday = now.plusDays(7 - dayOfWeek);
-
-        boolean isInCurrentWeek = due.equals(thisSunday) || due.equals(thisMonday)
-                || (due.isAfter(thisMonday) && due.isBefore(thisSunday));
-
-        boolean isOverdue = due.isBefore(now);
-
-        return (!isOverdue && isInCurrentWeek);
+    /**
+     * Constructs a predicate for the payments coming to due in the week of {@code today},
+     * from {@code today} to the Sunday of that week.
+     *
+     * @param today the current day
+     */
+    PaymentInWeekPredicate(LocalDate today) {
+        // The current day of week is 1 on Monday to 7 on Sunday
+        super(today, today.plusDays(7 - today.getDayOfWeek().getValue()));
     }
 }
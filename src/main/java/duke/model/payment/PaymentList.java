@@ -9,8 +9,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -23,12 +27,17 @@ import static java.util.Objects.requireNonNull;
  *
  * Payments can be sorted according to their amounts, due or priorities,
  * where payments with higher amounts, priorities and closer due will be placed at prior.
+ * Payments that tie are kept in the order they were added.
+ * The list is only fully sorted when the sorting criteria changes; a payment added or edited is
+ * inserted at its place, so that the Ui only sees that one payment change.
  *
  * Time scope of payments can be altered such that it can choose to only shows payments
  * overdue, coming in current week, coming in current month or in all time.
  *
  * Payments can be searched by keyword. Those containing keyword in their
  * description, receiver, or tag will be found out.
+ *
+ * The time scope, the keyword and a priority can be active together, as parts of one {@code PaymentFilter}.
  */
 public class PaymentList {
 
@@ -74,9 +83,15 @@ public class PaymentList {
      * Sorting criteria of payments.
      */
     public enum SortingCriteria {
-        TIME,
-        AMOUNT,
-        PRIORITY;
+        TIME(Comparator.comparing(Payment::getDue)),
+        AMOUNT(Comparator.comparing(Payment::getAmount).reversed()), // payments with higher amounts will be prior.
+        PRIORITY(Comparator.comparing(Payment::getNumeratedPriority).reversed()); // higher priority will be prior.
+
+        private final Comparator<Payment> comparator;
+
+        SortingCriteria(Comparator<Payment> comparator) {
+            this.comparator = comparator;
+        }
     }
 
     /**
@@ -97,13 +112,13 @@ public class PaymentList {
 
         // Fills the filtered list
         filteredList = new FilteredList<Payment>(internalList);
-        filteredList.setPredicate(PREDICATE_SHOW_ALL_PAYMENTS);
+        filteredList.setPredicate(new PaymentFilter());
 
         // Fills the external unmodifiable list
         unmodifiableFilteredList = FXCollections.unmodifiableObservableList(filteredList);
 
         // Sets the fetcher of Ui
-        predicateIndicator.setValue(PREDICATE_SHOW_ALL_PAYMENTS);
+        predicateIndicator.setValue(filteredList.getPredicate());
         sortingCriteriaIndicator.setValue(sortingCriteria);
     }
 
@@ -115,25 +130,52 @@ public class PaymentList {
     }
 
     /**
-     * Adds a payment to the list.
-     * The list will then be sorted.
+     * Adds a payment to the list, after the payments that sort before or tie with it.
      */
     public void add(Payment payment) {
         requireNonNull(payment);
 
-        internalList.add(payment);
-        sortInternalList();
+        internalList.add(findInsertionIndex(payment), payment);
     }
 
     /**
      * Removes the payment at {@code index} from the list.
      * The payment must exist in the list.
-     * The list will then be sorted.
      */
     public void remove(int index) throws DukeException {
-        Payment target = getPayment(index);
-        internalList.remove(target);
-        sortInternalList();
+        internalList.remove(getSourceIndex(index));
+    }
+
+    /**
+     * Removes {@code payment} itself, rather than a payment equal to it, from the list.
+     * Used to reverse adding it.
+     *
+     * @param payment the payment to remove.
+     * @return true if the payment was in the list.
+     */
+    public boolean remove(Payment payment) {
+        requireNonNull(payment);
+
+        int index = indexOf(payment);
+        if (index < 0) {
+            return false;
+        }
+        internalList.remove(index);
+        return true;
+    }
+
+    /**
+     * Removes {@code payments} themselves from the list at once, so that the Ui sees a single change.
+     *
+     * @param payments the payments to remove.
+     * @return true if any of the payments was in the list.
+     */
+    public boolean removeAll(Collection<Payment> payments) {
+        requireNonNull(payments);
+
+        Set<Payment> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(payments);
+        return internalList.removeAll(toRemove);
     }
 
     /**
@@ -157,17 +199,35 @@ public class PaymentList {
     /**
      * Replaces the payment at {@code index} in the list with {@code editedPayment}.
      * The {@code index} must be a valid index in scope.
-     * The list will then be sorted.
      */
     public void setPayment(int index, Payment editedPayment) throws DukeException {
         requireNonNull(editedPayment);
 
-        remove(index);
-        add(editedPayment);
+        replace(getSourceIndex(index), editedPayment);
     }
 
     /**
-     * Sets the sorting criteria of the internal list.
+     * Replaces {@code payment} itself, rather than a payment equal to it, with {@code replacement}.
+     * Used to reverse editing a payment.
+     *
+     * @param payment the payment to replace.
+     * @param replacement the payment to put in its place.
+     * @return true if the payment was in the list.
+     */
+    public boolean setPayment(Payment payment, Payment replacement) {
+        requireNonNull(payment);
+        requireNonNull(replacement);
+
+        int index = indexOf(payment);
+        if (index < 0) {
+            return false;
+        }
+        replace(index, replacement);
+        return true;
+    }
+
+    /**
+     * Sets the sorting criteria of the internal list, which is sorted again only if the criteria changes.
      * The {@code sortingCriteria} must literally corresponds to an element of enum ignoring the case.
      * Updates the {@code sortingCriteriaIndicator}.
      *
@@ -178,8 +238,11 @@ public class PaymentList {
         requireNonNull(sortingCriteria);
 
         try {
-            this.sortingCriteria = SortingCriteria.valueOf(sortingCriteria.toUpperCase());
-            sortInternalList();
+            SortingCriteria newSortingCriteria = SortingCriteria.valueOf(sortingCriteria.toUpperCase());
+            if (newSortingCriteria != this.sortingCriteria) {
+                this.sortingCriteria = newSortingCriteria;
+                sortInternalList();
+            }
         } catch (IllegalArgumentException e) {
             throw new DukeException(String.format(DukeException.MESSAGE_SORT_CRITERIA_INVALID, sortingCriteria));
         }
@@ -189,7 +252,8 @@ public class PaymentList {
     }
 
     /**
-     * Sets the time predicate of the filtered list.
+     * Sets the time predicate of the filtered list, keeping the keyword and priority searched for.
+     * The payments are not tested again if the same days are already shown.
      * Updates the {@code predicateIndicator}.
      *
      * @param predicate the time predicate to be set
@@ -202,23 +266,50 @@ public class PaymentList {
                 || (predicate instanceof PaymentInMonthPredicate)
                 || (predicate.equals(PREDICATE_SHOW_ALL_PAYMENTS));
 
-        filteredList.setPredicate(predicate);
-
-        // Updates the fetcher of Ui
-        predicateIndicator.setValue(predicate);
+        setFilter(getFilter().withTimePredicate(predicate));
     }
 
     /**
-     * Sets the search predicate to the filtered list by specifying the {@code keyword}.
+     * Sets the search predicate to the filtered list by specifying the {@code keyword},
+     * within the time scope and priority already shown.
+     * An empty {@code keyword} stops searching.
      *
      * @param keyword the keyword to search
      */
     public void setSearchPredicate(String keyword) {
         requireNonNull(keyword);
 
-        SearchKeywordPredicate searchPredicate = new SearchKeywordPredicate(keyword);
-        filteredList.setPredicate(searchPredicate);
-        predicateIndicator.set(searchPredicate);
+        setFilter(getFilter().withKeyword(keyword.isEmpty() ? null : keyword));
+    }
+
+    /**
+     * Only shows the payments of {@code priority}, within the time scope and keyword already shown.
+     *
+     * @param priority the priority to show, or null to show payments of any priority
+     */
+    public void setPriorityPredicate(Payment.Priority priority) {
+        setFilter(getFilter().withPriority(priority));
+    }
+
+    /**
+     * Returns the filter of the payments shown.
+     */
+    public PaymentFilter getFilter() {
+        return (PaymentFilter) filteredList.getPredicate();
+    }
+
+    /**
+     * Sets the filter of the filtered list, unless it is the same as the one already set,
+     * as the filtered list tests every payment again whenever its filter is set.
+     * Updates the {@code predicateIndicator}.
+     */
+    private void setFilter(PaymentFilter filter) {
+        if (!filter.equals(filteredList.getPredicate())) {
+            filteredList.setPredicate(filter);
+        }
+
+        // Updates the fetcher of Ui
+        predicateIndicator.setValue(filter);
     }
 
     /**
@@ -241,7 +332,7 @@ public class PaymentList {
     }
 
     /**
-     * Returns the indicator of predicate, which can be time or search predicate.
+     * Returns the indicator of predicate, which is the {@code PaymentFilter} of the payments shown.
      * It helps Ui auto fetch the predicate used in {@code PaymentList}.
      *
      * @return an {@code ObjectProperty} of {@code Predicate}.
@@ -262,26 +353,76 @@ public class PaymentList {
 
     /**
      * Sorts the internal list with the current {@code sortingCriteria}.
+     * The sort is stable, so payments that tie keep the order they were added in.
      */
     private void sortInternalList() {
-        switch (sortingCriteria) {
-        case TIME:
-            internalList.sort(Comparator.comparing(Payment::getDue));
-            break;
-
-        case AMOUNT:
-            internalList.sort(Comparator.comparing(Payment::getAmount));
-            FXCollections.reverse(internalList); // payments with higher amounts will be prior.
-            break;
-
-        case PRIORITY:
-            internalList.sort(Comparator.comparing(Payment::getNumeratedPriority));
-            FXCollections.reverse(internalList); // payments with higher priority will be prior.
-            break;
-
-        default:
-            logger.warning("Unknown errors occur on sortingCriteria");
-            break;
+        logger.fine("Sorting payments by " + sortingCriteria);
+        internalList.sort(sortingCriteria.comparator);
+    }
+
+    /**
+     * Returns the index in the internal list after the last payment that sorts before or ties with {@code payment}.
+     */
+    private int findInsertionIndex(Payment payment) {
+        Comparator<Payment> comparator = sortingCriteria.comparator;
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(middle), payment) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of {@code payment} itself in the internal list, or -1 if it is not there.
+     * Only the payments that tie with it are looked through.
+     */
+    private int indexOf(Payment payment) {
+        Comparator<Payment> comparator = sortingCriteria.comparator;
+        for (int i = findInsertionIndex(payment) - 1;
+             i >= 0 && comparator.compare(internalList.get(i), payment) == 0; i--) {
+            if (internalList.get(i) == payment) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index in the internal list of the payment at {@code index} in the filtered list.
+     *
+     * @param index the 1-based index in the filtered list.
+     * @return the 0-based index in the internal list.
+     * @throws DukeException if the index is out of scope.
+     */
+    private int getSourceIndex(int index) throws DukeException {
+        if (index < 1 || index > filteredList.size()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_NO_ITEM_AT_INDEX, ITEM_NAME, index));
+        }
+        return filteredList.getSourceIndex(index - 1);
+    }
+
+    /**
+     * Replaces the payment at {@code sourceIndex} in the internal list with {@code replacement}.
+     * If the replacement still sorts into the same place, it is set there as a single change, keeping its place
+     * among the payments it ties with; otherwise the payment is removed and the replacement inserted at its own place.
+     */
+    private void replace(int sourceIndex, Payment replacement) {
+        Comparator<Payment> comparator = sortingCriteria.comparator;
+        boolean isAfterPrevious = sourceIndex == 0
+                || comparator.compare(internalList.get(sourceIndex - 1), replacement) <= 0;
+        boolean isBeforeNext = sourceIndex == internalList.size() - 1
+                || comparator.compare(replacement, internalList.get(sourceIndex + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            internalList.set(sourceIndex, replacement);
+        } else {
+            internalList.remove(sourceIndex);
+            add(replacement);
         }
     }
 }
@@ -1,26 +1,22 @@
 package duke.model.payment;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
-
-import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is overdue.
  */
-public class PaymentOverduePredicate implements Predicate<Payment> {
+public class PaymentOverduePredicate extends PaymentDuePredicate {
 
     public PaymentOverduePredicate() {
-
+        this(LocalDate.now());
     }
 
-    @Override
-    public boolean test(Payment payment) {
-        requireNonNull(payment);
-
-        LocalDate due = payment.getDue();
-        LocalDate now = LocalDate.now();
-
-        return due.isBefore(now);
+    /**
+     * Constructs a predicate for the payments that were due before {@code today}.
+     *
+     * @param today the current day
+     */
+    PaymentOverduePredicate(LocalDate today) {
+        super(null, today.minusDays(1));
     }
 }
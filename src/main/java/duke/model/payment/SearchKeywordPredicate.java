@@ -12,6 +12,11 @@ public class SearchKeywordPredicate implements Predicate<Payment> {
 
     private String keyword;
 
+    /**
+     * The keyword in lower case, worked out once rather than for every payment tested.
+     */
+    private String lowerCaseKeyword;
+
     /**
      * Constructs an object of {@code SearchKeywordPredicate}
      * with the keyword set as the given {@code keyword}.
@@ -22,12 +27,29 @@ public class SearchKeywordPredicate implements Predicate<Payment> {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        this.lowerCaseKeyword = keyword.toLowerCase();
+    }
+
+    public String getKeyword() {
+        return keyword;
     }
 
     @Override
     public boolean test(Payment payment) {
         requireNonNull(payment);
 
-        return payment.containsKeyword(keyword);
+        return payment.containsLowerCaseKeyword(lowerCaseKeyword);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SearchKeywordPredicate
+                && lowerCaseKeyword.equals(((SearchKeywordPredicate) other).lowerCaseKeyword));
+    }
+
+    @Override
+    public int hashCode() {
+        return lowerCaseKeyword.hashCode();
     }
 }
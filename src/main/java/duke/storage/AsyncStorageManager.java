@@ -0,0 +1,425 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.Expense;
+import duke.model.ExpenseHistory;
+import duke.model.ExpenseList;
+import duke.model.Income;
+import duke.model.IncomeList;
+import duke.model.Money;
+import duke.model.Model;
+import duke.model.payment.Payment;
+import duke.model.payment.PaymentList;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Saves Duke++ data on a background thread, so that commands do not wait for the disk.
+ *
+ * <p>Each save takes a snapshot of the store on the calling thread, which only copies references.
+ * The snapshot is written by another {@code Storage} shortly afterwards. Saves of the same store made
+ * before the snapshot is written are merged, so that a burst of commands results in one write per store.
+ * Failed writes are reported to the handler given to {@link #setSaveFailureHandler(Consumer)}.
+ * If the recorded changes of the expense list fail to be written, the list stops recording them,
+ * and a full copy of it is saved by the next {@link #saveDirty(Model)} or by {@link #close()}.
+ *
+ * <p>Loads wait for all pending writes first, so that they always see the latest saved data.
+ * Once {@link #close()} has written them, nothing more is saved.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    /**
+     * How long a save may wait for others to merge with before it is written.
+     */
+    private static final long WRITE_DELAY_MILLIS = 300;
+
+    private static final String EXPENSE_LIST = "expenseList";
+    private static final String PLAN_ATTRIBUTES = "planAttributes";
+    private static final String INCOME_LIST = "incomeList";
+    private static final String BUDGET = "budget";
+    private static final String BUDGET_VIEW = "budgetView";
+    private static final String PAYMENT_LIST = "paymentList";
+
+    /**
+     * A write of one store's snapshot.
+     */
+    private interface SnapshotWrite {
+        void write() throws DukeException, IOException;
+    }
+
+    private final Storage storage;
+    private final ScheduledExecutorService writer;
+    private final SavedVersions savedVersions = new SavedVersions();
+
+    /**
+     * The latest snapshot of each store that has not been written yet. Guarded by {@code this}.
+     */
+    private final Map<String, SnapshotWrite> pendingWrites = new LinkedHashMap<>();
+
+    /**
+     * Whether the pending expense write holds a full copy of the list rather than its recorded changes.
+     * Guarded by {@code this}.
+     */
+    private boolean isExpenseCopyPending = false;
+
+    /**
+     * Whether a full copy of the expense list is being written. Guarded by {@code this}.
+     */
+    private boolean isExpenseCopyWriting = false;
+
+    /**
+     * The expense list that stopped recording its changes on the writer thread, e.g. because they failed to be
+     * written, so that a full copy of it must be taken on the thread changing it. Guarded by {@code this}.
+     */
+    private ExpenseList expenseListToCopy = null;
+
+    private ScheduledFuture<?> scheduledWrite;
+    private volatile Thread writerThread;
+    private volatile boolean isClosed = false;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
+    /**
+     * Creates an {@code AsyncStorageManager} which writes through {@code storage}.
+     *
+     * @param storage the storage to write snapshots and load data with.
+     */
+    public AsyncStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+    }
+
+    /**
+     * Saves the changes recorded by {@code expenseList} in the background.
+     * If it is not recording its changes, a copy of the whole list is saved, and it starts recording them.
+     *
+     * @param expenseList the expense list to save.
+     */
+    @Override
+    public synchronized void saveExpenseList(ExpenseList expenseList) {
+        if (expenseList.isTrackingChanges() && !isExpenseCopyPending && expenseListToCopy == null) {
+            // Collecting the recorded changes is thread-safe, so the list itself can be handed over,
+            // as long as it still records them when the write runs.
+            scheduleWrite(EXPENSE_LIST, () -> writeExpenseChanges(expenseList));
+            return;
+        }
+
+        // A pending copy would be replaced, so the changes made since must be part of the new copy.
+        expenseListToCopy = null;
+        expenseList.startTrackingChanges();
+        expenseList.drainChanges();
+        scheduleExpenseCopy(new ArrayList<>(expenseList.getInternalList()));
+    }
+
+    /**
+     * Saves a copy of {@code expenses} in the background. The copy is written as it is,
+     * without building an expense list around it.
+     *
+     * @param expenses the expenses to save.
+     */
+    @Override
+    public void saveExpenses(List<Expense> expenses) {
+        scheduleExpenseCopy(new ArrayList<>(expenses));
+    }
+
+    /**
+     * Writes the changes recorded by {@code expenseList}, on the writer thread. A list that no longer records them,
+     * e.g. because an earlier write of them failed, is left to the thread changing it to copy,
+     * as copying it here could see it half changed.
+     */
+    private void writeExpenseChanges(ExpenseList expenseList) throws DukeException {
+        try {
+            if (expenseList.isTrackingChanges()) {
+                storage.saveExpenseList(expenseList);
+            }
+        } finally {
+            requireExpenseCopyIfUntracked(expenseList);
+        }
+    }
+
+    private synchronized void requireExpenseCopyIfUntracked(ExpenseList expenseList) {
+        if (!expenseList.isTrackingChanges()) {
+            expenseListToCopy = expenseList;
+        }
+    }
+
+    /**
+     * Saves a copy of the expense list whose recorded changes could not be written, if there is one.
+     * Called on the thread changing the list.
+     *
+     * @return true if a copy was saved.
+     */
+    private synchronized boolean saveRequiredExpenseCopy() {
+        if (expenseListToCopy == null) {
+            return false;
+        }
+        saveExpenseList(expenseListToCopy);
+        return true;
+    }
+
+    private synchronized void scheduleExpenseCopy(List<Expense> expensesCopy) {
+        isExpenseCopyPending = true;
+        scheduleWrite(EXPENSE_LIST, () -> storage.saveExpenses(expensesCopy));
+    }
+
+    @Override
+    public ExpenseList loadExpenseList() throws DukeException {
+        flush();
+        ExpenseList expenseList = storage.loadExpenseList();
+        ExpenseHistory history = expenseList.getHistory();
+        if (history != null && !(history instanceof FlushingExpenseHistory)) {
+            expenseList.setHistory(new FlushingExpenseHistory(history));
+        }
+        return expenseList;
+    }
+
+    @Override
+    public void savePlanAttributes(Map<String, String> attributes) {
+        Map<String, String> attributesCopy = new HashMap<>(attributes);
+        scheduleWrite(PLAN_ATTRIBUTES, () -> storage.savePlanAttributes(attributesCopy));
+    }
+
+    @Override
+    public Map<String, String> loadPlanAttributes() {
+        flush();
+        return storage.loadPlanAttributes();
+    }
+
+    @Override
+    public void saveIncomeList(IncomeList incomeList) {
+        List<Income> incomes = new ArrayList<>(incomeList.getInternalList());
+        scheduleWrite(INCOME_LIST, () -> storage.saveIncomeList(new IncomeList(incomes)));
+    }
+
+    @Override
+    public IncomeList loadIncomeList() throws DukeException {
+        flush();
+        return storage.loadIncomeList();
+    }
+
+    @Override
+    public Budget loadBudget() throws IOException, DukeException {
+        flush();
+        return storage.loadBudget();
+    }
+
+    @Override
+    public void saveBudget(Budget budget) {
+        BigDecimal monthlyBudget = budget.getMonthlyBudget();
+        Map<String, BigDecimal> budgetCategory = new HashMap<>(budget.getBudgetCategory());
+        scheduleWrite(BUDGET, () -> storage.saveBudget(new Budget(monthlyBudget, budgetCategory)));
+    }
+
+    @Override
+    public BudgetView loadBudgetView() throws IOException, DukeException {
+        flush();
+        return storage.loadBudgetView();
+    }
+
+    @Override
+    public void saveBudgetView(BudgetView budgetView) {
+        Map<Integer, String> budgetViewCategory = new HashMap<>(budgetView.getBudgetViewCategory());
+        scheduleWrite(BUDGET_VIEW, () -> storage.saveBudgetView(new BudgetView(budgetViewCategory)));
+    }
+
+    @Override
+    public Optional<PaymentList> loadPaymentList() throws DukeException {
+        flush();
+        return storage.loadPaymentList();
+    }
+
+    @Override
+    public void savePaymentList(PaymentList paymentList) {
+        List<Payment> payments = new ArrayList<>(paymentList.getInternalList());
+        scheduleWrite(PAYMENT_LIST, () -> storage.savePaymentList(new PaymentList(payments)));
+    }
+
+    /**
+     * Exports {@code paymentList} on the calling thread, as the user asked for it and waits to hear the outcome.
+     */
+    @Override
+    public void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException {
+        storage.exportPaymentList(paymentList, exportPath);
+    }
+
+    /**
+     * Saves the stores of {@code model} changed since they were last saved, and a copy of the expense list
+     * if its recorded changes could not be written, even if it has not changed since.
+     */
+    @Override
+    public void saveDirty(Model model) throws DukeException {
+        saveRequiredExpenseCopy();
+        savedVersions.saveDirty(model, this);
+    }
+
+    /**
+     * Writes all pending snapshots and waits for them to be written.
+     * Does nothing once closed. On the writer thread itself, such as from a snapshot being written,
+     * the pending snapshots are written right away, as waiting for the writer would never end.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        if (Thread.currentThread() == writerThread) {
+            writePending();
+            return;
+        }
+        try {
+            writer.submit(this::writePending).get();
+        } catch (RejectedExecutionException e) {
+            logger.fine("Storage closed while flushing");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves");
+        } catch (ExecutionException e) {
+            logger.warning("Pending saves failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes all pending snapshots, then stops the writer thread. Saves made afterwards are dropped,
+     * and {@link #flush()} does nothing, so that nothing is written to storage closed after this.
+     * Called on the thread changing the model, as it may copy the expense list.
+     */
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        saveRequiredExpenseCopy();
+        flush();
+        // The changes of a write that failed just now can still be saved in a copy.
+        if (saveRequiredExpenseCopy()) {
+            flush();
+        }
+        synchronized (this) {
+            isClosed = true;
+            if (!pendingWrites.isEmpty()) {
+                logger.warning("Dropped saves made while closing: " + pendingWrites.keySet());
+                pendingWrites.clear();
+            }
+        }
+        writer.shutdown();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    private synchronized void scheduleWrite(String storeName, SnapshotWrite snapshotWrite) {
+        if (isClosed) {
+            logger.warning("Dropped a save of " + storeName + " made after closing");
+            return;
+        }
+        pendingWrites.put(storeName, snapshotWrite);
+        if (scheduledWrite == null) {
+            scheduledWrite = writer.schedule(this::writePending, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writePending() {
+        Map<String, SnapshotWrite> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isExpenseCopyWriting = isExpenseCopyPending;
+            isExpenseCopyPending = false;
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+
+        for (Map.Entry<String, SnapshotWrite> write : writes.entrySet()) {
+            try {
+                write.getValue().write();
+            } catch (DukeException e) {
+                logger.warning("Failed to save " + write.getKey() + ": " + e.getMessage());
+                saveFailureHandler.accept(e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save " + write.getKey() + ": " + e);
+                saveFailureHandler.accept(String.format(DukeException.MESSAGE_STORE_SAVE_FAILED, write.getKey()));
+            }
+        }
+        synchronized (this) {
+            isExpenseCopyWriting = false;
+        }
+        if (!writes.isEmpty()) {
+            logger.info("Saved " + writes.keySet());
+        }
+    }
+
+    private synchronized boolean hasUnwrittenExpenseCopy() {
+        return isExpenseCopyPending || isExpenseCopyWriting;
+    }
+
+    /**
+     * Loads expense history only after a pending copy of the expense list has been written.
+     * The copy was taken before the history is loaded, so writing it afterwards would leave out the loaded months.
+     */
+    private class FlushingExpenseHistory implements ExpenseHistory {
+        private final ExpenseHistory history;
+
+        FlushingExpenseHistory(ExpenseHistory history) {
+            this.history = history;
+        }
+
+        @Override
+        public List<Expense> loadMonths(YearMonth first, YearMonth last) {
+            if (hasUnwrittenExpenseCopy()) {
+                flush();
+            }
+            return history.loadMonths(first, last);
+        }
+
+        @Override
+        public List<Expense> loadAll() {
+            if (hasUnwrittenExpenseCopy()) {
+                flush();
+            }
+            return history.loadAll();
+        }
+
+        @Override
+        public int getUnloadedCount() {
+            return history.getUnloadedCount();
+        }
+
+        @Override
+        public Money getUnloadedTotal() {
+            return history.getUnloadedTotal();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.Recurrence;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the expense snapshot in a compact binary format, so that loading does not
+ * have to split, map and parse text for every expense.
+ *
+ * <p>The file is laid out as follows, with all numbers big-endian:
+ * <pre>
+ * int     magic number "DPEX"
+ * short   format version
+ * int     number of distinct tags
+ *         for each tag:     int length, UTF-8 bytes
+ * int     number of expenses
+ *         for each expense: long amount in cents, long epoch second of the time (as UTC),
+ *                           int tag number, byte flags, int description length, UTF-8 bytes,
+ *                           and if recurring: int recurrence length, UTF-8 bytes
+ * </pre>
+ * Version 1 files, which have no recurrences, are still read; their recurring expenses recur monthly.
+ */
+public class BinaryExpenseSnapshotCodec implements ExpenseSnapshotCodec {
+
+    private static final int MAGIC = 0x44504558; // "DPEX"
+    private static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_RECURRENCES = 1;
+
+    private static final int FLAG_TENTATIVE = 1;
+    private static final int FLAG_RECURRING = 1 << 1;
+
+    private static final int AMOUNT_SCALE = 2;
+
+    /**
+     * Reads all expenses in {@code file}.
+     * The whole file is read with one bulk read instead of being memory-mapped, as a mapped file
+     * cannot be replaced on some platforms until the mapping is garbage collected.
+     *
+     * @param file the snapshot file.
+     * @return the expenses in the file, in the order they were written.
+     * @throws IOException if the file cannot be read.
+     * @throws DukeException if the file is corrupted.
+     */
+    @Override
+    public List<Expense> read(File file) throws IOException, DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        if (!file.exists() || file.length() == 0) {
+            return expenses;
+        }
+
+        ByteBuffer buffer = readFully(file);
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, file.getPath()));
+            }
+            final short version = buffer.getShort();
+            if (version != VERSION && version != VERSION_WITHOUT_RECURRENCES) {
+                throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, file.getPath()));
+            }
+
+            String[] tags = new String[buffer.getInt()];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = readString(buffer);
+            }
+
+            int expenseCount = buffer.getInt();
+            expenses = new ArrayList<>(expenseCount);
+            Expense.Builder expenseBuilder = new Expense.Builder();
+            for (int i = 0; i < expenseCount; i++) {
+                long amountInCents = buffer.getLong();
+                long epochSecond = buffer.getLong();
+                int tagNumber = buffer.getInt();
+                byte flags = buffer.get();
+                expenseBuilder.setAmount(BigDecimal.valueOf(amountInCents, AMOUNT_SCALE))
+                        .setTime(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC))
+                        .setTag(tags[tagNumber])
+                        .setTentative((flags & FLAG_TENTATIVE) != 0)
+                        .setRecurrence((flags & FLAG_RECURRING) != 0 ? Recurrence.MONTHLY : null)
+                        .setDescription(readString(buffer));
+                if ((flags & FLAG_RECURRING) != 0 && version == VERSION) {
+                    expenseBuilder.setRecurrence(readString(buffer));
+                }
+                expenses.add(expenseBuilder.build());
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, file.getPath()));
+        }
+        return expenses;
+    }
+
+    @Override
+    public void write(List<Expense> expenses, File file) throws IOException {
+        Map<String, Integer> tagNumbers = new LinkedHashMap<>();
+        for (Expense expense : expenses) {
+            tagNumbers.putIfAbsent(expense.getTag(), tagNumbers.size());
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeInt(tagNumbers.size());
+            for (String tag : tagNumbers.keySet()) {
+                writeString(out, tag);
+            }
+
+            out.writeInt(expenses.size());
+            for (Expense expense : expenses) {
+                out.writeLong(expense.getAmountInCents());
+                out.writeLong(expense.getTime().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(tagNumbers.get(expense.getTag()));
+                out.writeByte((expense.isTentative() ? FLAG_TENTATIVE : 0)
+                        | (expense.isRecurring() ? FLAG_RECURRING : 0));
+                writeString(out, expense.getDescription());
+                if (expense.isRecurring()) {
+                    writeString(out, expense.getRecurrence().toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code file} starts like a snapshot written by this codec.
+     *
+     * @param file the file to check.
+     * @return true if the file starts with the binary snapshot's magic number.
+     * @throws IOException if the file cannot be read.
+     */
+    static boolean isBinarySnapshot(File file) throws IOException {
+        if (file.length() < Integer.BYTES) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        }
+    }
+
+    private static ByteBuffer readFully(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Keeps reading until the buffer is full or the file ends.
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
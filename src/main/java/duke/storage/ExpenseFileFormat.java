@@ -0,0 +1,44 @@
+package duke.storage;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The formats the expense snapshots can be stored in.
+ */
+public enum ExpenseFileFormat {
+    TEXT("expenses.txt", new TextExpenseSnapshotCodec()),
+    BINARY("expenses.bin", new BinaryExpenseSnapshotCodec());
+
+    private final String fileName;
+    private final ExpenseSnapshotCodec codec;
+
+    ExpenseFileFormat(String fileName, ExpenseSnapshotCodec codec) {
+        this.fileName = fileName;
+        this.codec = codec;
+    }
+
+    /**
+     * Returns the name of the single file that older versions of Duke++ kept all expenses in, in this format.
+     *
+     * @return the name of the single expense file.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    public ExpenseSnapshotCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the format {@code file} is stored in, going by its content rather than its name.
+     *
+     * @param file the snapshot file to check.
+     * @return the format of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static ExpenseFileFormat of(File file) throws IOException {
+        return BinaryExpenseSnapshotCodec.isBinarySnapshot(file) ? BINARY : TEXT;
+    }
+}
@@ -0,0 +1,373 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.DukeListChange;
+import duke.model.Expense;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the expenses on disk as a snapshot file plus an append-only journal of the changes made since.
+ * The snapshot is read and written by an {@code ExpenseSnapshotCodec}; the journal is always text.
+ * Saving a change only appends it to the journal, so its cost does not depend on how many expenses there are.
+ * Once the journal grows large enough, it is folded into a new snapshot on a background thread.
+ *
+ * <p>Folding goes through the following steps, so that the files can be recovered if Duke++ stops halfway:
+ * <ol>
+ *     <li>The journal is renamed to the compacting file, and new changes go to a fresh journal.</li>
+ *     <li>The snapshot and the compacting file are replayed into the compacted file.</li>
+ *     <li>The compacting file is deleted.</li>
+ *     <li>The compacted file replaces the snapshot.</li>
+ * </ol>
+ */
+public class ExpenseListJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(ExpenseListJournal.class);
+
+    private static final String STORAGE_DELIMITER = "\n\n";
+    private static final String STORAGE_FIELD_DELIMITER = "\n";
+    private static final String CHANGE_FIELD_NAME = "change";
+    private static final String CHANGE_FIELD_PREFIX = CHANGE_FIELD_NAME + ":";
+
+    /**
+     * The journal is never folded before it has this many changes, so that small lists are not
+     * rewritten all the time.
+     */
+    private static final int MIN_CHANGES_BEFORE_COMPACTION = 256;
+
+    /**
+     * Once the journal has more changes than the snapshot has records divided by this number, it is folded.
+     * Each fold rewrites the snapshot, so its cost is spread over at least this fraction of the snapshot's size.
+     */
+    private static final int COMPACTION_RATIO = 4;
+
+    /**
+     * Folds the journals in the background. It is shared by all journals, as there is one per month of expenses.
+     */
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "expense-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File snapshotFile;
+    private final ExpenseSnapshotCodec codec;
+    private final File journalFile;
+    private final File compactingFile;
+    private final File compactedFile;
+
+    private Future<?> compaction;
+
+    private int journalSize;
+    private volatile int snapshotSize;
+
+    /**
+     * Creates a journal for the expenses stored in {@code snapshotFile}.
+     * The journal and temporary files are kept next to the snapshot.
+     *
+     * @param snapshotFile the file holding the expenses as of the last fold.
+     * @param codec the codec to read and write the snapshot with.
+     */
+    public ExpenseListJournal(File snapshotFile, ExpenseSnapshotCodec codec) {
+        this.snapshotFile = snapshotFile;
+        this.codec = codec;
+        journalFile = new File(snapshotFile.getPath() + ".journal");
+        compactingFile = new File(snapshotFile.getPath() + ".journal.compacting");
+        compactedFile = new File(snapshotFile.getPath() + ".compacted");
+    }
+
+    /**
+     * Returns all expenses, i.e. the snapshot with the journal replayed on top of it.
+     * Finishes any fold that was interrupted the last time Duke++ ran.
+     *
+     * @return all expenses.
+     * @throws IOException if the files cannot be read.
+     * @throws DukeException if the snapshot is corrupted.
+     */
+    public synchronized List<Expense> load() throws IOException, DukeException {
+        awaitCompaction();
+        recover();
+        List<Expense> expenses = codec.read(snapshotFile);
+        List<String> changes = readRecords(journalFile);
+        snapshotSize = expenses.size();
+        journalSize = changes.size();
+        logger.info("Loaded " + snapshotSize + " expenses and " + journalSize + " journal changes");
+        return replay(expenses, changes);
+    }
+
+    /**
+     * Returns whether there is nothing stored yet, i.e. neither a snapshot nor a journal.
+     *
+     * @return true if neither the snapshot nor the journal exist.
+     */
+    public boolean isEmpty() {
+        return !snapshotFile.exists() && !journalFile.exists() && !compactingFile.exists()
+                && !compactedFile.exists();
+    }
+
+    /**
+     * Returns the format the snapshot is stored in, finishing any fold that was interrupted first.
+     *
+     * @return the format of the snapshot, or null if there is no snapshot.
+     * @throws IOException if the files cannot be read.
+     * @throws DukeException if an interrupted fold cannot be finished.
+     */
+    public synchronized ExpenseFileFormat getSnapshotFormat() throws IOException, DukeException {
+        awaitCompaction();
+        recover();
+        return snapshotFile.exists() ? ExpenseFileFormat.of(snapshotFile) : null;
+    }
+
+    /**
+     * Returns a string that changes whenever the stored expenses may have changed, so that facts worked out
+     * from them can be checked for being out of date without reading the files again.
+     * Returns null while a fold is unfinished, as the files are about to change.
+     *
+     * @return the sizes and modification time of the files, or null if a fold is unfinished.
+     */
+    public synchronized String getFingerprint() {
+        if ((compaction != null && !compaction.isDone()) || compactingFile.exists() || compactedFile.exists()) {
+            return null;
+        }
+        return snapshotFile.length() + ":" + snapshotFile.lastModified() + ":" + journalFile.length();
+    }
+
+    /**
+     * Renames the snapshot and journal to backup files, so that they are no longer loaded.
+     *
+     * @throws IOException if the files cannot be renamed.
+     */
+    public synchronized void moveToBackup() throws IOException {
+        awaitCompaction();
+        for (File file : new File[] {snapshotFile, journalFile}) {
+            if (file.exists()) {
+                File backupFile = new File(file.getPath() + ".bak");
+                Files.move(file.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, then starts folding the journal in the background
+     * if it has grown large enough.
+     *
+     * @param changes the changes to append, in the order they were made.
+     * @throws IOException if the journal cannot be written to.
+     */
+    public synchronized void append(List<DukeListChange<Expense>> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try (FileWriter fileWriter = new FileWriter(journalFile, true)) {
+            for (DukeListChange<Expense> change : changes) {
+                fileWriter.write(toJournalRecord(change));
+                fileWriter.write(STORAGE_DELIMITER);
+            }
+        }
+        journalSize += changes.size();
+
+        if (journalSize >= Math.max(MIN_CHANGES_BEFORE_COMPACTION, snapshotSize / COMPACTION_RATIO)) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Replaces everything on disk with {@code expenses}. Used when the changes to the list are not known.
+     *
+     * @param expenses all expenses.
+     * @throws IOException if the files cannot be written to.
+     */
+    public synchronized void rewrite(List<Expense> expenses) throws IOException {
+        awaitCompaction();
+        if (journalFile.exists()) {
+            Files.move(journalFile.toPath(), compactingFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        journalSize = 0;
+        commitSnapshot(expenses);
+    }
+
+    private void startCompaction() throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+        if (compactingFile.exists()) {
+            // An earlier fold failed; it will be finished the next time the journal is loaded.
+            return;
+        }
+
+        Files.move(journalFile.toPath(), compactingFile.toPath());
+        journalSize = 0;
+        compaction = compactor.submit(() -> {
+            try {
+                fold();
+            } catch (IOException | DukeException e) {
+                logger.warning("Failed to fold the expense journal: " + e.getMessage());
+            }
+        });
+    }
+
+    private void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Folding the expense journal failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Brings the files back to a consistent state after a fold that was interrupted.
+     */
+    private void recover() throws IOException, DukeException {
+        if (compactedFile.exists()) {
+            if (compactingFile.exists()) {
+                // The compacted file may be incomplete; the fold is redone below.
+                Files.delete(compactedFile.toPath());
+            } else {
+                Files.move(compactedFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (compactingFile.exists()) {
+            fold();
+        }
+    }
+
+    private void fold() throws IOException, DukeException {
+        List<Expense> expenses = replay(codec.read(snapshotFile), readRecords(compactingFile));
+        commitSnapshot(expenses);
+        logger.info("Folded the expense journal into a snapshot of " + expenses.size() + " expenses");
+    }
+
+    private void commitSnapshot(List<Expense> expenses) throws IOException {
+        codec.write(expenses, compactedFile);
+        Files.deleteIfExists(compactingFile.toPath());
+        Files.move(compactedFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        snapshotSize = expenses.size();
+    }
+
+    /**
+     * Applies journal records to the expenses of a snapshot and returns the result.
+     * A removal takes out one expense with the removed storage string; expenses with equal storage strings
+     * cannot be told apart anyway. Journal records that cannot be read are skipped.
+     *
+     * @param expenses the expenses of the snapshot.
+     * @param journalRecords the journal records, in the order the changes were made.
+     * @return the expenses after all changes have been applied.
+     */
+    static List<Expense> replay(List<Expense> expenses, List<String> journalRecords) {
+        List<Expense> replayed = new ArrayList<>(expenses);
+        Map<List<Object>, Deque<Integer>> positions = null;
+
+        for (String journalRecord : journalRecords) {
+            StorageRecordReader reader = new StorageRecordReader(journalRecord);
+            DukeListChange.Type type;
+            Expense expense = null;
+            try {
+                if (!reader.nextRecord() || !reader.nextField() || !reader.isField(CHANGE_FIELD_NAME)) {
+                    throw new IllegalArgumentException("Journal record does not start with its change");
+                }
+                type = DukeListChange.Type.valueOf(reader.getValue().toUpperCase());
+                if (type != DukeListChange.Type.CLEARED) {
+                    expense = TextExpenseSnapshotCodec.readExpense(reader);
+                }
+            } catch (IllegalArgumentException | DukeException e) {
+                logger.warning("Skipping unreadable journal record: " + e.getMessage());
+                continue;
+            }
+
+            switch (type) {
+            case ADDED:
+                if (positions != null) {
+                    positions.computeIfAbsent(storageKey(expense), s -> new ArrayDeque<>()).add(replayed.size());
+                }
+                replayed.add(expense);
+                break;
+
+            case REMOVED:
+                if (positions == null) {
+                    positions = indexPositions(replayed);
+                }
+                Deque<Integer> matches = positions.get(storageKey(expense));
+                if (matches == null || matches.isEmpty()) {
+                    logger.warning("Journal removes an expense that does not exist");
+                    break;
+                }
+                replayed.set(matches.poll(), null);
+                break;
+
+            default: // case CLEARED:
+                replayed.clear();
+                positions = null;
+                break;
+            }
+        }
+
+        replayed.removeIf(Objects::isNull);
+        return replayed;
+    }
+
+    private static Map<List<Object>, Deque<Integer>> indexPositions(List<Expense> expenses) {
+        Map<List<Object>, Deque<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < expenses.size(); i++) {
+            if (expenses.get(i) != null) {
+                positions.computeIfAbsent(storageKey(expenses.get(i)), s -> new ArrayDeque<>()).add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns a key that is equal for two expenses exactly when their storage strings are equal,
+     * without building the storage strings.
+     */
+    private static List<Object> storageKey(Expense expense) {
+        return List.of(expense.getTag(), expense.getAmount(), expense.getDescription(),
+                expense.getTime().truncatedTo(ChronoUnit.MINUTES), expense.isTentative(),
+                String.valueOf(expense.getRecurrence()));
+    }
+
+    private static String toJournalRecord(DukeListChange<Expense> change) {
+        String typeField = CHANGE_FIELD_PREFIX + change.getType().name().toLowerCase();
+        if (change.getType() == DukeListChange.Type.CLEARED) {
+            return typeField;
+        }
+        return typeField + STORAGE_FIELD_DELIMITER + change.getStorageString();
+    }
+
+    private static List<String> readRecords(File file) throws IOException {
+        List<String> records = new ArrayList<>();
+        if (!file.exists()) {
+            return records;
+        }
+        try (Scanner fileReader = new Scanner(file).useDelimiter(STORAGE_DELIMITER)) {
+            while (fileReader.hasNext()) {
+                records.add(fileReader.next());
+            }
+        }
+        return records;
+    }
+}
@@ -1,11 +1,23 @@
 package duke.storage;
 
 import duke.exception.DukeException;
+import duke.model.Expense;
 import duke.model.ExpenseList;
 
+import java.util.List;
+
 public interface ExpenseListStorage {
 
     public void saveExpenseList(ExpenseList expenseList) throws DukeException;
 
+    /**
+     * Writes {@code expenses} as all the expenses of the months they are in and of the months that were loaded,
+     * as when saving an expense list whose changes are not tracked.
+     *
+     * @param expenses a copy of the expenses of an expense list.
+     * @throws DukeException if the expenses could not be saved.
+     */
+    public void saveExpenses(List<Expense> expenses) throws DukeException;
+
     public ExpenseList loadExpenseList() throws DukeException;
 }
@@ -1,58 +1,446 @@
 package duke.storage;
 
+import duke.commons.LogsCenter;
 import duke.exception.DukeException;
+import duke.model.DukeListChange;
 import duke.model.Expense;
+import duke.model.ExpenseHistory;
 import duke.model.ExpenseList;
+import duke.model.Money;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
 
+/**
+ * Stores the expenses in one segment per month, e.g. {@code expenses/2019-11.seg}, plus
+ * {@code expenses/recurring.seg} for recurring expenses. Each segment is a snapshot file together with
+ * a journal of the changes made since the file was last written.
+ *
+ * <p>Only the recurring expenses and those of the current month are loaded at first. The other months
+ * are loaded by the {@code ExpenseList} when its view scope needs them. {@code expenses/segments.index}
+ * remembers how much each segment adds up to, so that the total amount spent is known without loading them.
+ *
+ * <p>Snapshots are written in the {@code ExpenseFileFormat} given. Snapshots in the other format, e.g. after
+ * the format was changed, are converted when the expenses are loaded, and the single expense file kept by
+ * older versions of Duke++ is split into segments.
+ *
+ * @see ExpenseListJournal
+ */
 public class ExpenseListStorageManager implements ExpenseListStorage {
 
-    private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
-    private static final File EXPENSES_FILE = new File(DEFAULT_USER_DIRECTORY, "expenses.txt");
+    private static final Logger logger = LogsCenter.getLogger(ExpenseListStorageManager.class);
 
+    private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
+    private static final String SEGMENT_DIRECTORY_NAME = "expenses";
+    private static final String SEGMENT_FILE_EXTENSION = ".seg";
+    private static final String RECURRING_SEGMENT = "recurring";
+    private static final String INDEX_FILE_NAME = "segments.index";
 
+    private final File userDirectory;
+    private final File segmentDirectory;
+    private final ExpenseFileFormat fileFormat;
+    private final ExpenseSnapshotCodec segmentCodec;
+    private final ExpenseSegmentIndex index;
 
-    private static String STORAGE_DELIMITER = "\n\n";
+    /**
+     * The journals of the segments that exist, by segment name. Guarded by this storage.
+     */
+    private final Map<String, ExpenseListJournal> segments = new HashMap<>();
+    /**
+     * The segments whose expenses have been handed to the expense list. Guarded by this storage.
+     */
+    private final Set<String> loadedSegments = new HashSet<>();
 
     public ExpenseListStorageManager() {
-        DEFAULT_USER_DIRECTORY.mkdirs();
+        this(DEFAULT_USER_DIRECTORY, ExpenseFileFormat.TEXT);
+    }
+
+    public ExpenseListStorageManager(ExpenseFileFormat fileFormat) {
+        this(DEFAULT_USER_DIRECTORY, fileFormat);
     }
 
+    /**
+     * Creates a storage that keeps its files in {@code userDirectory}, with the snapshots in {@code fileFormat}.
+     *
+     * @param userDirectory the directory to keep the expense files in.
+     * @param fileFormat the format to write the snapshot files in.
+     */
+    public ExpenseListStorageManager(File userDirectory, ExpenseFileFormat fileFormat) {
+        this.userDirectory = userDirectory;
+        this.fileFormat = fileFormat;
+        segmentDirectory = new File(userDirectory, SEGMENT_DIRECTORY_NAME);
+        segmentDirectory.mkdirs();
+        segmentCodec = new ExpenseSnapshotCodec() {
+            @Override
+            public List<Expense> read(File file) throws IOException, DukeException {
+                return ExpenseFileFormat.of(file).getCodec().read(file);
+            }
+
+            @Override
+            public void write(List<Expense> expenses, File file) throws IOException {
+                fileFormat.getCodec().write(expenses, file);
+            }
+        };
+        index = new ExpenseSegmentIndex(new File(segmentDirectory, INDEX_FILE_NAME));
+    }
+
+    /**
+     * Saves the changes made to {@code expenseList} since it was last saved.
+     * If its changes are not being tracked, e.g. because it was not loaded from this storage,
+     * the months it has expenses in and the months that were loaded are written instead.
+     * If the changes cannot be saved, {@code expenseList} stops tracking its changes,
+     * so that those months are written on the next save.
+     *
+     * @param expenseList the expense list to save.
+     * @throws DukeException if the changes could not be saved.
+     */
     @Override
-    public void saveExpenseList(ExpenseList expenseList) throws DukeException {
+    public synchronized void saveExpenseList(ExpenseList expenseList) throws DukeException {
         try {
-            EXPENSES_FILE.createNewFile();
-            try (FileWriter fileWriter = new FileWriter(EXPENSES_FILE)) {
-                for (Expense expense : expenseList.getInternalList()) {
-                    fileWriter.write(expense.toStorageString());
-                    fileWriter.write(STORAGE_DELIMITER);
+            if (!expenseList.isTrackingChanges()) {
+                expenseList.drainChanges();
+                rewrite(new ArrayList<>(expenseList.getInternalList()));
+                expenseList.startTrackingChanges();
+                return;
+            }
+
+            Map<String, List<DukeListChange<Expense>>> changesBySegment = new LinkedHashMap<>();
+            for (DukeListChange<Expense> change : expenseList.drainChanges()) {
+                if (change.getType() == DukeListChange.Type.CLEARED) {
+                    // Clearing loads every month first, so the loaded segments are all there is.
+                    for (String segment : loadedSegments) {
+                        changesBySegment.computeIfAbsent(segment, s -> new ArrayList<>()).add(change);
+                    }
+                } else {
+                    changesBySegment.computeIfAbsent(segmentOf(change.getItem()), s -> new ArrayList<>())
+                            .add(change);
+                }
+            }
+            // The list holds all expenses of the segments it changed, e.g. a month it added the first expense to.
+            loadedSegments.addAll(changesBySegment.keySet());
+            try {
+                for (Map.Entry<String, List<DukeListChange<Expense>>> entry : changesBySegment.entrySet()) {
+                    getJournal(entry.getKey()).append(entry.getValue());
                 }
+            } catch (IOException e) {
+                expenseList.stopTrackingChanges();
+                throw e;
             }
         } catch (IOException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, EXPENSES_FILE.getPath()));
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED,
+                    segmentDirectory.getPath()));
         }
     }
 
     @Override
-    public ExpenseList loadExpenseList() {
-        List<Expense> internalList = new ArrayList<Expense>();
+    public synchronized void saveExpenses(List<Expense> expenses) throws DukeException {
         try {
-            EXPENSES_FILE.createNewFile();
-            try (Scanner fileReader = new Scanner(EXPENSES_FILE).useDelimiter(STORAGE_DELIMITER)) {
-                while (fileReader.hasNext()) {
-                    internalList.add(ExpenseList.itemFromStorageString(fileReader.next()));
+            rewrite(expenses);
+        } catch (IOException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED,
+                    segmentDirectory.getPath()));
+        }
+    }
+
+    /**
+     * Writes the segments of {@code expenses}, and empties the loaded segments that none of them are in.
+     */
+    private void rewrite(List<Expense> expenses) throws IOException {
+        Map<String, List<Expense>> expensesBySegment = groupBySegment(expenses);
+        Set<String> rewrittenSegments = new TreeSet<>(loadedSegments);
+        rewrittenSegments.addAll(expensesBySegment.keySet());
+
+        for (String segment : rewrittenSegments) {
+            List<Expense> segmentExpenses = expensesBySegment.getOrDefault(segment, new ArrayList<>());
+            ExpenseListJournal journal = getJournal(segment);
+            synchronized (journal) {
+                journal.rewrite(segmentExpenses);
+                index.put(segment, summarize(segmentExpenses, journal.getFingerprint()));
+            }
+        }
+        loadedSegments.addAll(rewrittenSegments);
+        index.save();
+    }
+
+    /**
+     * Loads the recurring expenses and the expenses of the current month.
+     * The other months are loaded by the expense list when it needs them.
+     * Expenses kept in a single file by older versions of Duke++ are split into segments first.
+     *
+     * @return the expense list, which records its changes so that they can be saved incrementally.
+     */
+    @Override
+    public synchronized ExpenseList loadExpenseList() {
+        // The journals are kept, as they may still be folding in the background.
+        loadedSegments.clear();
+        index.load();
+        findSegments();
+        if (segments.isEmpty()) {
+            try {
+                splitSingleFile();
+            } catch (IOException | DukeException e) {
+                logger.warning("Expense file is corrupted! It will be overwritten on the next save.");
+            }
+        }
+
+        convertSegments();
+
+        List<Expense> expenses = new ArrayList<>(loadSegment(RECURRING_SEGMENT));
+        expenses.addAll(loadSegment(YearMonth.now().toString()));
+        countUnloadedSegments();
+        index.save();
+
+        ExpenseList expenseList = new ExpenseList(expenses);
+        expenseList.startTrackingChanges();
+        expenseList.setHistory(new SegmentHistory());
+        return expenseList;
+    }
+
+    /**
+     * Splits the expenses kept in {@code expenses.txt} or {@code expenses.bin} by older versions of Duke++
+     * into segments, and renames those files to backup files. Only done while there are no segments yet.
+     */
+    private void splitSingleFile() throws IOException, DukeException {
+        for (ExpenseFileFormat format : ExpenseFileFormat.values()) {
+            ExpenseListJournal singleFile = new ExpenseListJournal(new File(userDirectory, format.getFileName()),
+                    format.getCodec());
+            if (singleFile.isEmpty()) {
+                continue;
+            }
+            List<Expense> expenses = singleFile.load();
+            rewrite(expenses);
+            singleFile.moveToBackup();
+            logger.info("Split " + expenses.size() + " expenses in " + format.getFileName() + " into "
+                    + SEGMENT_DIRECTORY_NAME + File.separator);
+        }
+        loadedSegments.clear();
+    }
+
+    /**
+     * Rewrites the segments whose snapshots are not in the configured format, one at a time.
+     * Only segments written before the format was changed are read, so this costs nothing once they are converted.
+     */
+    private void convertSegments() {
+        int convertedCount = 0;
+        for (Map.Entry<String, ExpenseListJournal> entry : segments.entrySet()) {
+            ExpenseListJournal journal = entry.getValue();
+            synchronized (journal) {
+                try {
+                    ExpenseFileFormat format = journal.getSnapshotFormat();
+                    if (format == null || format == fileFormat) {
+                        continue;
+                    }
+                    List<Expense> expenses = journal.load();
+                    journal.rewrite(expenses);
+                    index.put(entry.getKey(), summarize(expenses, journal.getFingerprint()));
+                    convertedCount++;
+                } catch (IOException | DukeException e) {
+                    // The segment is still read in its own format, and written in the configured one when it changes.
+                    logger.warning("Could not convert expense segment " + entry.getKey() + ": " + e.getMessage());
+                }
+            }
+        }
+        if (convertedCount > 0) {
+            logger.info("Converted " + convertedCount + " expense segments to " + fileFormat);
+        }
+    }
+
+    private void findSegments() {
+        File[] files = segmentDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            int extensionStart = name.indexOf(SEGMENT_FILE_EXTENSION);
+            if (extensionStart != -1 && !name.endsWith(".bak") && isSegmentName(name.substring(0, extensionStart))) {
+                getJournal(name.substring(0, extensionStart));
+            }
+        }
+    }
+
+    /**
+     * Makes sure every segment that is not loaded has an up-to-date entry in the index,
+     * reading the segments that changed since the index was written.
+     */
+    private void countUnloadedSegments() {
+        for (Map.Entry<String, ExpenseListJournal> entry : segments.entrySet()) {
+            String segment = entry.getKey();
+            ExpenseListJournal journal = entry.getValue();
+            if (loadedSegments.contains(segment) || index.get(segment, journal.getFingerprint()) != null) {
+                continue;
+            }
+            readSegment(segment);
+        }
+    }
+
+    /**
+     * Loads the expenses of {@code segment} if they have not been loaded yet.
+     *
+     * @param segment the name of the segment.
+     * @return the expenses of the segment, or an empty list if it was already loaded.
+     */
+    private List<Expense> loadSegment(String segment) {
+        if (!loadedSegments.add(segment) || !segments.containsKey(segment)) {
+            return new ArrayList<>();
+        }
+        return readSegment(segment);
+    }
+
+    /**
+     * Reads the expenses of {@code segment} and records their count and total in the index.
+     * A segment that cannot be read is renamed to backup files and treated as empty.
+     */
+    private List<Expense> readSegment(String segment) {
+        ExpenseListJournal journal = getJournal(segment);
+        synchronized (journal) {
+            try {
+                List<Expense> expenses = journal.load();
+                index.put(segment, summarize(expenses, journal.getFingerprint()));
+                return expenses;
+            } catch (IOException | DukeException e) {
+                logger.warning("Expense segment " + segment + " is corrupted! It is moved to a backup file.");
+                index.remove(segment);
+                try {
+                    journal.moveToBackup();
+                } catch (IOException moveException) {
+                    logger.warning("Could not back up expense segment " + segment + ": "
+                            + moveException.getMessage());
+                }
+                return new ArrayList<>();
+            }
+        }
+    }
+
+    private ExpenseListJournal getJournal(String segment) {
+        return segments.computeIfAbsent(segment, s -> new ExpenseListJournal(
+                new File(segmentDirectory, s + SEGMENT_FILE_EXTENSION), segmentCodec));
+    }
+
+    private static ExpenseSegmentIndex.Entry summarize(List<Expense> expenses, String fingerprint) {
+        long totalInCents = 0;
+        for (Expense expense : expenses) {
+            if (!expense.isTentative()) {
+                totalInCents += expense.getAmountInCents();
+            }
+        }
+        return new ExpenseSegmentIndex.Entry(expenses.size(), Money.ofCents(totalInCents), fingerprint);
+    }
+
+    private static Map<String, List<Expense>> groupBySegment(List<Expense> expenses) {
+        Map<String, List<Expense>> expensesBySegment = new LinkedHashMap<>();
+        for (Expense expense : expenses) {
+            expensesBySegment.computeIfAbsent(segmentOf(expense), s -> new ArrayList<>()).add(expense);
+        }
+        return expensesBySegment;
+    }
+
+    private static String segmentOf(Expense expense) {
+        return expense.isRecurring() ? RECURRING_SEGMENT : YearMonth.from(expense.getTime()).toString();
+    }
+
+    private static boolean isSegmentName(String name) {
+        return name.equals(RECURRING_SEGMENT) || toMonth(name) != null;
+    }
+
+    private static YearMonth toMonth(String segment) {
+        try {
+            return YearMonth.parse(segment);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the segments the expense list has not loaded yet.
+     */
+    private class SegmentHistory implements ExpenseHistory {
+
+        @Override
+        public List<Expense> loadMonths(YearMonth first, YearMonth last) {
+            synchronized (ExpenseListStorageManager.this) {
+                List<String> monthSegments = new ArrayList<>();
+                for (String segment : segments.keySet()) {
+                    YearMonth month = toMonth(segment);
+                    if (month != null && !month.isBefore(first) && !month.isAfter(last)) {
+                        monthSegments.add(segment);
+                    }
+                }
+                return loadSegments(monthSegments);
+            }
+        }
+
+        @Override
+        public List<Expense> loadAll() {
+            synchronized (ExpenseListStorageManager.this) {
+                return loadSegments(new ArrayList<>(segments.keySet()));
+            }
+        }
+
+        @Override
+        public int getUnloadedCount() {
+            synchronized (ExpenseListStorageManager.this) {
+                int count = 0;
+                for (ExpenseSegmentIndex.Entry entry : getUnloadedEntries()) {
+                    count += entry.getCount();
+                }
+                return count;
+            }
+        }
+
+        @Override
+        public Money getUnloadedTotal() {
+            synchronized (ExpenseListStorageManager.this) {
+                long totalInCents = 0;
+                for (ExpenseSegmentIndex.Entry entry : getUnloadedEntries()) {
+                    totalInCents += entry.getTotal().getCents();
+                }
+                return Money.ofCents(totalInCents);
+            }
+        }
+
+        private List<Expense> loadSegments(List<String> segmentsToLoad) {
+            List<Expense> expenses = new ArrayList<>();
+            boolean isAnyLoaded = false;
+            for (String segment : segmentsToLoad) {
+                if (!loadedSegments.contains(segment)) {
+                    expenses.addAll(loadSegment(segment));
+                    isAnyLoaded = true;
+                }
+            }
+            if (isAnyLoaded) {
+                index.save();
+            }
+            return expenses;
+        }
+
+        private List<ExpenseSegmentIndex.Entry> getUnloadedEntries() {
+            List<ExpenseSegmentIndex.Entry> entries = new ArrayList<>();
+            for (Map.Entry<String, ExpenseListJournal> segment : segments.entrySet()) {
+                if (loadedSegments.contains(segment.getKey())) {
+                    continue;
+                }
+                ExpenseSegmentIndex.Entry entry = index.get(segment.getKey(), segment.getValue().getFingerprint());
+                if (entry == null) {
+                    readSegment(segment.getKey());
+                    entry = index.get(segment.getKey(), segment.getValue().getFingerprint());
+                }
+                if (entry != null) {
+                    entries.add(entry);
                 }
             }
-        } catch (IOException | DukeException e) {
-            return new ExpenseList(internalList);
+            return entries;
         }
-        return new ExpenseList(internalList);
     }
 }
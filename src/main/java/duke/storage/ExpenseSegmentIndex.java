@@ -0,0 +1,143 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.model.Money;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Remembers how many expenses each segment of {@code ExpenseListStorageManager} holds and how much they add up to,
+ * so that the total amount spent is known without loading every month.
+ * Each entry carries the fingerprint of the segment's files when it was worked out, and is ignored once
+ * the files have changed since.
+ *
+ * <p>The index is kept in a text file with one line per segment:
+ * <pre>
+ * segment count total fingerprint
+ * </pre>
+ */
+class ExpenseSegmentIndex {
+
+    private static final Logger logger = LogsCenter.getLogger(ExpenseSegmentIndex.class);
+
+    private static final String FIELD_DELIMITER = " ";
+
+    private final File indexFile;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * The count and total of the expenses in one segment.
+     */
+    static class Entry {
+        private final int count;
+        private final Money total;
+        private final String fingerprint;
+
+        Entry(int count, Money total, String fingerprint) {
+            this.count = count;
+            this.total = total;
+            this.fingerprint = fingerprint;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        Money getTotal() {
+            return total;
+        }
+    }
+
+    ExpenseSegmentIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Reads the index file. Lines that cannot be read are left out, so their segments are counted again.
+     */
+    void load() {
+        entries.clear();
+        if (!indexFile.exists()) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(indexFile.toPath(), Charset.defaultCharset())) {
+                String[] fields = line.split(FIELD_DELIMITER);
+                if (fields.length != 4) {
+                    continue;
+                }
+                try {
+                    entries.put(fields[0], new Entry(Integer.parseInt(fields[1]), Money.parse(fields[2]),
+                            fields[3]));
+                } catch (NumberFormatException e) {
+                    logger.warning("Skipping unreadable expense index entry for " + fields[0]);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not read " + indexFile.getPath() + ", every segment will be counted again");
+        }
+    }
+
+    /**
+     * Writes the index file. Failing to do so only means the segments are counted again on the next load.
+     */
+    void save() {
+        File temporaryFile = new File(indexFile.getPath() + ".tmp");
+        try {
+            try (FileWriter fileWriter = new FileWriter(temporaryFile)) {
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    fileWriter.write(String.join(FIELD_DELIMITER, List.of(entry.getKey(),
+                            String.valueOf(entry.getValue().count), entry.getValue().total.toString(),
+                            entry.getValue().fingerprint)));
+                    fileWriter.write("\n");
+                }
+            }
+            Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("Could not write " + indexFile.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the entry of {@code segment} if it is up to date with {@code fingerprint}.
+     *
+     * @param segment the name of the segment.
+     * @param fingerprint the current fingerprint of the segment's files.
+     * @return the entry, or null if there is none or it is out of date.
+     */
+    Entry get(String segment, String fingerprint) {
+        Entry entry = entries.get(segment);
+        if (entry == null || fingerprint == null || !fingerprint.equals(entry.fingerprint)) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Records the count and total of {@code segment}. Nothing is recorded without a fingerprint.
+     *
+     * @param segment the name of the segment.
+     * @param entry the count and total of the segment.
+     */
+    void put(String segment, Entry entry) {
+        if (entry.fingerprint == null) {
+            entries.remove(segment);
+        } else {
+            entries.put(segment, entry);
+        }
+    }
+
+    void remove(String segment) {
+        entries.remove(segment);
+    }
+}
@@ -0,0 +1,33 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads and writes the expense snapshot file in one particular format.
+ */
+public interface ExpenseSnapshotCodec {
+
+    /**
+     * Reads all expenses in {@code file}. Returns an empty list if the file does not exist.
+     *
+     * @param file the snapshot file.
+     * @return the expenses in the file, in the order they were written.
+     * @throws IOException if the file cannot be read.
+     * @throws DukeException if the file is corrupted.
+     */
+    List<Expense> read(File file) throws IOException, DukeException;
+
+    /**
+     * Writes {@code expenses} to {@code file}, replacing its contents.
+     *
+     * @param expenses the expenses to write.
+     * @param file the snapshot file.
+     * @throws IOException if the file cannot be written to.
+     */
+    void write(List<Expense> expenses, File file) throws IOException;
+}
@@ -9,9 +9,10 @@ import duke.model.IncomeList;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
@@ -70,10 +71,11 @@ public class IncomeListStorageManager implements IncomeListStorage {
     public IncomeList loadIncomeList() throws DukeException {
         List<Income> internalList = new ArrayList<Income>();
         try {
-            try (Scanner fileReader = new Scanner(INCOME_FILE).useDelimiter(STORAGE_DELIMITER)) {
-                while (fileReader.hasNext()) {
-                    internalList.add(IncomeList.itemFromStorageString(fileReader.next()));
-                }
+            // FileWriter writes with the default charset, so the file is read back with it too.
+            StorageRecordReader reader = new StorageRecordReader(
+                    Files.readString(INCOME_FILE.toPath(), Charset.defaultCharset()));
+            while (reader.nextRecord()) {
+                internalList.add(readIncome(reader));
             }
             requireNonNull(internalList);
             return new IncomeList(internalList);
@@ -83,4 +85,34 @@ public class IncomeListStorageManager implements IncomeListStorage {
             return new IncomeList(newList);
         }
     }
+
+    /**
+     * Reads the fields of the current record of {@code reader} into an income.
+     * Gives the same income as {@code IncomeList.itemFromStorageString} would for the record,
+     * without splitting it into a map first.
+     *
+     * @param reader the reader positioned at a record holding an income's storage string.
+     * @return the income.
+     * @throws DukeException if a field has an invalid value, or the amount or description is missing.
+     */
+    private static Income readIncome(StorageRecordReader reader) throws DukeException {
+        Income.Builder incomeBuilder = new Income.Builder();
+        boolean hasAmount = false;
+        boolean hasDescription = false;
+        while (reader.nextField()) {
+            if (reader.isField("tag")) {
+                incomeBuilder.setTag(reader.getValue());
+            } else if (reader.isField("amount")) {
+                incomeBuilder.setAmount(reader.getValue());
+                hasAmount = true;
+            } else if (reader.isField("description")) {
+                incomeBuilder.setDescription(reader.getValue());
+                hasDescription = true;
+            }
+        }
+        if (!hasAmount || !hasDescription) {
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, INCOME_FILE.getName()));
+        }
+        return incomeBuilder.build();
+    }
 }
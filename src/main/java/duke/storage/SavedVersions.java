@@ -0,0 +1,78 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.Model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Remembers which version of each store of the model a {@code Storage} last saved,
+ * so that only the stores changed since are saved again.
+ */
+class SavedVersions {
+
+    private static final Logger logger = LogsCenter.getLogger(SavedVersions.class);
+
+    private final Map<Model.Store, Long> savedVersions = new EnumMap<>(Model.Store.class);
+
+    /**
+     * Saves the stores of {@code model} whose version advanced since they were last saved through {@code storage}.
+     * The version of a model that has not been saved before is compared with 0, the version of an unchanged model.
+     * A store that fails to save is tried again on the next call.
+     *
+     * @param model the model to save.
+     * @param storage the storage to save the changed stores with.
+     * @throws DukeException if a store could not be saved.
+     */
+    void saveDirty(Model model, Storage storage) throws DukeException {
+        List<Model.Store> skippedStores = new ArrayList<>();
+        for (Model.Store store : Model.Store.values()) {
+            long version = model.getVersion(store);
+            if (version == savedVersions.getOrDefault(store, 0L)) {
+                skippedStores.add(store);
+                continue;
+            }
+            save(store, model, storage);
+            savedVersions.put(store, version);
+        }
+        logger.info("Skipped saving unchanged stores " + skippedStores);
+    }
+
+    private static void save(Model.Store store, Model model, Storage storage) throws DukeException {
+        switch (store) {
+        case EXPENSE_LIST:
+            storage.saveExpenseList(model.getExpenseList());
+            break;
+
+        case PLAN_ATTRIBUTES:
+            storage.savePlanAttributes(model.getKnownPlanAttributes());
+            break;
+
+        case INCOME_LIST:
+            storage.saveIncomeList(model.getIncomeList());
+            break;
+
+        case BUDGET:
+            storage.saveBudget(model.getBudget());
+            break;
+
+        case BUDGET_VIEW:
+            storage.saveBudgetView(model.getBudgetView());
+            break;
+
+        default: // case PAYMENT_LIST:
+            try {
+                storage.savePaymentList(model.getPaymentList());
+            } catch (IOException e) {
+                throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+            }
+            break;
+        }
+    }
+}
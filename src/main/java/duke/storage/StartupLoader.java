@@ -0,0 +1,106 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Loads all stores of a {@code Storage} at the same time when Duke++ starts.
+ * The stores are kept in different files, so reading and parsing them in parallel makes startup take
+ * about as long as the largest store rather than all of them together.
+ * As {@code StorageManager} remembers what it loaded, the model can then load the stores without waiting.
+ */
+public class StartupLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupLoader.class);
+
+    private static final int MAX_THREADS = 6;
+
+    /**
+     * A load of one store.
+     */
+    private interface StoreLoad {
+        void load() throws DukeException, IOException;
+    }
+
+    private final Storage storage;
+    private final int threadCount;
+
+    public StartupLoader(Storage storage) {
+        this(storage, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a {@code StartupLoader} which loads at most {@code threadCount} stores at a time.
+     */
+    StartupLoader(Storage storage, int threadCount) {
+        requireNonNull(storage);
+        assert threadCount >= 1;
+        this.storage = storage;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Loads every store in parallel and waits for all of them, logging how long each one took.
+     *
+     * @throws DukeException if a store could not be loaded.
+     * @throws IOException if a store could not be read.
+     */
+    public void loadAll() throws DukeException, IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final long start = System.nanoTime();
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        loads.add(loadAsync("expenseList", storage::loadExpenseList, pool));
+        loads.add(loadAsync("planAttributes", storage::loadPlanAttributes, pool));
+        loads.add(loadAsync("incomeList", storage::loadIncomeList, pool));
+        loads.add(loadAsync("budget", storage::loadBudget, pool));
+        loads.add(loadAsync("budgetView", storage::loadBudgetView, pool));
+        loads.add(loadAsync("paymentList", storage::loadPaymentList, pool));
+
+        try {
+            CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DukeException) {
+                throw (DukeException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+        logger.info(String.format("Loaded all stores in %d ms", toMillis(System.nanoTime() - start)));
+    }
+
+    private static CompletableFuture<Void> loadAsync(String storeName, StoreLoad storeLoad, ExecutorService pool) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                storeLoad.load();
+            } catch (DukeException | IOException e) {
+                throw new CompletionException(e);
+            }
+            logger.info(String.format("Loaded %s in %d ms", storeName, toMillis(System.nanoTime() - start)));
+        }, pool);
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
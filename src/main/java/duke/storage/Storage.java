@@ -3,14 +3,19 @@ package duke.storage;
 import duke.exception.DukeException;
 import duke.model.Budget;
 import duke.model.BudgetView;
+import duke.model.Expense;
 import duke.model.ExpenseList;
 import duke.model.payment.PaymentList;
 import duke.model.IncomeList;
+import duke.model.Model;
 
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * API of the Storage component.
@@ -19,6 +24,14 @@ public interface Storage {
 
     void saveExpenseList(ExpenseList expenseList) throws DukeException;
 
+    /**
+     * Writes {@code expenses} as a copy of the whole expense list.
+     *
+     * @param expenses a copy of the expenses of an expense list.
+     * @throws DukeException If errors occur during saving process.
+     */
+    void saveExpenses(List<Expense> expenses) throws DukeException;
+
     ExpenseList loadExpenseList() throws DukeException;
 
     void savePlanAttributes(Map<String, String> attributes) throws DukeException;
@@ -53,4 +66,34 @@ public interface Storage {
      */
     void savePaymentList(PaymentList paymentList) throws IOException;
 
+    /**
+     * Writes paymentList to {@code exportPath} in a human-readable form, before returning.
+     *
+     * @param paymentList The paymentList to be exported.
+     * @param exportPath The file to export to.
+     * @throws IOException If errors occur during writing process.
+     */
+    void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException;
+
+    /**
+     * Saves the stores of {@code model} that changed since they were last saved through this storage,
+     * and logs the ones that are skipped.
+     *
+     * @param model the model to save.
+     * @throws DukeException If errors occur during saving process.
+     */
+    void saveDirty(Model model) throws DukeException;
+
+    /**
+     * Waits until everything saved so far has been written.
+     */
+    void flush();
+
+    /**
+     * Sets the handler told about saves that fail after the save method has returned.
+     *
+     * @param saveFailureHandler receives a message describing each failed save.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
 }
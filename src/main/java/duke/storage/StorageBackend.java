@@ -0,0 +1,15 @@
+package duke.storage;
+
+/**
+ * Where the expenses, incomes and payments are kept.
+ */
+public enum StorageBackend {
+    /**
+     * Text and json files in the user directory.
+     */
+    FILES,
+    /**
+     * An embedded database in the user directory, see {@code duke.storage.database.Database}.
+     */
+    DATABASE
+}
@@ -0,0 +1,116 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * The storage settings read from {@code storage.properties} in the user directory.
+ * Every setting has a default, so the file is optional. For example:
+ * <pre>
+ * expense.format=binary
+ * storage.backend=database
+ * expense.columnar=true
+ * </pre>
+ */
+public class StorageConfig {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageConfig.class);
+
+    private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
+    private static final String CONFIG_FILE_NAME = "storage.properties";
+
+    private static final String EXPENSE_FORMAT_KEY = "expense.format";
+    private static final String BACKEND_KEY = "storage.backend";
+    private static final String EXPENSE_COLUMNAR_KEY = "expense.columnar";
+
+    private final ExpenseFileFormat expenseFileFormat;
+    private final StorageBackend backend;
+    private final boolean isExpenseListColumnar;
+
+    public StorageConfig(ExpenseFileFormat expenseFileFormat) {
+        this(expenseFileFormat, StorageBackend.FILES);
+    }
+
+    public StorageConfig(ExpenseFileFormat expenseFileFormat, StorageBackend backend) {
+        this(expenseFileFormat, backend, false);
+    }
+
+    /**
+     * Creates the settings.
+     *
+     * @param expenseFileFormat the format of the expense file.
+     * @param backend where the lists are stored.
+     * @param isExpenseListColumnar whether the loaded expenses are kept as columns rather than as objects.
+     */
+    public StorageConfig(ExpenseFileFormat expenseFileFormat, StorageBackend backend, boolean isExpenseListColumnar) {
+        this.expenseFileFormat = expenseFileFormat;
+        this.backend = backend;
+        this.isExpenseListColumnar = isExpenseListColumnar;
+    }
+
+    /**
+     * Reads the settings from {@code storage.properties} in the default user directory.
+     *
+     * @return the settings, with defaults for the ones not given.
+     */
+    public static StorageConfig load() {
+        return load(DEFAULT_USER_DIRECTORY);
+    }
+
+    /**
+     * Reads the settings from {@code storage.properties} in {@code userDirectory}.
+     * Settings that are missing or invalid are given their default values.
+     *
+     * @param userDirectory the directory containing {@code storage.properties}.
+     * @return the settings, with defaults for the ones not given.
+     */
+    public static StorageConfig load(File userDirectory) {
+        Properties properties = new Properties();
+        File configFile = new File(userDirectory, CONFIG_FILE_NAME);
+        if (configFile.exists()) {
+            try (FileReader fileReader = new FileReader(configFile)) {
+                properties.load(fileReader);
+            } catch (IOException e) {
+                logger.warning("Could not read " + configFile.getPath() + ", using the default settings");
+            }
+        }
+
+        ExpenseFileFormat expenseFileFormat = ExpenseFileFormat.TEXT;
+        String expenseFormatName = properties.getProperty(EXPENSE_FORMAT_KEY, expenseFileFormat.name());
+        try {
+            expenseFileFormat = ExpenseFileFormat.valueOf(expenseFormatName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning(expenseFormatName + " is not a valid " + EXPENSE_FORMAT_KEY + ", using "
+                    + expenseFileFormat.name().toLowerCase());
+        }
+
+        StorageBackend backend = StorageBackend.FILES;
+        String backendName = properties.getProperty(BACKEND_KEY, backend.name());
+        try {
+            backend = StorageBackend.valueOf(backendName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning(backendName + " is not a valid " + BACKEND_KEY + ", using " + backend.name().toLowerCase());
+        }
+
+        boolean isExpenseListColumnar = Boolean.parseBoolean(
+                properties.getProperty(EXPENSE_COLUMNAR_KEY, "false").trim());
+        return new StorageConfig(expenseFileFormat, backend, isExpenseListColumnar);
+    }
+
+    public ExpenseFileFormat getExpenseFileFormat() {
+        return expenseFileFormat;
+    }
+
+    public StorageBackend getBackend() {
+        return backend;
+    }
+
+    public boolean isExpenseListColumnar() {
+        return isExpenseListColumnar;
+    }
+}
@@ -4,18 +4,25 @@ import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 import duke.model.Budget;
 import duke.model.BudgetView;
+import duke.model.Expense;
 import duke.model.ExpenseList;
 import duke.model.payment.PaymentList;
 import duke.storage.payment.PaymentListStorage;
 import duke.model.IncomeList;
+import duke.model.Model;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
  * Manages storage of Duke++ data in local storage.
+ * Each store is read from disk only the first time it is loaded; later loads return the same instance,
+ * which is kept up to date by the model.
  */
 public class StorageManager implements Storage {
 
@@ -28,6 +35,14 @@ public class StorageManager implements Storage {
     private BudgetViewStorage budgetViewStorage;
     private PaymentListStorage paymentListStorage;
 
+    private final SavedVersions savedVersions = new SavedVersions();
+
+    private ExpenseList expenseList;
+    private Map<String, String> planAttributes;
+    private IncomeList incomeList;
+    private Budget budget;
+    private BudgetView budgetView;
+    private Optional<PaymentList> paymentList;
 
     /**
      * Constructs StorageManager with storage of each models.
@@ -59,9 +74,17 @@ public class StorageManager implements Storage {
         expenseListStorage.saveExpenseList(expenseList);
     }
 
+    @Override
+    public void saveExpenses(List<Expense> expenses) throws DukeException {
+        expenseListStorage.saveExpenses(expenses);
+    }
+
     @Override
     public ExpenseList loadExpenseList() throws DukeException {
-        return expenseListStorage.loadExpenseList();
+        if (expenseList == null) {
+            expenseList = expenseListStorage.loadExpenseList();
+        }
+        return expenseList;
     }
 
     @Override
@@ -71,7 +94,10 @@ public class StorageManager implements Storage {
 
     @Override
     public Map<String, String> loadPlanAttributes() {
-        return planAttributesStorage.loadAttributes();
+        if (planAttributes == null) {
+            planAttributes = planAttributesStorage.loadAttributes();
+        }
+        return planAttributes;
     }
 
     @Override
@@ -81,12 +107,18 @@ public class StorageManager implements Storage {
 
     @Override
     public IncomeList loadIncomeList() throws DukeException {
-        return incomeListStorage.loadIncomeList();
+        if (incomeList == null) {
+            incomeList = incomeListStorage.loadIncomeList();
+        }
+        return incomeList;
     }
 
     @Override
     public Budget loadBudget() throws IOException, DukeException {
-        return budgetStorage.loadBudget();
+        if (budget == null) {
+            budget = budgetStorage.loadBudget();
+        }
+        return budget;
     }
 
     @Override
@@ -96,7 +128,10 @@ public class StorageManager implements Storage {
 
     @Override
     public BudgetView loadBudgetView() throws IOException, DukeException {
-        return budgetViewStorage.loadBudgetView();
+        if (budgetView == null) {
+            budgetView = budgetViewStorage.loadBudgetView();
+        }
+        return budgetView;
     }
 
     @Override
@@ -106,12 +141,39 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<PaymentList> loadPaymentList() {
-        logger.info("start loading paymentList");
-        return paymentListStorage.readPaymentList();
+        if (paymentList == null) {
+            logger.info("start loading paymentList");
+            paymentList = paymentListStorage.readPaymentList();
+        }
+        return paymentList;
     }
 
     @Override
     public void savePaymentList(PaymentList paymentList) throws IOException {
         paymentListStorage.savePaymentList(paymentList);
     }
+
+    @Override
+    public void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException {
+        paymentListStorage.exportPaymentList(paymentList, exportPath);
+    }
+
+    @Override
+    public void saveDirty(Model model) throws DukeException {
+        savedVersions.saveDirty(model, this);
+    }
+
+    /**
+     * Does nothing, as every save is written before its save method returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Does nothing, as failed saves are thrown by their save methods.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+    }
 }
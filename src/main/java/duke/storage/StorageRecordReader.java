@@ -0,0 +1,119 @@
+package duke.storage;
+
+/**
+ * Reads storage strings written by {@code toStorageString}, i.e. records of {@code name:value} lines
+ * separated by blank lines, in a single pass over the text.
+ * Field names are compared in place, so the only strings created are the values that are asked for.
+ *
+ * <p>Typical use:
+ * <pre>
+ * while (reader.nextRecord()) {
+ *     while (reader.nextField()) {
+ *         if (reader.isField("amount")) {
+ *             builder.setAmount(reader.getValue());
+ *         }
+ *     }
+ * }
+ * </pre>
+ */
+public class StorageRecordReader {
+
+    private static final char FIELD_DELIMITER = '\n';
+    private static final char NAME_SEPARATOR = ':';
+
+    private final String text;
+
+    /**
+     * Where the next record or field starts looking from.
+     */
+    private int position = 0;
+    private int recordEnd = 0;
+
+    private int nameStart;
+    private int nameEnd;
+    private int valueStart;
+    private int valueEnd;
+
+    public StorageRecordReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Moves to the next record, skipping any blank lines before it.
+     * The fields of the previous record that were not read are skipped.
+     *
+     * @return false if there are no more records.
+     */
+    public boolean nextRecord() {
+        position = Math.max(position, recordEnd);
+        while (position < text.length() && text.charAt(position) == FIELD_DELIMITER) {
+            position++;
+        }
+        if (position >= text.length()) {
+            return false;
+        }
+
+        int blankLine = text.indexOf("\n\n", position);
+        recordEnd = blankLine == -1 ? text.length() : blankLine;
+        return true;
+    }
+
+    /**
+     * Moves to the next field of the current record.
+     * A line without a name separator is read as a field with that name and an empty value.
+     *
+     * @return false if there are no more fields in the current record.
+     */
+    public boolean nextField() {
+        if (position >= recordEnd) {
+            return false;
+        }
+
+        int lineEnd = text.indexOf(FIELD_DELIMITER, position);
+        if (lineEnd == -1 || lineEnd > recordEnd) {
+            lineEnd = recordEnd;
+        }
+        int separator = text.indexOf(NAME_SEPARATOR, position);
+
+        nameStart = position;
+        if (separator == -1 || separator > lineEnd) {
+            nameEnd = lineEnd;
+            valueStart = lineEnd;
+        } else {
+            nameEnd = separator;
+            valueStart = separator + 1;
+        }
+        valueEnd = lineEnd;
+        position = lineEnd + 1;
+        return true;
+    }
+
+    /**
+     * Returns whether the current field is called {@code name}.
+     *
+     * @param name the field name to check for.
+     * @return true if the current field has the given name.
+     */
+    public boolean isField(String name) {
+        return nameEnd - nameStart == name.length() && text.startsWith(name, nameStart);
+    }
+
+    /**
+     * Returns the value of the current field.
+     *
+     * @return the value of the current field.
+     */
+    public String getValue() {
+        return text.substring(valueStart, valueEnd);
+    }
+
+    /**
+     * Returns whether the value of the current field is {@code true}, ignoring case,
+     * as {@code Boolean.parseBoolean} would.
+     *
+     * @return true if the value of the current field is "true".
+     */
+    public boolean getBooleanValue() {
+        return valueEnd - valueStart == 4 && text.regionMatches(true, valueStart, "true", 0, 4);
+    }
+}
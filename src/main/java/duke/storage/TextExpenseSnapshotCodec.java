@@ -0,0 +1,78 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.logic.parser.Parser;
+import duke.model.Expense;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the expense snapshot as storage strings separated by blank lines,
+ * the format {@code expenses.txt} has always used.
+ */
+public class TextExpenseSnapshotCodec implements ExpenseSnapshotCodec {
+
+    private static final String STORAGE_DELIMITER = "\n\n";
+
+    @Override
+    public List<Expense> read(File file) throws IOException, DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        if (!file.exists()) {
+            return expenses;
+        }
+        // FileWriter writes with the default charset, so the file is read back with it too.
+        StorageRecordReader reader = new StorageRecordReader(
+                Files.readString(file.toPath(), Charset.defaultCharset()));
+        while (reader.nextRecord()) {
+            expenses.add(readExpense(reader));
+        }
+        return expenses;
+    }
+
+    /**
+     * Reads the remaining fields of the current record of {@code reader} into an expense.
+     * Gives the same expense as {@code ExpenseList.itemFromStorageString} would for the record,
+     * without splitting it into a map first.
+     *
+     * @param reader the reader positioned at a record holding an expense's storage string.
+     * @return the expense.
+     * @throws DukeException if a field has an invalid value.
+     */
+    static Expense readExpense(StorageRecordReader reader) throws DukeException {
+        Expense.Builder expenseBuilder = new Expense.Builder();
+        while (reader.nextField()) {
+            if (reader.isField("tag")) {
+                expenseBuilder.setTag(reader.getValue());
+            } else if (reader.isField("amount")) {
+                expenseBuilder.setAmount(reader.getValue());
+            } else if (reader.isField("description")) {
+                expenseBuilder.setDescription(reader.getValue());
+            } else if (reader.isField("time")) {
+                expenseBuilder.setTime(Parser.parseTime(reader.getValue()));
+            } else if (reader.isField("isTentative")) {
+                expenseBuilder.setTentative(reader.getBooleanValue());
+            } else if (reader.isField("isRecurring")) {
+                expenseBuilder.setRecurring(reader.getBooleanValue());
+            } else if (reader.isField("recurrence")) {
+                expenseBuilder.setRecurrence(reader.getValue());
+            }
+        }
+        return expenseBuilder.build();
+    }
+
+    @Override
+    public void write(List<Expense> expenses, File file) throws IOException {
+        try (FileWriter fileWriter = new FileWriter(file)) {
+            for (Expense expense : expenses) {
+                fileWriter.write(expense.toStorageString());
+                fileWriter.write(STORAGE_DELIMITER);
+            }
+        }
+    }
+}
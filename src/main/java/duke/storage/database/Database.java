@@ -0,0 +1,189 @@
+package duke.storage.database;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * An embedded H2 database kept in {@code duke.mv.db} in the user directory, holding the expenses,
+ * incomes and payments in indexed tables.
+ *
+ * <p>A single connection is shared by the database storages, so every use of it goes through
+ * {@link #transact(Work)}, one at a time.
+ */
+public class Database {
+
+    private static final Logger logger = LogsCenter.getLogger(Database.class);
+
+    private static final String DATABASE_NAME = "duke";
+
+    /**
+     * Each commit is written out straight away, and the database is closed by Duke++ rather than by H2,
+     * so that saves still pending when Duke++ exits are not cut off.
+     */
+    private static final String URL_SETTINGS = ";DB_CLOSE_ON_EXIT=FALSE;WRITE_DELAY=0";
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS expense ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "amount DECIMAL(19, 2) NOT NULL, "
+                    + "description VARCHAR NOT NULL, "
+                    + "tag VARCHAR NOT NULL, "
+                    + "time TIMESTAMP NOT NULL, "
+                    + "is_tentative BOOLEAN NOT NULL, "
+                    + "is_recurring BOOLEAN NOT NULL)",
+            "ALTER TABLE expense ADD COLUMN IF NOT EXISTS recurrence VARCHAR",
+            "CREATE INDEX IF NOT EXISTS expense_time ON expense(is_recurring, time)",
+            "CREATE INDEX IF NOT EXISTS expense_tag ON expense(tag)",
+            "CREATE INDEX IF NOT EXISTS expense_amount ON expense(amount)",
+            "CREATE TABLE IF NOT EXISTS income ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "amount DECIMAL(19, 2) NOT NULL, "
+                    + "description VARCHAR NOT NULL, "
+                    + "tag VARCHAR NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS payment ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "description VARCHAR NOT NULL, "
+                    + "receiver VARCHAR NOT NULL, "
+                    + "due DATE NOT NULL, "
+                    + "tag VARCHAR NOT NULL, "
+                    + "amount DECIMAL NOT NULL, "
+                    + "priority VARCHAR NOT NULL)",
+            "ALTER TABLE payment ADD COLUMN IF NOT EXISTS recurrence VARCHAR",
+            "ALTER TABLE payment ADD COLUMN IF NOT EXISTS recurrence_start DATE",
+            "CREATE INDEX IF NOT EXISTS payment_due ON payment(due)",
+            "CREATE TABLE IF NOT EXISTS setting ("
+                    + "name VARCHAR PRIMARY KEY, "
+                    + "value VARCHAR NOT NULL)");
+
+    private final File databaseFile;
+    private final Connection connection;
+
+    /**
+     * Work done on the database within a single transaction.
+     *
+     * @param <T> the result of the work.
+     */
+    public interface Work<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    private Database(File databaseFile, Connection connection) {
+        this.databaseFile = databaseFile;
+        this.connection = connection;
+    }
+
+    /**
+     * Opens the database in {@code userDirectory}, creating it and its tables if they do not exist yet.
+     *
+     * @param userDirectory the directory to keep the database in.
+     * @return the open database.
+     * @throws DukeException if the database cannot be opened, e.g. because another Duke++ has it open.
+     */
+    public static Database open(File userDirectory) throws DukeException {
+        userDirectory.mkdirs();
+        File databaseFile = new File(userDirectory, DATABASE_NAME);
+        String url = "jdbc:h2:file:" + databaseFile.getAbsolutePath() + URL_SETTINGS;
+        try {
+            Connection connection = DriverManager.getConnection(url);
+            try (Statement statement = connection.createStatement()) {
+                for (String definition : SCHEMA) {
+                    statement.execute(definition);
+                }
+            }
+            logger.info("Opened the database in " + userDirectory.getPath());
+            return new Database(databaseFile, connection);
+        } catch (SQLException e) {
+            logger.warning("Could not open the database: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, databaseFile.getPath()));
+        }
+    }
+
+    /**
+     * Runs {@code work} in a transaction, which is rolled back if the work fails.
+     *
+     * @param work the work to do.
+     * @param <T> the result of the work.
+     * @return the result of the work.
+     * @throws SQLException if the work fails or cannot be committed.
+     */
+    public synchronized <T> T transact(Work<T> work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Returns the value of the setting called {@code name}.
+     *
+     * @param name the name of the setting.
+     * @return the value of the setting, or null if it has not been set.
+     * @throws SQLException if the setting cannot be read.
+     */
+    public String getSetting(String name) throws SQLException {
+        return transact(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT value FROM setting WHERE name = ?")) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString(1) : null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets the setting called {@code name} to {@code value}.
+     *
+     * @param name the name of the setting.
+     * @param value the value to set it to.
+     * @throws SQLException if the setting cannot be written.
+     */
+    public void putSetting(String name, String value) throws SQLException {
+        transact(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "MERGE INTO setting KEY(name) VALUES (?, ?)")) {
+                statement.setString(1, name);
+                statement.setString(2, value);
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Closes the database. Saves pending when Duke++ exits should be written before this is called.
+     */
+    public synchronized void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Could not close the database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the path of the database, for messages about it.
+     *
+     * @return the path of the database, without the extension H2 adds.
+     */
+    public String getPath() {
+        return databaseFile.getPath();
+    }
+}
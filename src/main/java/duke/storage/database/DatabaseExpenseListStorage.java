@@ -0,0 +1,423 @@
+package duke.storage.database;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.DukeListChange;
+import duke.model.Expense;
+import duke.model.ExpenseHistory;
+import duke.model.ExpenseList;
+import duke.model.Money;
+import duke.storage.ExpenseListStorage;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * Stores the expenses in the {@code expense} table of a {@code Database}, indexed by time, tag and amount.
+ *
+ * <p>Like {@code ExpenseListStorageManager}, only the recurring expenses and those of the current month are
+ * loaded at first, and the other months are read by time range when the {@code ExpenseList} needs them.
+ * The changes recorded by the list are saved as single-row inserts and deletes, so saving does not depend
+ * on how many expenses there are.
+ */
+public class DatabaseExpenseListStorage implements ExpenseListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseExpenseListStorage.class);
+
+    private static final String COLUMNS = "id, amount, description, tag, time, is_tentative, is_recurring, "
+            + "recurrence";
+    private static final String INSERT = "INSERT INTO expense (amount, description, tag, time, is_tentative, "
+            + "is_recurring, recurrence) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM expense WHERE id = ?";
+    private static final String MONTH_CONDITION = "NOT is_recurring AND time >= ? AND time < ?";
+
+    private final Database database;
+
+    /**
+     * The row of each expense handed to or saved from the expense list. Guarded by this storage.
+     */
+    private final Map<Expense, Long> rowIds = new IdentityHashMap<>();
+    /**
+     * The months whose expenses have been handed to the expense list. Guarded by this storage.
+     */
+    private final Set<YearMonth> loadedMonths = new HashSet<>();
+    private boolean isRecurringLoaded = false;
+    private boolean isAllLoaded = false;
+    private int unloadedCount = 0;
+    private long unloadedTotalInCents = 0;
+
+    public DatabaseExpenseListStorage(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Saves the changes made to {@code expenseList} since it was last saved.
+     * If its changes are not being tracked, e.g. because it was not loaded from this storage,
+     * the months it has expenses in and the months that were loaded are written instead.
+     * If the changes cannot be saved, {@code expenseList} stops tracking its changes,
+     * so that those months are written on the next save.
+     *
+     * @param expenseList the expense list to save.
+     * @throws DukeException if the changes could not be saved.
+     */
+    @Override
+    public synchronized void saveExpenseList(ExpenseList expenseList) throws DukeException {
+        try {
+            if (!expenseList.isTrackingChanges()) {
+                expenseList.drainChanges();
+                rewrite(new ArrayList<>(expenseList.getInternalList()));
+                expenseList.startTrackingChanges();
+                return;
+            }
+
+            List<DukeListChange<Expense>> changes = expenseList.drainChanges();
+            try {
+                database.transact(connection -> {
+                    applyChanges(connection, changes);
+                    return null;
+                });
+            } catch (SQLException e) {
+                expenseList.stopTrackingChanges();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not save the expenses: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, database.getPath()));
+        }
+    }
+
+    private void applyChanges(Connection connection, List<DukeListChange<Expense>> changes) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement delete = connection.prepareStatement(DELETE)) {
+            for (DukeListChange<Expense> change : changes) {
+                switch (change.getType()) {
+                case ADDED:
+                    markLoaded(change.getItem());
+                    rowIds.put(change.getItem(), insert(insert, change.getItem()));
+                    break;
+                case REMOVED:
+                    Long rowId = rowIds.remove(change.getItem());
+                    if (rowId != null) {
+                        delete.setLong(1, rowId);
+                        delete.executeUpdate();
+                    }
+                    break;
+                case CLEARED:
+                    // Clearing loads every month first, so the loaded months are all there is.
+                    deleteLoaded(connection, new HashSet<>(), isRecurringLoaded);
+                    rowIds.clear();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown change " + change.getType());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void saveExpenses(List<Expense> expenses) throws DukeException {
+        try {
+            rewrite(expenses);
+        } catch (SQLException e) {
+            logger.warning("Could not save the expenses: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, database.getPath()));
+        }
+    }
+
+    /**
+     * Replaces the expenses of the loaded months and the months of {@code expenses} with {@code expenses}.
+     */
+    private void rewrite(List<Expense> expenses) throws SQLException {
+        Set<YearMonth> months = new TreeSet<>();
+        boolean hasRecurring = false;
+        for (Expense expense : expenses) {
+            if (expense.isRecurring()) {
+                hasRecurring = true;
+            } else {
+                months.add(YearMonth.from(expense.getTime()));
+            }
+        }
+        final boolean isRecurringRewritten = isRecurringLoaded || hasRecurring;
+
+        List<Expense> replaced = new ArrayList<>();
+        Map<Expense, Long> insertedRowIds = new IdentityHashMap<>();
+        database.transact(connection -> {
+            for (YearMonth month : months) {
+                if (!isLoaded(month)) {
+                    replaced.addAll(readMonths(connection, month, month));
+                }
+            }
+            deleteLoaded(connection, months, isRecurringRewritten);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+                for (Expense expense : expenses) {
+                    insertedRowIds.put(expense, insert(insert, expense));
+                }
+            }
+            return null;
+        });
+
+        // The months that were not loaded are now part of the list, so they no longer count as unloaded.
+        uncount(replaced);
+        loadedMonths.addAll(months);
+        isRecurringLoaded = isRecurringRewritten;
+        rowIds.clear();
+        rowIds.putAll(insertedRowIds);
+    }
+
+    /**
+     * Deletes the expenses of the loaded months and {@code otherMonths}, and the recurring ones if asked to.
+     */
+    private void deleteLoaded(Connection connection, Set<YearMonth> otherMonths, boolean isRecurringDeleted)
+            throws SQLException {
+        if (isAllLoaded) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(isRecurringDeleted
+                        ? "DELETE FROM expense"
+                        : "DELETE FROM expense WHERE NOT is_recurring");
+            }
+            return;
+        }
+        Set<YearMonth> months = new TreeSet<>(loadedMonths);
+        months.addAll(otherMonths);
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM expense WHERE " + MONTH_CONDITION)) {
+            for (YearMonth month : months) {
+                setMonthRange(delete, 1, month, month);
+                delete.executeUpdate();
+            }
+        }
+        if (isRecurringDeleted) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM expense WHERE is_recurring");
+            }
+        }
+    }
+
+    /**
+     * Loads the recurring expenses and the expenses of the current month.
+     * The other months are loaded by the expense list when it needs them.
+     *
+     * @return the expense list, which records its changes so that they can be saved incrementally.
+     * @throws DukeException if the expenses cannot be read.
+     */
+    @Override
+    public synchronized ExpenseList loadExpenseList() throws DukeException {
+        rowIds.clear();
+        loadedMonths.clear();
+        isAllLoaded = false;
+        YearMonth currentMonth = YearMonth.now();
+        try {
+            List<Expense> expenses = database.transact(connection -> {
+                List<Expense> loaded = new ArrayList<>();
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT " + COLUMNS + " FROM expense WHERE is_recurring")) {
+                    loaded.addAll(readRows(select));
+                }
+                loaded.addAll(readMonths(connection, currentMonth, currentMonth));
+
+                try (PreparedStatement count = connection.prepareStatement(
+                        "SELECT COUNT(*), SUM(CASE WHEN is_tentative THEN 0 ELSE amount END) FROM expense "
+                                + "WHERE NOT is_recurring AND (time < ? OR time >= ?)")) {
+                    setMonthRange(count, 1, currentMonth, currentMonth);
+                    try (ResultSet resultSet = count.executeQuery()) {
+                        resultSet.next();
+                        unloadedCount = resultSet.getInt(1);
+                        BigDecimal total = resultSet.getBigDecimal(2);
+                        unloadedTotalInCents = total == null ? 0 : Money.of(total).getCents();
+                    }
+                }
+                return loaded;
+            });
+            isRecurringLoaded = true;
+            loadedMonths.add(currentMonth);
+
+            ExpenseList expenseList = new ExpenseList(expenses);
+            expenseList.startTrackingChanges();
+            expenseList.setHistory(new TableHistory());
+            return expenseList;
+        } catch (SQLException e) {
+            logger.warning("Could not load the expenses: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, database.getPath()));
+        }
+    }
+
+    /**
+     * Reads the non-recurring expenses from {@code first} to {@code last} (inclusive), using the time index.
+     */
+    private List<Expense> readMonths(Connection connection, YearMonth first, YearMonth last) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT " + COLUMNS + " FROM expense WHERE " + MONTH_CONDITION)) {
+            setMonthRange(select, 1, first, last);
+            return readRows(select);
+        }
+    }
+
+    /**
+     * Reads the expenses selected by {@code select}, remembering their rows.
+     * Rows that do not make a valid expense are left out.
+     */
+    private List<Expense> readRows(PreparedStatement select) throws SQLException {
+        List<Expense> expenses = new ArrayList<>();
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                try {
+                    Expense.Builder expenseBuilder = new Expense.Builder()
+                            .setAmount(resultSet.getBigDecimal("amount"))
+                            .setDescription(resultSet.getString("description"))
+                            .setTag(resultSet.getString("tag"))
+                            .setTime(resultSet.getObject("time", LocalDateTime.class))
+                            .setTentative(resultSet.getBoolean("is_tentative"))
+                            .setRecurring(resultSet.getBoolean("is_recurring"));
+                    // Rows saved before recurrences were stored have none, and recur monthly.
+                    String recurrence = resultSet.getString("recurrence");
+                    if (resultSet.getBoolean("is_recurring") && recurrence != null) {
+                        expenseBuilder.setRecurrence(recurrence);
+                    }
+                    Expense expense = expenseBuilder.build();
+                    rowIds.put(expense, resultSet.getLong("id"));
+                    expenses.add(expense);
+                } catch (DukeException e) {
+                    logger.warning("Skipping invalid expense row " + resultSet.getLong("id") + ": " + e.getMessage());
+                }
+            }
+        }
+        return expenses;
+    }
+
+    private static long insert(PreparedStatement insert, Expense expense) throws SQLException {
+        insert.setBigDecimal(1, expense.getAmount());
+        insert.setString(2, expense.getDescription());
+        insert.setString(3, expense.getTag());
+        insert.setObject(4, expense.getTime());
+        insert.setBoolean(5, expense.isTentative());
+        insert.setBoolean(6, expense.isRecurring());
+        insert.setString(7, expense.isRecurring() ? expense.getRecurrence().toString() : null);
+        insert.executeUpdate();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    private static void setMonthRange(PreparedStatement statement, int firstIndex, YearMonth first, YearMonth last)
+            throws SQLException {
+        statement.setObject(firstIndex, first.atDay(1).atStartOfDay());
+        statement.setObject(firstIndex + 1, last.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    private boolean isLoaded(YearMonth month) {
+        return isAllLoaded || loadedMonths.contains(month);
+    }
+
+    private void markLoaded(Expense expense) {
+        if (expense.isRecurring()) {
+            isRecurringLoaded = true;
+        } else {
+            loadedMonths.add(YearMonth.from(expense.getTime()));
+        }
+    }
+
+    /**
+     * Takes {@code expenses}, which have just been loaded, out of the unloaded count and total.
+     */
+    private void uncount(List<Expense> expenses) {
+        unloadedCount -= expenses.size();
+        for (Expense expense : expenses) {
+            if (!expense.isTentative()) {
+                unloadedTotalInCents -= expense.getAmountInCents();
+            }
+        }
+    }
+
+    /**
+     * Reads the months the expense list has not loaded yet.
+     */
+    private class TableHistory implements ExpenseHistory {
+
+        @Override
+        public List<Expense> loadMonths(YearMonth first, YearMonth last) {
+            synchronized (DatabaseExpenseListStorage.this) {
+                List<Expense> expenses = new ArrayList<>();
+                List<YearMonth> months = new ArrayList<>();
+                for (YearMonth month = first; !isAllLoaded && !month.isAfter(last); month = month.plusMonths(1)) {
+                    if (!loadedMonths.contains(month)) {
+                        months.add(month);
+                    }
+                }
+                try {
+                    database.transact(connection -> {
+                        for (YearMonth month : months) {
+                            expenses.addAll(readMonths(connection, month, month));
+                        }
+                        return null;
+                    });
+                } catch (SQLException e) {
+                    logger.warning("Could not load the expenses from " + first + " to " + last + ": "
+                            + e.getMessage());
+                    return new ArrayList<>();
+                }
+                loadedMonths.addAll(months);
+                uncount(expenses);
+                return expenses;
+            }
+        }
+
+        @Override
+        public List<Expense> loadAll() {
+            synchronized (DatabaseExpenseListStorage.this) {
+                List<Expense> expenses = new ArrayList<>();
+                if (isAllLoaded) {
+                    return expenses;
+                }
+                try {
+                    List<Expense> nonRecurring = database.transact(connection -> {
+                        try (PreparedStatement select = connection.prepareStatement(
+                                "SELECT " + COLUMNS + " FROM expense WHERE NOT is_recurring")) {
+                            return readRows(select);
+                        }
+                    });
+                    for (Expense expense : nonRecurring) {
+                        if (loadedMonths.contains(YearMonth.from(expense.getTime()))) {
+                            rowIds.remove(expense);
+                        } else {
+                            expenses.add(expense);
+                        }
+                    }
+                    isAllLoaded = true;
+                    unloadedCount = 0;
+                    unloadedTotalInCents = 0;
+                } catch (SQLException e) {
+                    logger.warning("Could not load the expenses: " + e.getMessage());
+                }
+                return expenses;
+            }
+        }
+
+        @Override
+        public int getUnloadedCount() {
+            synchronized (DatabaseExpenseListStorage.this) {
+                return unloadedCount;
+            }
+        }
+
+        @Override
+        public Money getUnloadedTotal() {
+            synchronized (DatabaseExpenseListStorage.this) {
+                return Money.ofCents(unloadedTotalInCents);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package duke.storage.database;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.Income;
+import duke.model.IncomeList;
+import duke.storage.IncomeListStorage;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Stores the incomes in the {@code income} table of a {@code Database}.
+ * Only the incomes added or deleted since the last save are written.
+ */
+public class DatabaseIncomeListStorage implements IncomeListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseIncomeListStorage.class);
+
+    private final Database database;
+    private final SavedRows<Income> savedRows = new SavedRows<>("income", (connection, income) -> {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO income (amount, description, tag) VALUES (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            insert.setBigDecimal(1, income.getAmount());
+            insert.setString(2, income.getDescription());
+            insert.setString(3, income.getTag());
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    });
+
+    public DatabaseIncomeListStorage(Database database) {
+        this.database = database;
+    }
+
+    @Override
+    public synchronized void saveIncomeList(IncomeList incomeList) throws DukeException {
+        List<Income> incomes = new ArrayList<>(incomeList.getInternalList());
+        try {
+            database.transact(connection -> {
+                savedRows.save(connection, incomes);
+                return null;
+            });
+        } catch (SQLException e) {
+            savedRows.reset();
+            logger.warning("Could not save the incomes: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, database.getPath()));
+        }
+    }
+
+    @Override
+    public synchronized IncomeList loadIncomeList() throws DukeException {
+        savedRows.reset();
+        try {
+            List<Income> incomes = database.transact(connection -> {
+                List<Income> loaded = new ArrayList<>();
+                try (Statement select = connection.createStatement();
+                        ResultSet resultSet = select.executeQuery(
+                                "SELECT id, amount, description, tag FROM income ORDER BY id")) {
+                    while (resultSet.next()) {
+                        try {
+                            Income income = new Income.Builder()
+                                    .setAmount(resultSet.getBigDecimal("amount"))
+                                    .setDescription(resultSet.getString("description"))
+                                    .setTag(resultSet.getString("tag"))
+                                    .build();
+                            savedRows.put(income, resultSet.getLong("id"));
+                            loaded.add(income);
+                        } catch (DukeException e) {
+                            logger.warning("Skipping invalid income row " + resultSet.getLong("id"));
+                        }
+                    }
+                }
+                return loaded;
+            });
+            savedRows.markInSync();
+            return new IncomeList(incomes);
+        } catch (SQLException e) {
+            savedRows.reset();
+            logger.warning("Could not load the incomes: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, database.getPath()));
+        }
+    }
+}
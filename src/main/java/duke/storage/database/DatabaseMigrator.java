@@ -0,0 +1,75 @@
+package duke.storage.database;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseHistory;
+import duke.model.ExpenseList;
+import duke.model.payment.PaymentList;
+import duke.storage.ExpenseListStorage;
+import duke.storage.IncomeListStorage;
+import duke.storage.payment.PaymentListStorage;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Copies the expenses, incomes and payments kept in files into a {@code Database} the first time it is used,
+ * so that switching to the database keeps the data entered so far.
+ * The files are left as they are, so switching back to them gives the data as it was before the switch.
+ */
+public class DatabaseMigrator {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseMigrator.class);
+
+    private static final String MIGRATED_SETTING = "migrated";
+
+    private final Database database;
+
+    public DatabaseMigrator(Database database) {
+        this.database = database;
+    }
+
+    /**
+     * Copies the data in the given file storages into the database, unless it has been done before.
+     * Copying again after an interrupted migration replaces what was copied the first time.
+     *
+     * @param expenseListStorage the storage the expenses are kept in.
+     * @param incomeListStorage the storage the incomes are kept in.
+     * @param paymentListStorage the storage the payments are kept in.
+     * @return true if the data was copied, false if it had been copied before.
+     * @throws DukeException if the data cannot be read or written.
+     */
+    public boolean migrateOnce(ExpenseListStorage expenseListStorage, IncomeListStorage incomeListStorage,
+                               PaymentListStorage paymentListStorage) throws DukeException {
+        try {
+            if (database.getSetting(MIGRATED_SETTING) != null) {
+                return false;
+            }
+
+            ExpenseList expenseList = expenseListStorage.loadExpenseList();
+            List<Expense> expenses = new ArrayList<>(expenseList.getInternalList());
+            ExpenseHistory history = expenseList.getHistory();
+            if (history != null) {
+                expenses.addAll(history.loadAll());
+            }
+            new DatabaseExpenseListStorage(database).saveExpenseList(new ExpenseList(expenses));
+            new DatabaseIncomeListStorage(database).saveIncomeList(incomeListStorage.loadIncomeList());
+            Optional<PaymentList> paymentList = paymentListStorage.readPaymentList();
+            if (paymentList.isPresent()) {
+                new DatabasePaymentListStorage(database).savePaymentList(paymentList.get());
+            }
+
+            database.putSetting(MIGRATED_SETTING, Boolean.TRUE.toString());
+            logger.info("Copied " + expenses.size() + " expenses and the incomes and payments into the database");
+            return true;
+        } catch (SQLException | IOException e) {
+            logger.warning("Could not copy the data into the database: " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, database.getPath()));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package duke.storage.database;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.payment.Payment;
+import duke.model.payment.PaymentList;
+import duke.storage.payment.PaymentListStorage;
+import duke.storage.payment.PaymentListStorageManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores the payments in the {@code payment} table of a {@code Database}, indexed by due date.
+ * Only the payments added, edited or deleted since the last save are written.
+ */
+public class DatabasePaymentListStorage implements PaymentListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabasePaymentListStorage.class);
+
+    private static final DateTimeFormatter DUE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final Database database;
+    private final SavedRows<Payment> savedRows = new SavedRows<>("payment", (connection, payment) -> {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO payment (description, receiver, due, tag, amount, priority, recurrence, recurrence_start) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, payment.getDescription());
+            insert.setString(2, payment.getReceiver());
+            insert.setObject(3, payment.getDue());
+            insert.setString(4, payment.getTag());
+            insert.setBigDecimal(5, payment.getAmount());
+            insert.setString(6, payment.getPriority().name());
+            insert.setString(7, payment.isRecurring() ? payment.getRecurrence().toString() : null);
+            insert.setObject(8, payment.getRecurrenceStart());
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    });
+
+    public DatabasePaymentListStorage(Database database) {
+        this.database = database;
+    }
+
+    @Override
+    public synchronized Optional<PaymentList> readPaymentList() {
+        savedRows.reset();
+        try {
+            List<Payment> payments = database.transact(connection -> {
+                List<Payment> loaded = new ArrayList<>();
+                try (Statement select = connection.createStatement();
+                        ResultSet resultSet = select.executeQuery("SELECT id, description, receiver, due, tag, "
+                                + "amount, priority, recurrence, recurrence_start FROM payment ORDER BY id")) {
+                    while (resultSet.next()) {
+                        try {
+                            Payment payment = readPayment(resultSet);
+                            savedRows.put(payment, resultSet.getLong("id"));
+                            loaded.add(payment);
+                        } catch (DukeException e) {
+                            logger.warning("Skipping invalid payment row " + resultSet.getLong("id") + ": "
+                                    + e.getMessage());
+                        }
+                    }
+                }
+                return loaded;
+            });
+            savedRows.markInSync();
+            return Optional.of(new PaymentList(payments));
+        } catch (SQLException e) {
+            savedRows.reset();
+            logger.warning("Could not load the payments: " + e.getMessage());
+            return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
+        }
+    }
+
+    /**
+     * Reads the payment in the current row of {@code resultSet}. Empty optional fields are left unset,
+     * as is the recurrence of a one-off payment.
+     */
+    private static Payment readPayment(ResultSet resultSet) throws SQLException, DukeException {
+        Payment.Builder paymentBuilder = new Payment.Builder()
+                .setDescription(resultSet.getString("description"))
+                .setDue(resultSet.getObject("due", LocalDate.class).format(DUE_FORMATTER))
+                .setAmount(resultSet.getBigDecimal("amount").toPlainString())
+                .setPriority(resultSet.getString("priority"));
+        String receiver = resultSet.getString("receiver");
+        if (!receiver.isEmpty()) {
+            paymentBuilder.setReceiver(receiver);
+        }
+        String tag = resultSet.getString("tag");
+        if (!tag.isEmpty()) {
+            paymentBuilder.setTag(tag);
+        }
+        String recurrence = resultSet.getString("recurrence");
+        if (recurrence != null) {
+            paymentBuilder.setRecurrence(recurrence);
+            LocalDate recurrenceStart = resultSet.getObject("recurrence_start", LocalDate.class);
+            if (recurrenceStart != null) {
+                paymentBuilder.setRecurrenceStart(recurrenceStart.format(DUE_FORMATTER));
+            }
+        }
+        return paymentBuilder.build();
+    }
+
+    @Override
+    public synchronized void savePaymentList(PaymentList paymentList) throws IOException {
+        requireNonNull(paymentList);
+        List<Payment> payments = new ArrayList<>(paymentList.getInternalList());
+        try {
+            database.transact(connection -> {
+                savedRows.save(connection, payments);
+                return null;
+            });
+        } catch (SQLException e) {
+            savedRows.reset();
+            throw new IOException("Could not save the payments to " + database.getPath(), e);
+        }
+    }
+
+    /**
+     * Exports the payments as pretty-printed json, the same as the file storage does.
+     */
+    @Override
+    public void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException {
+        PaymentListStorageManager.exportAsJson(paymentList, exportPath);
+    }
+}
@@ -0,0 +1,103 @@
+package duke.storage.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers which row each item of a list was saved to, so that saving the list again only inserts the items
+ * that were added and deletes the items that were removed since. Items are told apart by identity, which works
+ * for lists of immutable items, such as incomes and payments, where an edit replaces the item.
+ *
+ * @param <T> the items of the list.
+ */
+class SavedRows<T> {
+
+    /**
+     * Inserts an item into its table.
+     *
+     * @param <T> the items of the list.
+     */
+    interface RowInserter<T> {
+        /**
+         * Inserts {@code item} and returns the id of its row.
+         */
+        long insert(Connection connection, T item) throws SQLException;
+    }
+
+    private final String table;
+    private final RowInserter<T> inserter;
+
+    private Map<T, Long> rowIds = new IdentityHashMap<>();
+    /**
+     * Whether {@code rowIds} matches the table. Until the table has been read, or if a save failed,
+     * the whole table is rewritten on the next save.
+     */
+    private boolean isInSync = false;
+
+    SavedRows(String table, RowInserter<T> inserter) {
+        this.table = table;
+        this.inserter = inserter;
+    }
+
+    /**
+     * Records that {@code item} was read from the row {@code rowId}.
+     */
+    void put(T item, long rowId) {
+        rowIds.put(item, rowId);
+    }
+
+    /**
+     * Marks the rows put since the last {@link #reset()} as the whole table.
+     */
+    void markInSync() {
+        isInSync = true;
+    }
+
+    /**
+     * Forgets every row, so that the next save rewrites the table.
+     */
+    void reset() {
+        rowIds = new IdentityHashMap<>();
+        isInSync = false;
+    }
+
+    /**
+     * Makes the table hold exactly {@code items}, inserting and deleting only the rows that differ.
+     * Should be run in a transaction; if it fails, the table is rewritten on the next save.
+     *
+     * @param connection the connection to the database.
+     * @param items the items to save.
+     * @throws SQLException if the rows cannot be written.
+     */
+    void save(Connection connection, List<T> items) throws SQLException {
+        boolean wasInSync = isInSync;
+        Map<T, Long> previousRowIds = rowIds;
+        reset();
+        Map<T, Long> savedRowIds = new IdentityHashMap<>();
+
+        if (!wasInSync) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + table);
+            }
+            previousRowIds = new IdentityHashMap<>();
+        }
+        for (T item : items) {
+            Long rowId = previousRowIds.remove(item);
+            savedRowIds.put(item, rowId == null ? inserter.insert(connection, item) : rowId);
+        }
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+            for (long rowId : previousRowIds.values()) {
+                delete.setLong(1, rowId);
+                delete.executeUpdate();
+            }
+        }
+
+        rowIds = savedRowIds;
+        isInSync = true;
+    }
+}
@@ -2,9 +2,14 @@ package duke.storage.payment;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import duke.exception.DukeException;
 import duke.model.payment.Payment;
 
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 
 import static java.util.Objects.requireNonNull;
@@ -20,9 +25,12 @@ public class JsonAdaptedPayment {
     private String remark;
     private String amount;
     private String priority;
+    private String recurrence;
+    private String recurrenceStart;
 
     /**
      * Constructs a {@code JsonAdaptedPayment} with the given payment details.
+     * The recurrence and its start are null for a one-off payment, and for payments saved before they could recur.
      */
     @JsonCreator
     public JsonAdaptedPayment(@JsonProperty("description") String description,
@@ -30,7 +38,9 @@ public class JsonAdaptedPayment {
                               @JsonProperty("due") String due,
                               @JsonProperty("remark") String remark,
                               @JsonProperty("amount") String amount,
-                              @JsonProperty("priority") String priority) {
+                              @JsonProperty("priority") String priority,
+                              @JsonProperty("recurrence") String recurrence,
+                              @JsonProperty("recurrenceStart") String recurrenceStart) {
 
         this.description = description;
         this.receiver = receiver;
@@ -38,6 +48,8 @@ public class JsonAdaptedPayment {
         this.remark = remark;
         this.amount = amount;
         this.priority = priority;
+        this.recurrence = recurrence;
+        this.recurrenceStart = recurrenceStart;
     }
 
     /**
@@ -52,6 +64,93 @@ public class JsonAdaptedPayment {
         remark = source.getTag();
         amount = source.getAmount().toString();
         priority = source.getPriority().toString();
+        if (source.isRecurring()) {
+            recurrence = source.getRecurrence().toString();
+            recurrenceStart = source.getRecurrenceStart().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        }
+    }
+
+    /**
+     * Reads a payment object from {@code parser}, which must be positioned at the object's start.
+     * Unknown fields are skipped, and missing fields are left null, as Jackson's data binding would do.
+     *
+     * @param parser the parser positioned at the {@code START_OBJECT} token of the payment.
+     * @return the adapted payment, with the parser positioned at its {@code END_OBJECT} token.
+     * @throws IOException if the input is not a valid payment object.
+     */
+    public static JsonAdaptedPayment readFrom(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a payment object");
+        }
+
+        String description = null;
+        String receiver = null;
+        String due = null;
+        String remark = null;
+        String amount = null;
+        String priority = null;
+        String recurrence = null;
+        String recurrenceStart = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            String value = valueToken == JsonToken.VALUE_NULL ? null : parser.getText();
+            switch (fieldName) {
+            case "description":
+                description = value;
+                break;
+            case "receiver":
+                receiver = value;
+                break;
+            case "due":
+                due = value;
+                break;
+            case "remark":
+                remark = value;
+                break;
+            case "amount":
+                amount = value;
+                break;
+            case "priority":
+                priority = value;
+                break;
+            case "recurrence":
+                recurrence = value;
+                break;
+            case "recurrenceStart":
+                recurrenceStart = value;
+                break;
+            default:
+                break;
+            }
+        }
+        return new JsonAdaptedPayment(description, receiver, due, remark, amount, priority, recurrence,
+                recurrenceStart);
+    }
+
+    /**
+     * Writes this payment as a JSON object to {@code generator}.
+     *
+     * @param generator the generator to write to.
+     * @throws IOException if the output cannot be written.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("description", description);
+        generator.writeStringField("receiver", receiver);
+        generator.writeStringField("due", due);
+        generator.writeStringField("remark", remark);
+        generator.writeStringField("amount", amount);
+        generator.writeStringField("priority", priority);
+        if (recurrence != null) {
+            generator.writeStringField("recurrence", recurrence);
+            generator.writeStringField("recurrenceStart", recurrenceStart);
+        }
+        generator.writeEndObject();
     }
 
     /**
@@ -92,6 +191,14 @@ public class JsonAdaptedPayment {
         }
         paymentBuilder.setPriority(priority);
 
+        // Recurrence is an optional field.
+        if (recurrence != null) {
+            paymentBuilder.setRecurrence(recurrence);
+            if (recurrenceStart != null) {
+                paymentBuilder.setRecurrenceStart(recurrenceStart);
+            }
+        }
+
         return paymentBuilder.build();
     }
 
@@ -3,10 +3,15 @@ package duke.storage.payment;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import duke.exception.DukeException;
 import duke.model.payment.Payment;
 import duke.model.payment.PaymentList;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -41,6 +46,50 @@ public class JsonSerializablePaymentList {
                 .map(JsonAdaptedPayment::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Reads a payment list document, i.e. {@code {"payments": [...]}}, from {@code parser} one token at a time,
+     * so that the file is never held in memory as a whole. Unknown fields are skipped.
+     *
+     * @param parser the parser positioned before the document.
+     * @return the payment list read.
+     * @throws IOException if the input is not a valid payment list document.
+     */
+    public static JsonSerializablePaymentList readFrom(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a payment list object");
+        }
+
+        List<JsonAdaptedPayment> payments = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals("payments") || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                payments.add(JsonAdaptedPayment.readFrom(parser));
+            }
+        }
+        return new JsonSerializablePaymentList(payments);
+    }
+
+    /**
+     * Writes this payment list as a JSON document to {@code generator}, one payment at a time.
+     *
+     * @param generator the generator to write to.
+     * @throws IOException if the output cannot be written.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("payments");
+        for (JsonAdaptedPayment payment : payments) {
+            payment.writeTo(generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this {@code payments} into the model's {@code PaymentList} object.
      *
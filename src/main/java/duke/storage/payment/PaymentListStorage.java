@@ -3,6 +3,7 @@ package duke.storage.payment;
 import duke.model.payment.PaymentList;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -27,4 +28,13 @@ public interface PaymentListStorage {
      */
     void savePaymentList(PaymentList paymentList) throws IOException;
 
+    /**
+     * Writes the given PaymentList to {@code exportPath} in a human-readable form.
+     *
+     * @param paymentList cannot be null.
+     * @param exportPath the file to write to, which is overwritten if it exists.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException;
+
 }
@@ -2,20 +2,27 @@ package duke.storage.payment;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import duke.commons.FileUtil;
-import duke.commons.JsonUtil;
 import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 import duke.model.payment.PaymentList;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
  * A class to access PaymentList data stored as a json file on the hard disk.
+ * The file is read and written one token at a time, and is kept compact; pretty-printed json is only
+ * written when the payments are exported.
  */
 public class PaymentListStorageManager implements PaymentListStorage {
 
@@ -25,6 +32,8 @@ public class PaymentListStorageManager implements PaymentListStorage {
     private static final File PAYMENTS_FILE = new File(DEFAULT_USER_DIRECTORY, "payments.txt");
     private static final Path filePath = PAYMENTS_FILE.toPath();
 
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
     /**
      * Creates a {@code PaymentListStorageManager}.
      * Locates the file storing the PaymentList data.
@@ -45,20 +54,16 @@ public class PaymentListStorageManager implements PaymentListStorage {
             return Optional.of(new PaymentList());
         }
 
-        Optional<JsonSerializablePaymentList> jsonPaymentList;
-        try {
-            jsonPaymentList = JsonUtil.readJsonFile(filePath, JsonSerializablePaymentList.class);
-        } catch (DukeException e) {
-            logger.warning("Json file has format errors!");
-            return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
-        }
-
-        if (jsonPaymentList.isEmpty()) {
+        JsonSerializablePaymentList jsonPaymentList;
+        try (JsonParser parser = jsonFactory.createParser(PAYMENTS_FILE)) {
+            jsonPaymentList = JsonSerializablePaymentList.readFrom(parser);
+        } catch (IOException e) {
+            logger.warning("Json file has format errors! " + e.getMessage());
             return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
         }
 
         try {
-            return Optional.of(jsonPaymentList.get().toModelType());
+            return Optional.of(jsonPaymentList.toModelType());
         } catch (DukeException e) {
             logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
             return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
@@ -66,10 +71,45 @@ public class PaymentListStorageManager implements PaymentListStorage {
 
     }
 
+    /**
+     * Saves the payments as compact json. The file is replaced only once it has been written in full,
+     * so a failed save leaves the previous payments in place.
+     */
     @Override
     public void savePaymentList(PaymentList paymentList) throws IOException {
         requireNonNull(paymentList);
-        JsonUtil.saveJsonFile(new JsonSerializablePaymentList(paymentList), filePath);
+        File temporaryFile = new File(PAYMENTS_FILE.getPath() + ".tmp");
+        writePaymentList(paymentList, temporaryFile, false);
+        Files.move(temporaryFile.toPath(), filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void exportPaymentList(PaymentList paymentList, Path exportPath) throws IOException {
+        exportAsJson(paymentList, exportPath);
+    }
+
+    /**
+     * Writes the payments to {@code exportPath} as pretty-printed json, whichever storage they are kept in.
+     *
+     * @param paymentList the payments to export.
+     * @param exportPath the file to write them to.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void exportAsJson(PaymentList paymentList, Path exportPath) throws IOException {
+        requireNonNull(paymentList);
+        requireNonNull(exportPath);
+        FileUtil.createParentDirsOfFile(exportPath);
+        writePaymentList(paymentList, exportPath.toFile(), true);
+    }
+
+    private static void writePaymentList(PaymentList paymentList, File file, boolean isPretty) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(file, JsonEncoding.UTF8)) {
+            if (isPretty) {
+                generator.useDefaultPrettyPrinter();
+            }
+            new JsonSerializablePaymentList(paymentList).writeTo(generator);
+        }
     }
 
 }
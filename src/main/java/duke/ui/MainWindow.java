@@ -63,7 +63,7 @@ public class MainWindow extends UiPart<Stage> {
         this.logic = logic;
 
         displayedPane = CommandResult.DisplayedPane.EXPENSE;
-        if (logic.getExternalExpenseList().isEmpty()) {
+        if (!logic.hasExpenses()) {
             //initial boot
             displayedPane = CommandResult.DisplayedPane.PLAN;
         }
@@ -72,6 +72,8 @@ public class MainWindow extends UiPart<Stage> {
         inputHistory = new InputHistory();
         autoCompleter = new AutoCompleter();
 
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> console.setText(message)));
+
         this.userInput.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.TAB) {
                 autoCompleter.receiveText(userInput.getText());
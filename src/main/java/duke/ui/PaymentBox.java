@@ -60,7 +60,7 @@ public class PaymentBox extends UiPart<AnchorPane> {
         amountLabel.setText("S$" + payment.getAmount().toString());
         receiverLabel.setText(payment.getReceiver());
         String due = payment.getDue().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        dueLabel.setText(due);
+        dueLabel.setText(payment.isRecurring() ? due + " (" + payment.getRecurrence() + ")" : due);
         descriptionLabel.setText(payment.getDescription());
 
         Priority priority = payment.getPriority();
@@ -2,11 +2,11 @@ package duke.ui;
 
 import duke.commons.LogsCenter;
 import duke.model.payment.Payment;
+import duke.model.payment.PaymentFilter;
 import duke.model.payment.PaymentList;
 import duke.model.payment.PaymentInMonthPredicate;
 import duke.model.payment.PaymentInWeekPredicate;
 import duke.model.payment.PaymentOverduePredicate;
-import duke.model.payment.SearchKeywordPredicate;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -48,6 +48,9 @@ public class PaymentPane extends UiPart<AnchorPane> {
     @FXML
     private Label searchLabel;
 
+    @FXML
+    private Label filterLabel;
+
     @FXML
     private Label timeLabel;
 
@@ -131,42 +134,23 @@ public class PaymentPane extends UiPart<AnchorPane> {
         }
     }
 
+    /**
+     * Highlights the time scope shown, and the search label if a keyword or priority is shown along with it.
+     * The keyword and priority themselves are shown in the {@code filterLabel}.
+     */
     private void highlightPredicateLabel() {
-        if (predicate.getValue() instanceof PaymentOverduePredicate) {
-            overdueLabel.setOpacity(FULL_OPACITY);
-            weekLabel.setOpacity(FADED_OPACITY);
-            monthLabel.setOpacity(FADED_OPACITY);
-            allLabel.setOpacity(FADED_OPACITY);
-            searchLabel.setOpacity(FADED_OPACITY);
-
-        } else if (predicate.getValue() instanceof PaymentInWeekPredicate) {
-            overdueLabel.setOpacity(FADED_OPACITY);
-            weekLabel.setOpacity(FULL_OPACITY);
-            monthLabel.setOpacity(FADED_OPACITY);
-            allLabel.setOpacity(FADED_OPACITY);
-            searchLabel.setOpacity(FADED_OPACITY);
-
-        } else if (predicate.getValue() instanceof PaymentInMonthPredicate) {
-            overdueLabel.setOpacity(FADED_OPACITY);
-            weekLabel.setOpacity(FADED_OPACITY);
-            monthLabel.setOpacity(FULL_OPACITY);
-            allLabel.setOpacity(FADED_OPACITY);
-            searchLabel.setOpacity(FADED_OPACITY);
-
-        } else if (predicate.getValue() instanceof SearchKeywordPredicate) {
-            overdueLabel.setOpacity(FADED_OPACITY);
-            weekLabel.setOpacity(FADED_OPACITY);
-            monthLabel.setOpacity(FADED_OPACITY);
-            allLabel.setOpacity(FADED_OPACITY);
-            searchLabel.setOpacity(FULL_OPACITY);
-
-        } else {
-            overdueLabel.setOpacity(FADED_OPACITY);
-            weekLabel.setOpacity(FADED_OPACITY);
-            monthLabel.setOpacity(FADED_OPACITY);
-            allLabel.setOpacity(FULL_OPACITY);
-            searchLabel.setOpacity(FADED_OPACITY);
-        }
+        PaymentFilter filter = (PaymentFilter) predicate.getValue();
+        Predicate<Payment> timePredicate = filter.getTimePredicate();
+
+        overdueLabel.setOpacity(timePredicate instanceof PaymentOverduePredicate ? FULL_OPACITY : FADED_OPACITY);
+        weekLabel.setOpacity(timePredicate instanceof PaymentInWeekPredicate ? FULL_OPACITY : FADED_OPACITY);
+        monthLabel.setOpacity(timePredicate instanceof PaymentInMonthPredicate ? FULL_OPACITY : FADED_OPACITY);
+        allLabel.setOpacity(timePredicate.equals(PaymentList.PREDICATE_SHOW_ALL_PAYMENTS)
+                ? FULL_OPACITY : FADED_OPACITY);
+
+        String filterDescription = filter.toString();
+        searchLabel.setOpacity(filterDescription.isEmpty() ? FADED_OPACITY : FULL_OPACITY);
+        filterLabel.setText(filterDescription);
     }
 
 }
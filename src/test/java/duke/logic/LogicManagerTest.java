@@ -0,0 +1,121 @@
+package duke.logic;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.DukePP;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.Model;
+import duke.storage.ExpenseFileFormat;
+import duke.storage.ExpenseListStorageManager;
+import duke.storage.StorageManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LogicManagerTest {
+    @TempDir
+    File userDirectory;
+
+
+    @Test
+    public void testFailedCommandKeepsItsOwnError() throws DukeException {
+        Model model = new DukePP(new ExpenseList(new ArrayList<>()), new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+        LogicManager logic = new LogicManager(model, new FailingStorage());
+        List<String> saveFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailures::add);
+
+        DukeException e = assertThrows(DukeException.class, () -> logic.execute("deleteExpense 1"));
+        assertEquals(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, 1), e.getMessage());
+        assertEquals(List.of("save failed"), saveFailures);
+
+        // The save failure of a command that succeeds is still the command's error.
+        e = assertThrows(DukeException.class, () -> logic.execute("addExpense 2"));
+        assertEquals("save failed", e.getMessage());
+    }
+
+    @Test
+    public void testDeletesReportHowManyWereDeleted() throws DukeException {
+        Model model = new DukePP(new ExpenseList(new ArrayList<>()), new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+        LogicManager logic = new LogicManager(model, new IgnoringStorage());
+        logic.execute("addExpense 2 /tag FOOD");
+        logic.execute("addExpense 3 /tag FOOD");
+        logic.execute("addExpense 4 /tag DRINKS");
+
+        assertEquals("Deleted 0 expense(s)!", logic.execute("deleteExpense /tag TRANSPORT").getConsoleInfo());
+        assertEquals("Deleted 2 expense(s)!", logic.execute("deleteExpense /tag FOOD").getConsoleInfo());
+        assertEquals("Deleted 1 expense(s)!", logic.execute("deleteExpense all").getConsoleInfo());
+
+        logic.execute("addPayment 800 /description Rent /due 01/12/2019");
+        logic.execute("addPayment 30 /description Water /due 02/12/2019");
+        logic.execute("addPayment 50 /description Gym /due 03/12/2019");
+        assertEquals("Deleted 2 payment(s)!", logic.execute("deletePayment 1-2").getConsoleInfo());
+        assertEquals("Finished 1 payment(s)!", logic.execute("donePayment 1").getConsoleInfo());
+    }
+
+    @Test
+    public void testDeleteAllCountsExpensesNotLoadedYet() throws DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("1").build());
+        expenses.add(new Expense.Builder().setAmount("2").setTime("10:00 01/11/2019").build());
+        expenses.add(new Expense.Builder().setAmount("4").setTime("10:00 02/11/2019").build());
+        expenses.add(new Expense.Builder().setAmount("8").setTime("10:00 01/06/2018").build());
+        new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).saveExpenseList(new ExpenseList(expenses));
+
+        // Only the current month is loaded, and the rest is still in the history.
+        ExpenseList expenseList = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT)
+                .loadExpenseList();
+        assertEquals(1, expenseList.internalSize());
+        assertEquals(3, expenseList.getHistory().getUnloadedCount());
+
+        Model model = new DukePP(expenseList, new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+        LogicManager logic = new LogicManager(model, new IgnoringStorage());
+        assertEquals("Deleted 4 expense(s)!", logic.execute("deleteExpense all").getConsoleInfo());
+        assertEquals(1, model.undo(1));
+        assertEquals(4, model.getExpenseList().internalSize());
+    }
+
+    /**
+     * A storage whose saves always fail.
+     */
+    private static class FailingStorage extends StorageManager {
+        FailingStorage() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public void saveDirty(Model model) throws DukeException {
+            throw new DukeException("save failed");
+        }
+    }
+
+    /**
+     * A storage that saves nothing.
+     */
+    private static class IgnoringStorage extends StorageManager {
+        IgnoringStorage() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public void saveDirty(Model model) {
+        }
+    }
+}
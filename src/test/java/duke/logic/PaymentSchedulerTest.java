@@ -0,0 +1,83 @@
+package duke.logic;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.DukePP;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.Recurrence;
+import duke.model.payment.Payment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PaymentSchedulerTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Test
+    public void testTimeUntilMidnight() {
+        ZoneId singapore = ZoneId.of("Asia/Singapore");
+        assertEquals(Duration.ofMinutes(90),
+                PaymentScheduler.getTimeUntilMidnight(ZonedDateTime.of(2019, 11, 13, 22, 30, 0, 0, singapore)));
+
+        // The day clocks go forward in spring is an hour shorter.
+        ZoneId london = ZoneId.of("Europe/London");
+        assertEquals(Duration.ofHours(23),
+                PaymentScheduler.getTimeUntilMidnight(ZonedDateTime.of(2020, 3, 29, 0, 0, 0, 0, london)));
+    }
+
+    @Test
+    public void testRollPaymentsForward() throws DukeException {
+        DukePP model = new DukePP(new ExpenseList(new ArrayList<>()), new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+        model.addPayment(new Payment.Builder().setDescription("Rent").setDue("31/01/2020").setAmount("800")
+                .setRecurrence("monthly").build());
+        model.addPayment(new Payment.Builder().setDescription("Gym").setDue("01/02/2020").setAmount("50")
+                .setRecurrence("weekly until 10/02/2020").build());
+        model.addPayment(new Payment.Builder().setDescription("Concert").setDue("01/02/2020").setAmount("80")
+                .build());
+        long version = model.getVersion(DukePP.Store.PAYMENT_LIST);
+
+        // Rent is followed by its February occurrence, and Gym by its last one.
+        assertEquals(2, model.rollPaymentsForward(LocalDate.of(2020, 2, 2)));
+        assertEquals(version + 1, model.getVersion(DukePP.Store.PAYMENT_LIST));
+        assertEquals(List.of("31/01/2020 Rent", "01/02/2020 Gym", "01/02/2020 Concert", "08/02/2020 Gym",
+                "29/02/2020 Rent"), describe(model));
+        List<Payment> payments = model.getPaymentList().getInternalList();
+        assertFalse(payments.get(0).isRecurring());
+        assertEquals(Recurrence.MONTHLY, payments.get(4).getRecurrence());
+        assertEquals(LocalDate.of(2020, 1, 31), payments.get(4).getRecurrenceStart());
+
+        // Nothing is due again until the next occurrences pass, and missed ones are kept as they are still unpaid.
+        assertEquals(0, model.rollPaymentsForward(LocalDate.of(2020, 2, 2)));
+        assertEquals(version + 1, model.getVersion(DukePP.Store.PAYMENT_LIST));
+        assertEquals(2, model.rollPaymentsForward(LocalDate.of(2020, 4, 1)));
+        assertEquals("31/03/2020 Rent", describe(model).get(5));
+        assertTrue(payments.get(payments.size() - 1).isRecurring());
+        assertEquals(LocalDate.of(2020, 4, 30), payments.get(payments.size() - 1).getDue());
+    }
+
+    private static List<String> describe(DukePP model) {
+        return model.getPaymentList().getInternalList().stream()
+                .map(payment -> payment.getDue().format(DATE_FORMATTER)
+                        + " " + payment.getDescription())
+                .collect(Collectors.toList());
+    }
+}
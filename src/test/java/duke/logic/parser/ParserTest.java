@@ -0,0 +1,32 @@
+package duke.logic.parser;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParserTest {
+
+    @Test
+    public void testParseIndices() throws DukeException {
+        assertEquals(List.of(3), Parser.parseIndices("3", 10));
+        assertEquals(List.of(1, 2, 3, 4, 5, 8), Parser.parseIndices("1-5,8", 10));
+        assertEquals(List.of(2, 3, 4, 7), Parser.parseIndices("7, 3-4 ,2-3", 10));
+        assertEquals(List.of(4), Parser.parseIndices("4-4", 10));
+    }
+
+    @Test
+    public void testInvalidIndices() {
+        DukeException e = assertThrows(DukeException.class, () -> Parser.parseIndices("5-2", 10));
+        assertEquals(String.format(DukeException.MESSAGE_DELETE_FORMAT_INVALID, "5-2"), e.getMessage());
+        e = assertThrows(DukeException.class, () -> Parser.parseIndices("1-11", 10));
+        assertEquals(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID, 11), e.getMessage());
+        assertThrows(DukeException.class, () -> Parser.parseIndices("0", 10));
+        assertThrows(DukeException.class, () -> Parser.parseIndices("1,,2", 10));
+        assertThrows(DukeException.class, () -> Parser.parseIndices("1-2-3", 10));
+        assertThrows(DukeException.class, () -> Parser.parseIndices("a", 10));
+    }
+}
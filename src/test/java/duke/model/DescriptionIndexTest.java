@@ -0,0 +1,62 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DescriptionIndexTest {
+
+    @Test
+    public void testSearch() throws DukeException {
+        DescriptionIndex<String> index = new DescriptionIndex<>(description -> description);
+        index.add("Chicken Rice");
+        index.add("Duck rice");
+        index.add("Chicken Chop");
+        index.add("Mee Goreng");
+
+        assertEquals(List.of("Chicken Rice", "Duck rice"), index.search(DescriptionQuery.parse("RICE")));
+        assertEquals(List.of("Chicken Rice"), index.search(DescriptionQuery.parse("chicken rice")));
+        assertEquals(List.of("Chicken Rice", "Chicken Chop", "Mee Goreng"),
+                index.search(DescriptionQuery.parse("chick* or mee")));
+        assertEquals(List.of(), index.search(DescriptionQuery.parse("chicken goreng")));
+
+        index.remove("Chicken Rice");
+        assertEquals(List.of("Duck rice"), index.search(DescriptionQuery.parse("ric*")));
+        index.clear();
+        assertEquals(List.of(), index.search(DescriptionQuery.parse("duck")));
+    }
+
+    @Test
+    public void testRemoveTakesOutTheSameItem() throws DukeException {
+        DescriptionIndex<String> index = new DescriptionIndex<>(description -> description);
+        String first = new String("Kopi");
+        String second = new String("Kopi");
+        index.add(first);
+        index.add(second);
+        index.remove(first);
+        List<String> found = index.search(DescriptionQuery.parse("kopi"));
+        assertEquals(1, found.size());
+        assertSame(second, found.get(0));
+    }
+
+    @Test
+    public void testQuery() throws DukeException {
+        assertTrue(DescriptionQuery.parse("rice").matches("Chicken Rice"));
+        assertTrue(DescriptionQuery.parse("chi* ric*").matches("Chicken Rice"));
+        assertFalse(DescriptionQuery.parse("chicken duck").matches("Chicken Rice"));
+        assertTrue(DescriptionQuery.parse("chicken duck or rice").matches("Chicken Rice"));
+
+        assertThrows(DukeException.class, () -> DescriptionQuery.parse(" "));
+        assertThrows(DukeException.class, () -> DescriptionQuery.parse("or rice"));
+        assertThrows(DukeException.class, () -> DescriptionQuery.parse("rice or"));
+        assertThrows(DukeException.class, () -> DescriptionQuery.parse("*"));
+        assertThrows(DukeException.class, () -> DescriptionQuery.parse("r*ce"));
+    }
+}
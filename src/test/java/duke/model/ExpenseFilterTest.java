@@ -0,0 +1,52 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseFilterTest {
+    @Test
+    public void testTerms() throws DukeException {
+        final Expense kopi = new Expense.Builder().setAmount("1.20").setDescription("Kopi O").setTag("DRINKS")
+                .setTime(LocalDate.of(2019, 10, 1).atTime(8, 0)).build();
+        assertTrue(ExpenseFilter.parse("").test(kopi));
+        assertTrue(ExpenseFilter.parse("tag=drinks").test(kopi));
+        assertTrue(ExpenseFilter.parse("amount>=1.2 amount<1.21").test(kopi));
+        assertFalse(ExpenseFilter.parse("amount=1").test(kopi));
+        assertTrue(ExpenseFilter.parse("desc:\"kopi o\"").test(kopi));
+        assertTrue(ExpenseFilter.parse("kopi after:30/09/2019 before:02/10/2019").test(kopi));
+        assertFalse(ExpenseFilter.parse("on:02/10/2019").test(kopi));
+        assertTrue(ExpenseFilter.parse("recurring:false !tentative:true").test(kopi));
+        assertTrue(ExpenseFilter.parse("tag:FOOD or tag:DRINKS").test(kopi));
+    }
+
+    @Test
+    public void testIndexHints() throws DukeException {
+        ExpenseFilter filter = ExpenseFilter.parse("tag:Drinks after:30/09/2019 on:01/10/2019");
+        assertEquals("drinks", filter.getTag());
+        assertEquals(LocalDate.of(2019, 10, 1), filter.getFirstDay());
+        assertEquals(LocalDate.of(2019, 10, 1), filter.getLastDay());
+
+        ExpenseFilter either = ExpenseFilter.parse("tag:FOOD or tag:DRINKS");
+        assertNull(either.getTag());
+        assertNull(ExpenseFilter.parse("!before:01/10/2019").getLastDay());
+    }
+
+    @Test
+    public void testInvalidQueries() {
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("colour:red"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("before:2019-10-01"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("tag~FOOD"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("tentative:maybe"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("or kopi"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("kopi or"));
+        assertThrows(DukeException.class, () -> ExpenseFilter.parse("desc~\"kopi"));
+    }
+}
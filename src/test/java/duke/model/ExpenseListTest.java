@@ -1,15 +1,19 @@
 package duke.model;
 
 import duke.exception.DukeException;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class ExpenseListTest {
@@ -17,6 +21,7 @@ public class ExpenseListTest {
     File userDirectory;
 
     private static final String STORAGE_DELIMITER = "\n\n";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
 
     @Test
@@ -49,26 +54,7 @@ public class ExpenseListTest {
             assertEquals(String.format(DukeException.MESSAGE_NO_ITEM_AT_INDEX, "expense", 2), e.getMessage());
         }
     }
-    /*TODO:This test is Currently broken due to regressions, please fix.
-    @Test
-    public void testUndoRedo() throws DukeException {
-        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
-        Expense testExpense = new Expense.Builder().build();
-        testExpenseList.add(testExpense);
-        testExpenseList.remove(1);
-        assertEquals(testExpenseList.undo(1), 1);
-        assertEquals(testExpenseList.internalSize(), 1);
-        assertEquals(testExpenseList.undo(1), 1);
-        assertEquals(testExpenseList.internalSize(), 0);
-        assertEquals(testExpenseList.redo(1), 1);
-        assertEquals(testExpenseList.internalSize(), 1);
-        assertEquals(testExpenseList.redo(1), 1);
-        assertEquals(testExpenseList.internalSize(), 0);
-        assertEquals(testExpenseList.undo(2), 2);
-        assertEquals(testExpenseList.redo(2), 2);
-    }
 
-     */
     @Test
     public void testGetTotalAmount() throws DukeException {
         ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
@@ -84,4 +70,238 @@ public class ExpenseListTest {
         testExpenseList.add(testExpenseFive);
         assertEquals(testExpenseList.getTotalAmount(), new BigDecimal("49.63"));
     }
+
+    @Test
+    public void testExternalListIsUpdatedInPlace() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        testExpenseList.setSortCriteria("amount");
+        List<Integer> changeSizes = new ArrayList<>();
+        ListChangeListener<Expense> listener = change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize() + change.getRemovedSize());
+            }
+        };
+        testExpenseList.getExternalList().addListener(listener);
+
+        testExpenseList.add(new Expense.Builder().setAmount("5").build());
+        testExpenseList.add(new Expense.Builder().setAmount("20").build());
+        testExpenseList.add(new Expense.Builder().setAmount("5").setDescription("Second five").build());
+        testExpenseList.add(new Expense.Builder().setAmount("7").setTentative(true).build());
+        testExpenseList.remove(1);
+        testExpenseList.getExternalList().removeListener(listener);
+        assertEquals(List.of(1, 1, 1, 1, 1), changeSizes);
+
+        List<Expense> inPlace = new ArrayList<>(testExpenseList.getExternalList());
+        BigDecimal inPlaceTotal = testExpenseList.getTotalExternalAmount();
+        testExpenseList.setSortCriteria("amount");
+        assertEquals(testExpenseList.getExternalList(), inPlace);
+        assertEquals(testExpenseList.getTotalExternalAmount(), inPlaceTotal);
+        assertEquals(new BigDecimal("10.00"), inPlaceTotal);
+        assertEquals("Second five", inPlace.get(2).getDescription());
+    }
+
+    @Test
+    public void testViewScopeLooksUpItsDays() throws DukeException {
+        LocalDate lastWeek = LocalDate.now().minusWeeks(1);
+        Expense lastWeekExpense = new Expense.Builder().setAmount("1").setTime(lastWeek.atTime(9, 0)).build();
+        Expense lastYearExpense = new Expense.Builder().setAmount("2")
+                .setTime(LocalDate.now().minusYears(1).atTime(9, 0)).build();
+        Expense recurringExpense = new Expense.Builder().setAmount("4").setRecurrence("weekly")
+                .setTime(lastWeek.minusWeeks(200).atTime(8, 0)).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(
+                List.of(lastWeekExpense, lastYearExpense, recurringExpense)));
+
+        // A weekly expense occurs on the same day of the week as last week's expense.
+        testExpenseList.setViewScope("week", 1);
+        assertEquals(2, testExpenseList.getExternalList().size());
+        assertEquals(lastWeekExpense, testExpenseList.getExternalList().get(0));
+        assertEquals(lastWeek.atTime(8, 0), testExpenseList.getExternalList().get(1).getTime());
+        assertEquals(recurringExpense, testExpenseList.getExternalList().get(1).getOccurrenceOf());
+        testExpenseList.setViewScope("day", 7);
+        assertEquals(2, testExpenseList.getExternalList().size());
+        testExpenseList.setViewScope("year", 1);
+        assertTrue(testExpenseList.getExternalList().contains(lastYearExpense));
+        assertTrue(testExpenseList.getExternalList().size() >= 53);
+
+        testExpenseList.remove(testExpenseList.getExternalList().indexOf(lastYearExpense) + 1);
+        testExpenseList.setViewScope("year", 1);
+        assertTrue(testExpenseList.getExternalList().stream().allMatch(e -> e.getOccurrenceOf() == recurringExpense));
+    }
+
+    @Test
+    public void testRecurringExpenseOccurrences() throws DukeException {
+        LocalDate start = LocalDate.now().minusYears(3).withDayOfMonth(1);
+        Expense rent = new Expense.Builder().setAmount("500").setDescription("Rent").setTag("HOME")
+                .setTime(start.atTime(9, 0)).setRecurring(true).build();
+        Expense gym = new Expense.Builder().setAmount("10").setDescription("Gym").setTentative(true)
+                .setTime(start.atTime(7, 0)).setRecurrence("every 2 days until " + start.plusDays(4)
+                        .format(DATE_FORMATTER)).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(rent, gym)));
+
+        assertEquals(1, testExpenseList.getExternalList().size());
+        assertEquals(new BigDecimal("500.00"), testExpenseList.getTotalExternalAmount());
+        Expense thisMonthRent = testExpenseList.getExternalList().get(0);
+        assertEquals(LocalDate.now().withDayOfMonth(1), thisMonthRent.getTime().toLocalDate());
+
+        // A window shown before gives back the same occurrences.
+        testExpenseList.setViewScope("year", 0);
+        testExpenseList.setViewScope("month", 0);
+        assertTrue(testExpenseList.getExternalList().get(0) == thisMonthRent);
+
+        // Without a last day, a recurring expense that never ends is shown as itself.
+        testExpenseList.setViewScope("all", 0);
+        assertEquals(4, testExpenseList.getExternalList().size());
+        assertTrue(testExpenseList.getExternalList().contains(rent));
+        testExpenseList.setFilterCriteria("on:" + start.plusDays(2)
+                .format(DATE_FORMATTER));
+        assertEquals(1, testExpenseList.getExternalList().size());
+        assertEquals(gym, testExpenseList.getExternalList().get(0).getOccurrenceOf());
+
+        // Deleting an occurrence deletes the recurring expense.
+        testExpenseList.setFilterCriteria("");
+        testExpenseList.setViewScope("month", 0);
+        testExpenseList.remove(1);
+        assertEquals(1, testExpenseList.internalSize());
+        assertTrue(testExpenseList.getExternalList().isEmpty());
+    }
+
+    @Test
+    public void testTagAmountsFollowChanges() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        Expense coffee = new Expense.Builder().setAmount("2.50").setTag("FOOD").setTentative(true).build();
+        testExpenseList.add(coffee);
+        testExpenseList.add(new Expense.Builder().setAmount("10").setTag("FASTFOOD").build());
+        testExpenseList.add(new Expense.Builder().setAmount("30").setTag("CLOTHES").build());
+        // Only the expenses with exactly that tag are totalled, not those whose tags contain it.
+        assertEquals(new BigDecimal("0.00"), testExpenseList.getTagAmount("FOOD"));
+        assertEquals(new BigDecimal("10.00"), testExpenseList.getTagAmount("FASTFOOD"));
+        assertEquals(new BigDecimal("2.50"), testExpenseList.getTentativeTagAmount("FOOD"));
+
+        // Confirming a tentative expense removes it and adds it back.
+        testExpenseList.remove(testExpenseList.getExternalList().indexOf(coffee) + 1);
+        coffee.setTentative(false);
+        testExpenseList.add(coffee);
+        assertEquals(new BigDecimal("2.50"), testExpenseList.getTagAmount("FOOD"));
+        assertEquals(new BigDecimal("0.00"), testExpenseList.getTentativeTagAmount("FOOD"));
+        assertEquals(BigDecimal.ZERO, testExpenseList.getTagAmount(null));
+
+        testExpenseList.setViewScope("year", 5);
+        assertEquals(new BigDecimal("0.00"), testExpenseList.getTagAmount("CLOTHES"));
+    }
+
+    @Test
+    public void testFilterQuery() throws DukeException {
+        Expense chickenRice = new Expense.Builder().setAmount("3.50").setDescription("Chicken Rice").setTag("FOOD")
+                .setTime(LocalDate.of(2019, 11, 20).atTime(12, 0)).build();
+        Expense duckRice = new Expense.Builder().setAmount("6").setDescription("Duck Rice").setTag("food")
+                .setTime(LocalDate.of(2019, 12, 2).atTime(12, 0)).setTentative(true).build();
+        Expense shirt = new Expense.Builder().setAmount("20").setDescription("Shirt").setTag("CLOTHES")
+                .setTime(LocalDate.of(2019, 11, 25).atTime(12, 0)).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(chickenRice, duckRice, shirt)));
+        testExpenseList.setViewScope("all", 0);
+
+        testExpenseList.setFilterCriteria("tag:FOOD amount>5");
+        assertEquals(List.of(duckRice), testExpenseList.getExternalList());
+        testExpenseList.setFilterCriteria("desc~rice before:01/12/2019 tentative:false");
+        assertEquals(List.of(chickenRice), testExpenseList.getExternalList());
+        testExpenseList.setFilterCriteria("on:25/11/2019 or \"duck rice\"");
+        assertEquals(2, testExpenseList.getExternalList().size());
+        testExpenseList.setFilterCriteria("!tag:food");
+        assertEquals(List.of(shirt), testExpenseList.getExternalList());
+        assertEquals("Filter: !tag:food", testExpenseList.getFilterString().get());
+
+        // Expenses added later are only shown if they pass the filter.
+        testExpenseList.add(new Expense.Builder().setAmount("1").setTag("FOOD").build());
+        Expense socks = new Expense.Builder().setAmount("5").setTag("CLOTHES").build();
+        testExpenseList.add(socks);
+        assertEquals(List.of(socks, shirt), testExpenseList.getExternalList());
+
+        testExpenseList.setFilterCriteria("");
+        assertEquals(5, testExpenseList.getExternalList().size());
+
+        try {
+            testExpenseList.setFilterCriteria("amount>five");
+            fail();
+        } catch (DukeException e) {
+            assertEquals(String.format(DukeException.MESSAGE_FILTER_TERM_INVALID, "amount>five"), e.getMessage());
+        }
+        assertEquals(5, testExpenseList.getExternalList().size());
+    }
+
+    @Test
+    public void testSearchIgnoresViewScope() throws DukeException {
+        Expense oldRice = new Expense.Builder().setAmount("3").setDescription("Chicken Rice")
+                .setTime(LocalDate.now().minusYears(2).atTime(12, 0)).build();
+        Expense noodles = new Expense.Builder().setAmount("4").setDescription("Beef Noodles").build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(oldRice, noodles)));
+
+        testExpenseList.setSearchQuery("ric*");
+        assertEquals(List.of(oldRice), testExpenseList.getExternalList());
+        assertEquals("Search: ric*", testExpenseList.getViewString().get());
+
+        Expense duckRice = new Expense.Builder().setAmount("5").setDescription("Duck Rice").build();
+        testExpenseList.add(duckRice);
+        testExpenseList.add(new Expense.Builder().setAmount("6").setDescription("Duck Noodles").build());
+        assertEquals(List.of(duckRice, oldRice), testExpenseList.getExternalList());
+
+        testExpenseList.setViewScope("month", 0);
+        assertEquals(3, testExpenseList.getExternalList().size());
+    }
+
+    @Test
+    public void testColumnarStore() throws DukeException {
+        Expense oldRice = new Expense.Builder().setAmount("2").setDescription("Chicken Rice").setTag("FOOD")
+                .setTime(LocalDate.now().minusYears(1).atTime(12, 30, 15, 123)).build();
+        Expense coffee = new Expense.Builder().setAmount("1.20").setDescription("Coffee").setTag("food").build();
+        Expense shirt = new Expense.Builder().setAmount("20").setDescription("Shirt").setTag("CLOTHES")
+                .setTentative(true).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(oldRice, coffee, shirt)));
+        testExpenseList.useColumnarStore();
+
+        assertEquals(List.of(shirt, coffee), testExpenseList.getExternalList());
+        assertEquals(new BigDecimal("3.20"), testExpenseList.getTotalAmount());
+
+        // Expenses not shown before are rebuilt from the columns, then stay the same objects while shown.
+        testExpenseList.setViewScope("year", 1);
+        Expense rebuiltRice = testExpenseList.get(1);
+        assertEquals("Chicken Rice", rebuiltRice.getDescription());
+        assertEquals("FOOD", rebuiltRice.getTag());
+        assertEquals(new BigDecimal("2.00"), rebuiltRice.getAmount());
+        assertEquals(oldRice.getTime(), rebuiltRice.getTime());
+        testExpenseList.setViewScope("year", 1);
+        assertTrue(testExpenseList.get(1) == rebuiltRice);
+
+        testExpenseList.setViewScope("all", 0);
+        testExpenseList.setFilterCriteria("tag:food");
+        assertEquals(2, testExpenseList.getExternalList().size());
+        testExpenseList.setFilterCriteria("");
+        testExpenseList.setSearchQuery("shirt");
+        assertEquals(List.of(shirt), testExpenseList.getExternalList());
+
+        assertTrue(testExpenseList.removeItem(coffee));
+        testExpenseList.setViewScope("year", 1);
+        testExpenseList.remove(1);
+        assertEquals(1, testExpenseList.internalSize());
+        assertEquals(new BigDecimal("0.00"), testExpenseList.getTotalAmount());
+
+        testExpenseList.setViewScope("all", 0);
+        assertEquals(List.of(shirt), testExpenseList.removeItems(List.of(shirt, coffee)));
+        assertTrue(testExpenseList.getExternalList().isEmpty());
+        assertEquals(0, testExpenseList.internalSize());
+    }
+
+    @Test
+    public void testRemoveItems() throws DukeException {
+        Expense rice = new Expense.Builder().setAmount("3").setTag("FOOD").build();
+        Expense coffee = new Expense.Builder().setAmount("1.20").setTag("FOOD").build();
+        Expense shirt = new Expense.Builder().setAmount("20").setTag("CLOTHES").build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(rice, coffee, shirt)));
+
+        // Expenses not in the list, or given twice, are skipped.
+        Expense other = new Expense.Builder().setAmount("4").build();
+        assertEquals(List.of(rice, shirt), testExpenseList.removeItems(List.of(shirt, other, rice, shirt)));
+        assertEquals(List.of(coffee), testExpenseList.getExternalList());
+        assertEquals(new BigDecimal("1.20"), testExpenseList.getTotalExternalAmount());
+        assertEquals(new BigDecimal("0.00"), testExpenseList.getTagAmount("CLOTHES"));
+    }
 }
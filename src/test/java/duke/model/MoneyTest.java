@@ -0,0 +1,50 @@
+package duke.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(1250, Money.parse("12.5").getCents());
+        assertEquals(-305, Money.parse("-3.05").getCents());
+        assertEquals(700, Money.parse("+7").getCents());
+        assertEquals(5, Money.parse(".05").getCents());
+        assertEquals(Money.ZERO, Money.parse("0.00"));
+
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.234"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("-"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("99999999999999999999"));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("12.50", Money.ofCents(1250).toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertEquals("-3.00", Money.ofCents(-300).toString());
+        assertEquals(Money.ofCents(-305).toBigDecimal().toString(), Money.ofCents(-305).toString());
+    }
+
+    @Test
+    public void testBigDecimalConversion() {
+        assertEquals(1230, Money.of(new BigDecimal("12.3")).getCents());
+        assertEquals(new BigDecimal("12.30"), Money.ofCents(1230).toBigDecimal());
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E20")));
+    }
+
+    @Test
+    public void testArithmetic() {
+        assertEquals(Money.ofCents(150), Money.ofCents(100).plus(Money.ofCents(50)));
+        assertEquals(Money.ofCents(-50), Money.ofCents(50).minus(Money.ofCents(100)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+    }
+}
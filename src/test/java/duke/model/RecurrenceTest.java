@@ -0,0 +1,58 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecurrenceTest {
+
+    @Test
+    public void testParse() throws DukeException {
+        assertEquals(Recurrence.MONTHLY, Recurrence.parse(" Monthly "));
+        assertEquals(new Recurrence(Recurrence.Unit.DAY, 3, LocalDate.of(2019, 12, 31)),
+                Recurrence.parse("every 3 days until 31/12/2019"));
+        assertEquals("every 2 weeks", Recurrence.parse("EVERY 2 WEEKS").toString());
+        assertEquals("daily until 01/01/2020", Recurrence.parse("daily until 01/01/2020").toString());
+
+        for (String invalid : List.of("", "yearly", "every days", "every 0 days", "every 2 fortnights",
+                "weekly until", "weekly until 32/01/2020", "monthly forever")) {
+            assertThrows(DukeException.class, () -> Recurrence.parse(invalid), invalid);
+        }
+    }
+
+    @Test
+    public void testOccurrencesInWindow() throws DukeException {
+        LocalDate start = LocalDate.of(2019, 1, 31);
+        assertEquals(List.of(LocalDate.of(2019, 2, 28), LocalDate.of(2019, 3, 31), LocalDate.of(2019, 4, 30)),
+                Recurrence.MONTHLY.getOccurrences(start, LocalDate.of(2019, 2, 1), LocalDate.of(2019, 4, 30)));
+        assertEquals(List.of(LocalDate.of(2019, 7, 31)), Recurrence.parse("every 6 months")
+                .getOccurrences(start, LocalDate.of(2019, 2, 1), LocalDate.of(2019, 12, 31)));
+
+        Recurrence everyTenDays = Recurrence.parse("every 10 days until 05/03/2019");
+        assertEquals(List.of(LocalDate.of(2019, 2, 20), LocalDate.of(2019, 3, 2)),
+                everyTenDays.getOccurrences(start, LocalDate.of(2019, 2, 15), null));
+        assertTrue(everyTenDays.getOccurrences(start, null, LocalDate.of(2019, 1, 30)).isEmpty());
+
+        // Only the window is worked out, however long ago the expense started.
+        assertEquals(List.of(LocalDate.of(3019, 1, 29)), Recurrence.parse("weekly")
+                .getOccurrences(LocalDate.of(1019, 1, 1), LocalDate.of(3019, 1, 29), LocalDate.of(3019, 1, 31)));
+        assertEquals(Recurrence.MAX_OCCURRENCES, Recurrence.parse("daily")
+                .getOccurrences(start, null, LocalDate.of(2999, 1, 1)).size());
+    }
+
+    @Test
+    public void testNextOccurrence() throws DukeException {
+        LocalDate start = LocalDate.of(2019, 1, 31);
+        assertEquals(LocalDate.of(2019, 3, 31), Recurrence.MONTHLY.getNextOccurrence(start, LocalDate.of(2019, 2, 28)));
+        assertEquals(start, Recurrence.MONTHLY.getNextOccurrence(start, LocalDate.of(2018, 6, 1)));
+        assertEquals(LocalDate.of(2019, 2, 14),
+                Recurrence.parse("every 2 weeks").getNextOccurrence(start, LocalDate.of(2019, 1, 31)));
+        assertEquals(null, Recurrence.parse("weekly until 06/02/2019").getNextOccurrence(start, start.plusDays(6)));
+    }
+}
@@ -0,0 +1,53 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagDictionaryTest {
+
+    @Test
+    public void testIds() {
+        assertEquals(TagDictionary.idOf("DRINKS"), TagDictionary.idOf(new String("DRINKS")));
+        assertNotEquals(TagDictionary.idOf("DRINKS"), TagDictionary.idOf("drinks"));
+        assertNotEquals(TagDictionary.idOf("DRINKS"), TagDictionary.idOf("SOFTDRINKS"));
+        assertEquals(TagDictionary.idIgnoringCaseOf("DRINKS"), TagDictionary.idIgnoringCaseOf("Drinks"));
+        assertEquals(TagDictionary.idOf("drinks"), TagDictionary.idIgnoringCaseOf("DRINKS"));
+    }
+
+    @Test
+    public void testLookupsDoNotAddTags() throws DukeException {
+        int size = TagDictionary.size();
+        assertEquals(TagDictionary.NO_TAG, TagDictionary.findIdOf("NEVER-USED-TAG"));
+        assertEquals(TagDictionary.NO_TAG, TagDictionary.findIdIgnoringCaseOf("Never-Used-Tag"));
+        ExpenseFilter filter = ExpenseFilter.parse("tag:never-used-tag");
+        assertEquals(size, TagDictionary.size());
+
+        Expense later = new Expense.Builder().setAmount("1").setTag("NEVER-USED-TAG").build();
+        assertTrue(filter.test(later));
+        assertEquals(TagDictionary.idOf("NEVER-USED-TAG"), TagDictionary.findIdOf("NEVER-USED-TAG"));
+        assertEquals(TagDictionary.idIgnoringCaseOf("Never-Used-Tag"),
+                TagDictionary.findIdIgnoringCaseOf("never-used-tag"));
+    }
+
+    @Test
+    public void testItemsShareTagsAndDescriptions() throws DukeException {
+        Expense lunch = new Expense.Builder().setAmount("3").setTag(new String("FOOD"))
+                .setDescription(new String("Chicken Rice")).build();
+        Expense dinner = new Expense.Builder().setAmount("4").setTag(new String("FOOD"))
+                .setDescription(new String("Chicken Rice")).build();
+        Income salary = new Income.Builder().setAmount("5").setTag(new String("FOOD"))
+                .setDescription(new String("Chicken Rice")).build();
+
+        assertSame(lunch.getTag(), dinner.getTag());
+        assertSame(lunch.getDescription(), dinner.getDescription());
+        assertSame(lunch.getDescription(), salary.getDescription());
+        assertEquals(lunch.getTagId(), salary.getTagId());
+        assertEquals(TagDictionary.idOf("FOOD"), lunch.getTagId());
+        assertSame(StringPool.intern(new String("Chicken Rice")), lunch.getDescription());
+    }
+}
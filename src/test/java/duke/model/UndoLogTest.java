@@ -0,0 +1,158 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import duke.model.payment.Payment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UndoLogTest {
+    private DukePP model;
+
+    /**
+     * Creates an empty model, with the income pane's list set up as the UI would.
+     */
+    @BeforeEach
+    public void createModel() throws DukeException {
+        model = new DukePP(new ExpenseList(new ArrayList<>()), new HashMap<>(), new IncomeList(new ArrayList<>()),
+                new Budget(BigDecimal.ZERO, new HashMap<>()), new BudgetView(new HashMap<>()), Optional.empty());
+        model.getIncomeExternalList();
+    }
+
+    @Test
+    public void testUndoRedo() throws DukeException {
+        Expense testExpense = new Expense.Builder().build();
+        model.addExpense(testExpense);
+        model.deleteExpense(1);
+        assertEquals(1, model.undo(1));
+        assertEquals(1, model.getExpenseList().internalSize());
+        assertEquals(1, model.undo(1));
+        assertEquals(0, model.getExpenseList().internalSize());
+        assertEquals(1, model.redo(1));
+        assertEquals(1, model.getExpenseList().internalSize());
+        assertEquals(1, model.redo(1));
+        assertEquals(0, model.getExpenseList().internalSize());
+        assertEquals(2, model.undo(2));
+        assertEquals(2, model.redo(3));
+        assertEquals(0, model.redo(1));
+    }
+
+    @Test
+    public void testEditIsUndoneAsAWhole() throws DukeException {
+        model.addExpense(new Expense.Builder().setAmount("1").build());
+        model.beginEdit();
+        model.addExpense(new Expense.Builder().setAmount("2").build());
+        model.addExpense(new Expense.Builder().setAmount("3").build());
+        model.endEdit();
+        assertEquals(1, model.undo(1));
+        assertEquals(new BigDecimal("1.00"), model.getTotalAmount());
+
+        // A new change means the undone edit can no longer be redone.
+        model.clearExpense();
+        assertEquals(0, model.redo(1));
+        assertEquals(1, model.undo(1));
+        assertEquals(new BigDecimal("1.00"), model.getTotalAmount());
+    }
+
+    @Test
+    public void testConfirmIsUndone() throws DukeException {
+        Expense kopi = new Expense.Builder().setAmount("1.50").setTentative(true).build();
+        model.addExpense(kopi);
+        model.confirmExpense(1);
+        assertFalse(kopi.isTentative());
+        model.undo(1);
+        assertTrue(kopi.isTentative());
+        assertEquals(List.of(kopi), model.getExpenseExternalList());
+        assertEquals(new BigDecimal("0.00"), model.getTotalAmount());
+    }
+
+    @Test
+    public void testIncomesAndPaymentsAreUndone() throws DukeException {
+        model.addIncome(new Income.Builder().setAmount("400").build());
+        model.deleteIncome(1);
+        Payment rent = new Payment.Builder().setDescription("Rent").setDue("01/12/2019").setAmount("800").build();
+        model.addPayment(rent);
+        Payment higherRent = new Payment.Builder(rent).setAmount("900").build();
+        model.setPayment(1, higherRent);
+
+        assertEquals(1, model.undo(1));
+        assertEquals(List.of(rent), model.getUnmodifiableFilteredPaymentList());
+        assertEquals(2, model.undo(2));
+        assertTrue(model.getUnmodifiableFilteredPaymentList().isEmpty());
+        assertEquals(1, model.getIncomeList().internalSize());
+        assertEquals(3, model.redo(3));
+        assertEquals(List.of(higherRent), model.getUnmodifiableFilteredPaymentList());
+        assertEquals(0, model.getIncomeList().internalSize());
+    }
+
+    @Test
+    public void testRolledPaymentsAreUndone() throws DukeException {
+        Payment rent = new Payment.Builder().setDescription("Rent").setDue("31/01/2020").setAmount("800")
+                .setRecurrence("monthly").build();
+        model.addPayment(rent);
+        assertEquals(1, model.rollPaymentsForward(LocalDate.of(2020, 2, 2)));
+        final List<Payment> rolled = new ArrayList<>(model.getPaymentList().getInternalList());
+
+        // The roll is undone first, which puts back the payment that was added.
+        assertEquals(1, model.undo(1));
+        assertEquals(List.of(rent), model.getPaymentList().getInternalList());
+        assertEquals(1, model.undo(1));
+        assertTrue(model.getPaymentList().getInternalList().isEmpty());
+        assertEquals(2, model.redo(2));
+        assertEquals(rolled, model.getPaymentList().getInternalList());
+        assertEquals(2, model.undo(2));
+        assertTrue(model.getPaymentList().getInternalList().isEmpty());
+    }
+
+    @Test
+    public void testBatchDeletesAreUndoneAsOne() throws DukeException {
+        model.viewExpense("all", 0);
+        LocalDate day = LocalDate.of(2018, 12, 1);
+        for (int i = 1; i <= 6; i++) {
+            model.addExpense(new Expense.Builder().setAmount(String.valueOf(i)).setTag(i % 2 == 0 ? "FOOD" : "BUS")
+                    .setTime(day.plusDays(i * 10).atTime(9, 0)).build());
+        }
+
+        // The indices all refer to the expenses as they were shown, latest first, so 5 is the second expense added.
+        assertEquals(3, model.deleteExpenses(List.of(1, 2, 5)));
+        assertEquals(new BigDecimal("8.00"), model.getTotalAmount());
+        assertEquals(1, model.undo(1));
+        assertEquals(new BigDecimal("21.00"), model.getTotalAmount());
+
+        assertEquals(2, model.deleteExpenses(ExpenseFilter.parse("tag:food before:20/01/2019")));
+        assertEquals(new BigDecimal("15.00"), model.getTotalAmount());
+        assertEquals(4, model.getExpenseExternalList().size());
+        assertEquals(1, model.undo(1));
+        assertEquals(6, model.getExpenseExternalList().size());
+        assertEquals(1, model.redo(1));
+        assertEquals(new BigDecimal("15.00"), model.getTotalAmount());
+
+        Payment rent = new Payment.Builder().setDescription("Rent").setDue("01/12/2019").setAmount("800").build();
+        Payment water = new Payment.Builder().setDescription("Water").setDue("02/12/2019").setAmount("30").build();
+        model.addPayment(rent);
+        model.addPayment(water);
+        assertEquals(List.of(rent, water), model.removePayments(List.of(1, 2)));
+        assertTrue(model.getUnmodifiableFilteredPaymentList().isEmpty());
+        assertEquals(1, model.undo(1));
+        assertEquals(List.of(rent, water), model.getUnmodifiableFilteredPaymentList());
+    }
+
+    @Test
+    public void testOnlyRecentEditsAreKept() {
+        for (int i = 0; i < UndoLog.MAX_EDITS + 5; i++) {
+            model.addExpense(new Expense.Builder().build());
+        }
+        assertEquals(UndoLog.MAX_EDITS, model.undo(UndoLog.MAX_EDITS + 5));
+        assertEquals(5, model.getExpenseList().internalSize());
+    }
+}
@@ -45,4 +45,13 @@ public class PaymentInMonthPredicateTest {
     public void test_paymentDueAfterMonth_returnFalse() throws DukeException {
         assertFalse(predicate.test(new Payment.Builder().setDue(NEXT_MONTH_DUE).build()));
     }
+
+    @Test
+    public void test_fixedDay_dueFromTodayToEndOfMonth() throws DukeException {
+        PaymentInMonthPredicate leapFebruary = new PaymentInMonthPredicate(LocalDate.of(2020, 2, 10));
+        assertFalse(leapFebruary.test(new Payment.Builder().setDue("09/02/2020").build()));
+        assertTrue(leapFebruary.test(new Payment.Builder().setDue("10/02/2020").build()));
+        assertTrue(leapFebruary.test(new Payment.Builder().setDue("29/02/2020").build()));
+        assertFalse(leapFebruary.test(new Payment.Builder().setDue("01/03/2020").build()));
+    }
 }
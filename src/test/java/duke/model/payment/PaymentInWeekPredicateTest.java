@@ -45,4 +45,16 @@ public class PaymentInWeekPredicateTest {
     public void test_paymentDueAfterWeek_returnFalse() throws DukeException {
         assertFalse(predicate.test(new Payment.Builder().setDue(NEXT_WEEK_DUE).build()));
     }
+
+    @Test
+    public void test_fixedDay_dueFromTodayToSunday() throws DukeException {
+        // Wednesday 13/11/2019
+        PaymentInWeekPredicate wednesday = new PaymentInWeekPredicate(LocalDate.of(2019, 11, 13));
+        assertFalse(wednesday.test(new Payment.Builder().setDue("12/11/2019").build()));
+        assertTrue(wednesday.test(new Payment.Builder().setDue("13/11/2019").build()));
+        assertTrue(wednesday.test(new Payment.Builder().setDue("17/11/2019").build()));
+        assertFalse(wednesday.test(new Payment.Builder().setDue("18/11/2019").build()));
+        assertEquals(wednesday, new PaymentInWeekPredicate(LocalDate.of(2019, 11, 13)));
+        assertNotEquals(wednesday, new PaymentInMonthPredicate(LocalDate.of(2019, 11, 13)));
+    }
 }
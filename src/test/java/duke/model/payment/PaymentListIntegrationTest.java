@@ -2,13 +2,18 @@ package duke.model.payment;
 
 import duke.exception.DukeException;
 import duke.model.payment.Payment.Builder;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -113,6 +118,47 @@ public class PaymentListIntegrationTest {
         assertEquals(expectedPayments.getInternalList(), payments.getInternalList());
     }
 
+    @Test
+    public void setPayment_samePlace_singleReplacement() {
+        fillFullPayments();
+        List<String> changes = recordChanges();
+        Payment lateStorageFee = assertDoesNotThrow(() -> new Builder().setDescription("In Room Storage Fee")
+                .setDue("10/09/2019").setAmount("150").setPriority("medium").build());
+        assertDoesNotThrow(() -> payments.setPayment(1, lateStorageFee)); // 1-based index
+
+        assertEquals(List.of("replaced"), changes);
+        assertEquals(lateStorageFee, payments.asUnmodifiableFilteredList().get(0));
+    }
+
+    @Test
+    public void setPayment_otherPlace_movedWithoutSorting() {
+        fillFullPayments();
+        List<String> changes = recordChanges();
+        Payment lateStorageFee = assertDoesNotThrow(() -> new Builder().setDescription("In Room Storage Fee")
+                .setDue("01/12/2019").setAmount("150").setPriority("medium").build());
+        assertDoesNotThrow(() -> payments.setPayment(1, lateStorageFee)); // 1-based index
+
+        assertEquals(List.of("removed", "added"), changes);
+        assertEquals(lateStorageFee, payments.asUnmodifiableFilteredList().get(PAYMENTS_FULL_SIZE - 1));
+        assertTrue(payments.setPayment(lateStorageFee, STORAGE_FEE));
+        assertEquals(STORAGE_FEE, payments.asUnmodifiableFilteredList().get(0));
+        assertFalse(payments.setPayment(lateStorageFee, STORAGE_FEE));
+    }
+
+    @Test
+    public void add_tiedPayments_keptInOrderAdded() throws DukeException {
+        assertDoesNotThrow(() -> payments.setSortingCriteria(PRIORITY_SORTING_CRITERIA));
+        fillFullPayments();
+
+        // STORAGE_FEE and RETURN_MONEY tie on medium priority, as do ORIENTATION_FEE and HALL_MEAL on low.
+        assertEquals(List.of(HOSTEL_FEE, STORAGE_FEE, RETURN_MONEY, ORIENTATION_FEE, HALL_MEAL),
+                payments.asUnmodifiableFilteredList());
+        assertTrue(payments.remove(RETURN_MONEY));
+        assertFalse(payments.remove(RETURN_MONEY));
+        payments.add(RETURN_MONEY);
+        assertEquals(RETURN_MONEY, payments.asUnmodifiableFilteredList().get(2));
+    }
+
     @Test
     public void searchPredicate_nullKeyword_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> payments.setSearchPredicate(null));
@@ -136,6 +182,30 @@ public class PaymentListIntegrationTest {
                 payments.asUnmodifiableFilteredList());
     }
 
+    @Test
+    public void filters_timeScopeKeywordAndPriority_combined() {
+        fillFullPayments();
+        payments.setTimePredicate(new PaymentInMonthPredicate(LocalDate.of(2019, 10, 1)));
+        assertEquals(List.of(ORIENTATION_FEE, HOSTEL_FEE), payments.asUnmodifiableFilteredList());
+
+        payments.setSearchPredicate("FEE");
+        payments.setPriorityPredicate(Payment.Priority.HIGH);
+        assertEquals(List.of(HOSTEL_FEE), payments.asUnmodifiableFilteredList());
+        assertEquals("\"FEE\" / High", payments.getPredicateIndicator().getValue().toString());
+
+        // Changing the time scope keeps the keyword and priority.
+        payments.setTimePredicate(PaymentList.PREDICATE_SHOW_ALL_PAYMENTS);
+        payments.setPriorityPredicate(Payment.Priority.LOW);
+        assertEquals(List.of(ORIENTATION_FEE, HALL_MEAL), payments.asUnmodifiableFilteredList());
+
+        payments.setSearchPredicate("hall");
+        assertEquals(List.of(HALL_MEAL), payments.asUnmodifiableFilteredList());
+        payments.setSearchPredicate("");
+        payments.setPriorityPredicate(null);
+        assertEquals(new PaymentFilter(), payments.getFilter());
+        assertEquals(PAYMENTS_FULL_SIZE, payments.asUnmodifiableFilteredList().size());
+    }
+
     @Test
     public void setSortingCriteria_nullSortingCriteria_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> payments.setSortingCriteria(null));
@@ -176,6 +246,27 @@ public class PaymentListIntegrationTest {
         // 0-based
     }
 
+    /**
+     * Returns the kinds of changes made to the shown payments from now on, in order.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        payments.asUnmodifiableFilteredList().addListener((ListChangeListener<Payment>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated");
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced");
+                } else if (change.wasAdded()) {
+                    changes.add("added");
+                } else if (change.wasRemoved()) {
+                    changes.add("removed");
+                }
+            }
+        });
+        return changes;
+    }
+
     /**
      * Fills the {@code payments} with all five samples.
      */
@@ -0,0 +1,271 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.DukePP;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.Model;
+import duke.model.payment.PaymentList;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncStorageManagerTest {
+
+    @Test
+    public void testSavesOfSameStoreAreMerged() {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            attributes.put("KEY" + i, "VALUE" + i);
+            storage.savePlanAttributes(attributes);
+        }
+        attributes.clear();
+        storage.flush();
+
+        assertEquals(1, recordingStorage.savedAttributes.size());
+        assertEquals(5, recordingStorage.savedAttributes.get(0).size());
+    }
+
+    @Test
+    public void testFailedSaveIsReported() {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.isFailing = true;
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        List<String> failures = new ArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+
+        storage.savePlanAttributes(new HashMap<>());
+        storage.flush();
+
+        assertEquals(List.of("save failed"), failures);
+    }
+
+    @Test
+    public void testOnlyChangedStoresAreSaved() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        Model model = new DukePP(new ExpenseList(new ArrayList<>()), new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+
+        storage.saveDirty(model);
+        storage.flush();
+        assertEquals(0, recordingStorage.savedExpenses.size());
+
+        // The list was not loaded from storage, so its changes are not tracked and a copy of it is saved.
+        model.addExpense(new Expense.Builder().setAmount("1").build());
+        storage.saveDirty(model);
+        storage.saveDirty(model);
+        storage.flush();
+        assertEquals(1, recordingStorage.savedExpenses.size());
+        assertEquals(0, recordingStorage.savedAttributes.size());
+    }
+
+    @Test
+    public void testUntrackedExpenseListIsSavedAsACopy() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        Expense coffee = new Expense.Builder().setAmount("1.20").build();
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>(List.of(coffee)));
+
+        storage.saveExpenseList(expenseList);
+        expenseList.add(new Expense.Builder().setAmount("3").build());
+        storage.flush();
+
+        assertEquals(List.of(List.of(coffee)), recordingStorage.savedExpenses);
+        assertEquals(0, recordingStorage.savedExpenseLists);
+        assertTrue(expenseList.isTrackingChanges());
+    }
+
+    @Test
+    public void testFailedExpenseChangesAreSavedAsACopy() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        final AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.startTrackingChanges();
+        Model model = new DukePP(expenseList, new HashMap<>(),
+                new IncomeList(new ArrayList<>()), new Budget(BigDecimal.ZERO, new HashMap<>()),
+                new BudgetView(new HashMap<>()), Optional.empty());
+        Expense coffee = new Expense.Builder().setAmount("1.20").build();
+        model.addExpense(coffee);
+
+        // Another save is made while the failing write runs, and is written after the list stopped tracking.
+        recordingStorage.isFailing = true;
+        recordingStorage.onExpenseSave = () -> {
+            recordingStorage.onExpenseSave = () -> { };
+            storage.saveExpenseList(expenseList);
+        };
+        storage.saveExpenseList(expenseList);
+        storage.flush();
+        recordingStorage.isFailing = false;
+        storage.flush();
+        assertEquals(1, recordingStorage.savedExpenseLists);
+        assertFalse(expenseList.isTrackingChanges());
+
+        // The copy is taken on the next save, although the list has not changed since.
+        storage.saveDirty(model);
+        storage.flush();
+        assertEquals(List.of(List.of(coffee)), recordingStorage.savedExpenses);
+        assertTrue(expenseList.isTrackingChanges());
+    }
+
+    @Test
+    public void testFailedExpenseChangesAreSavedOnClose() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        final AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.startTrackingChanges();
+        Expense coffee = new Expense.Builder().setAmount("1.20").build();
+        expenseList.add(coffee);
+
+        recordingStorage.isFailing = true;
+        storage.saveExpenseList(expenseList);
+        storage.flush();
+        recordingStorage.isFailing = false;
+        storage.close();
+        assertEquals(List.of(List.of(coffee)), recordingStorage.savedExpenses);
+    }
+
+    @Test
+    public void testFlushFromWriterThreadWritesRightAway() {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+        recordingStorage.onSave = storage::flush;
+
+        storage.savePlanAttributes(new HashMap<>());
+        assertTimeoutPreemptively(Duration.ofSeconds(5), storage::flush);
+        assertEquals(1, recordingStorage.savedAttributes.size());
+    }
+
+    @Test
+    public void testNothingIsSavedAfterClose() {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncStorageManager storage = new AsyncStorageManager(recordingStorage);
+
+        storage.savePlanAttributes(new HashMap<>());
+        storage.close();
+        assertEquals(1, recordingStorage.savedAttributes.size());
+
+        storage.savePlanAttributes(new HashMap<>());
+        storage.flush();
+        storage.close();
+        assertEquals(1, recordingStorage.savedAttributes.size());
+    }
+
+    private static class RecordingStorage implements Storage {
+        private final List<Map<String, String>> savedAttributes = new ArrayList<>();
+        private final List<List<Expense>> savedExpenses = new ArrayList<>();
+        private int savedExpenseLists = 0;
+        private boolean isFailing = false;
+        private Runnable onSave = () -> { };
+        private Runnable onExpenseSave = () -> { };
+
+        /**
+         * Fails as the storage of the expense list does, by making the list stop tracking its changes.
+         */
+        @Override
+        public void saveExpenseList(ExpenseList expenseList) throws DukeException {
+            onExpenseSave.run();
+            savedExpenseLists++;
+            if (isFailing) {
+                expenseList.stopTrackingChanges();
+                throw new DukeException("save failed");
+            }
+        }
+
+        @Override
+        public void saveExpenses(List<Expense> expenses) {
+            savedExpenses.add(expenses);
+        }
+
+        @Override
+        public ExpenseList loadExpenseList() {
+            return null;
+        }
+
+        @Override
+        public void savePlanAttributes(Map<String, String> attributes) throws DukeException {
+            if (isFailing) {
+                throw new DukeException("save failed");
+            }
+            onSave.run();
+            savedAttributes.add(attributes);
+        }
+
+        @Override
+        public Map<String, String> loadPlanAttributes() {
+            return null;
+        }
+
+        @Override
+        public void saveIncomeList(IncomeList incomeList) {
+        }
+
+        @Override
+        public IncomeList loadIncomeList() {
+            return null;
+        }
+
+        @Override
+        public Budget loadBudget() {
+            return null;
+        }
+
+        @Override
+        public void saveBudget(Budget budget) {
+        }
+
+        @Override
+        public BudgetView loadBudgetView() {
+            return null;
+        }
+
+        @Override
+        public void saveBudgetView(BudgetView budgetView) {
+        }
+
+        @Override
+        public Optional<PaymentList> loadPaymentList() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void savePaymentList(PaymentList paymentList) {
+        }
+
+        @Override
+        public void exportPaymentList(PaymentList paymentList, Path exportPath) {
+        }
+
+        @Override
+        public void saveDirty(Model model) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseListStorageManagerTest {
+    @TempDir
+    File userDirectory;
+
+    @Test
+    public void testChangesSurviveReload() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(new Expense.Builder().setAmount("1.50").setDescription("Kopi").build());
+        expenseList.add(new Expense.Builder().setAmount("3.50").setDescription("Chicken Rice").build());
+        storage.saveExpenseList(expenseList);
+
+        expenseList.remove(1);
+        storage.saveExpenseList(expenseList);
+
+        ExpenseList reloaded = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).loadExpenseList();
+        assertEquals(1, reloaded.internalSize());
+        assertEquals(expenseList.getInternalList().get(0).toStorageString(),
+                reloaded.getInternalList().get(0).toStorageString());
+    }
+
+    @Test
+    public void testSaveAppendsOnlyChanges() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(new Expense.Builder().setAmount("2").build());
+        storage.saveExpenseList(expenseList);
+
+        File segmentDirectory = new File(userDirectory, "expenses");
+        File snapshot = new File(segmentDirectory, YearMonth.now() + ".seg");
+        File journal = new File(segmentDirectory, YearMonth.now() + ".seg.journal");
+        assertTrue(journal.length() > 0);
+        assertEquals(0, snapshot.length());
+    }
+
+    @Test
+    public void testUntrackedListIsRewritten() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList loaded = storage.loadExpenseList();
+        loaded.add(new Expense.Builder().setAmount("2").build());
+        storage.saveExpenseList(loaded);
+
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("5").build());
+        storage.saveExpenseList(new ExpenseList(expenses));
+
+        ExpenseList reloaded = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).loadExpenseList();
+        assertEquals(1, reloaded.internalSize());
+        assertEquals("5.00", reloaded.getInternalList().get(0).getAmount().toPlainString());
+    }
+
+    @Test
+    public void testBinaryFormatRoundTrip() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.BINARY);
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("12.30").setDescription("Gong Cha").setTag("DRINKS")
+                .setTime("14:00 09/11/2019").setTentative(true).build());
+        expenses.add(new Expense.Builder().setAmount("85").setDescription("Mario Kart 8").setTag("GAMES")
+                .setTime("14:00 09/06/2018").setRecurrence("every 2 weeks").build());
+        storage.saveExpenseList(new ExpenseList(expenses));
+
+        ExpenseList reloaded = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.BINARY)
+                .loadExpenseList();
+        reloaded.setViewScope("all", 0);
+        assertEquals(2, reloaded.internalSize());
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i).toStorageString(), reloaded.getExternalList().get(i).toStorageString());
+        }
+    }
+
+    @Test
+    public void testOnlyCurrentMonthIsLoaded() throws DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("1").build());
+        expenses.add(new Expense.Builder().setAmount("2").setTime("10:00 01/11/2019").build());
+        expenses.add(new Expense.Builder().setAmount("4").setTime("10:00 01/11/2019").setTentative(true).build());
+        expenses.add(new Expense.Builder().setAmount("8").setTime("10:00 01/06/2018").build());
+        new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).saveExpenseList(new ExpenseList(expenses));
+
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList reloaded = storage.loadExpenseList();
+        assertEquals(1, reloaded.internalSize());
+        assertEquals(new BigDecimal("11.00"), reloaded.getTotalAmount());
+
+        reloaded.setViewScope("year", LocalDate.now().getYear() - 2019);
+        assertEquals(3, reloaded.internalSize());
+        assertEquals(new BigDecimal("11.00"), reloaded.getTotalAmount());
+
+        reloaded.clear();
+        storage.saveExpenseList(reloaded);
+        assertTrue(new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).loadExpenseList().isEmpty());
+    }
+
+    @Test
+    public void testAddedMonthIsCompleted() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("2").setTime("10:00 01/11/2019").build());
+        storage.saveExpenseList(new ExpenseList(expenses));
+
+        storage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(new Expense.Builder().setAmount("3").setTime("10:00 02/11/2019").build());
+        storage.saveExpenseList(expenseList);
+
+        ExpenseList reloaded = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).loadExpenseList();
+        reloaded.setViewScope("all", 0);
+        assertEquals(2, reloaded.internalSize());
+    }
+
+    @Test
+    public void testSingleFileIsSplitIntoSegments() throws DukeException, IOException {
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("3.50").setTime("10:00 01/11/2019").build());
+        expenses.add(new Expense.Builder().setAmount("85").setTime("10:00 01/06/2018").setRecurring(true).build());
+        new ExpenseListJournal(new File(userDirectory, "expenses.txt"), new TextExpenseSnapshotCodec())
+                .rewrite(expenses);
+
+        ExpenseList converted = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.BINARY)
+                .loadExpenseList();
+        assertEquals(1, converted.internalSize());
+        assertTrue(new File(userDirectory, "expenses.txt.bak").exists());
+        assertTrue(new File(userDirectory, "expenses" + File.separator + "2019-11.seg").exists());
+
+        ExpenseList textReloaded = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT)
+                .loadExpenseList();
+        textReloaded.setViewScope("all", 0);
+        assertEquals(2, textReloaded.internalSize());
+    }
+
+    @Test
+    public void testSegmentsAreConvertedWhenFormatChanges() throws DukeException, IOException {
+        List<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense.Builder().setAmount("3.50").setTime("10:00 01/11/2019").build());
+        expenses.add(new Expense.Builder().setAmount("85").setTime("10:00 01/06/2018").setRecurring(true).build());
+        new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT).saveExpenseList(new ExpenseList(expenses));
+        File segmentDirectory = new File(userDirectory, "expenses");
+        File monthSegment = new File(segmentDirectory, "2019-11.seg");
+        File recurringSegment = new File(segmentDirectory, "recurring.seg");
+        assertEquals(ExpenseFileFormat.TEXT, ExpenseFileFormat.of(monthSegment));
+
+        ExpenseList converted = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.BINARY)
+                .loadExpenseList();
+        assertEquals(ExpenseFileFormat.BINARY, ExpenseFileFormat.of(monthSegment));
+        assertEquals(ExpenseFileFormat.BINARY, ExpenseFileFormat.of(recurringSegment));
+        assertEquals(new BigDecimal("88.50"), converted.getTotalAmount());
+        converted.setViewScope("all", 0);
+        assertEquals(2, converted.internalSize());
+    }
+
+    @Test
+    public void testReplay() throws DukeException {
+        Expense one = new Expense.Builder().setAmount("1").setTime("10:00 01/01/2019").build();
+        Expense two = new Expense.Builder().setAmount("2").setTime("10:00 01/01/2019").build();
+        Expense three = new Expense.Builder().setAmount("3").setTime("10:00 01/01/2019").build();
+        List<Expense> snapshot = List.of(one, two, one);
+        List<String> journal = List.of("change:removed\n" + one.toStorageString(),
+                "change:added\n" + three.toStorageString(),
+                "change:removed\n" + three.toStorageString(),
+                "change:added\n" + two.toStorageString());
+        List<String> replayed = ExpenseListJournal.replay(snapshot, journal).stream()
+                .map(Expense::toStorageString)
+                .collect(Collectors.toList());
+        assertEquals(List.of(two.toStorageString(), one.toStorageString(), two.toStorageString()), replayed);
+
+        List<String> cleared = List.of("change:added\n" + one.toStorageString(), "change:cleared",
+                "change:added\n" + three.toStorageString());
+        assertEquals(1, ExpenseListJournal.replay(snapshot, cleared).size());
+    }
+}
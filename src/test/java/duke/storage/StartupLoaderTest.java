@@ -0,0 +1,113 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.payment.PaymentList;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StartupLoaderTest {
+
+    @Test
+    public void testStoresLoadConcurrently() throws Exception {
+        LoadingStorage storage = new LoadingStorage();
+        // The expense and income lists only finish loading once both are being loaded at the same time.
+        storage.barrier = new CyclicBarrier(2);
+
+        new StartupLoader(storage, 2).loadAll();
+        assertEquals(6, storage.loadCount);
+    }
+
+    @Test
+    public void testFailedLoadIsRethrown() {
+        LoadingStorage storage = new LoadingStorage();
+        storage.budgetFailure = new DukeException("budget failed");
+
+        DukeException e = assertThrows(DukeException.class, () -> new StartupLoader(storage).loadAll());
+        assertEquals("budget failed", e.getMessage());
+    }
+
+    /**
+     * A storage whose loads return empty stores, without any files.
+     */
+    private static class LoadingStorage extends StorageManager {
+        private CyclicBarrier barrier;
+        private DukeException budgetFailure;
+        private int loadCount = 0;
+
+        LoadingStorage() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public ExpenseList loadExpenseList() throws DukeException {
+            awaitBarrier();
+            countLoad();
+            return new ExpenseList(new ArrayList<>());
+        }
+
+        @Override
+        public Map<String, String> loadPlanAttributes() {
+            countLoad();
+            return new HashMap<>();
+        }
+
+        @Override
+        public IncomeList loadIncomeList() throws DukeException {
+            awaitBarrier();
+            countLoad();
+            return new IncomeList(new ArrayList<>());
+        }
+
+        @Override
+        public Budget loadBudget() throws DukeException {
+            countLoad();
+            if (budgetFailure != null) {
+                throw budgetFailure;
+            }
+            return new Budget(BigDecimal.ZERO, new HashMap<>());
+        }
+
+        @Override
+        public BudgetView loadBudgetView() {
+            countLoad();
+            return new BudgetView(new HashMap<>());
+        }
+
+        @Override
+        public Optional<PaymentList> loadPaymentList() {
+            countLoad();
+            return Optional.of(new PaymentList());
+        }
+
+        private synchronized void countLoad() {
+            loadCount++;
+        }
+
+        private void awaitBarrier() throws DukeException {
+            if (barrier == null) {
+                return;
+            }
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new DukeException("loads did not overlap: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageRecordReaderTest {
+
+    @Test
+    public void testFieldsAndRecords() {
+        StorageRecordReader reader = new StorageRecordReader("a:1\nb:x:y\nc\n\n\nd:\n\n");
+
+        assertTrue(reader.nextRecord());
+        assertTrue(reader.nextField());
+        assertTrue(reader.isField("a"));
+        assertEquals("1", reader.getValue());
+        assertTrue(reader.nextField());
+        assertTrue(reader.isField("b"));
+        assertEquals("x:y", reader.getValue());
+        assertTrue(reader.nextField());
+        assertTrue(reader.isField("c"));
+        assertEquals("", reader.getValue());
+        assertFalse(reader.nextField());
+
+        assertTrue(reader.nextRecord());
+        assertTrue(reader.nextField());
+        assertTrue(reader.isField("d"));
+        assertFalse(reader.isField("dd"));
+        assertEquals("", reader.getValue());
+        assertFalse(reader.nextField());
+
+        assertFalse(reader.nextRecord());
+    }
+
+    @Test
+    public void testUnreadFieldsAreSkipped() {
+        StorageRecordReader reader = new StorageRecordReader("a:1\nb:2\n\nc:3");
+        assertTrue(reader.nextRecord());
+        assertTrue(reader.nextRecord());
+        assertTrue(reader.nextField());
+        assertTrue(reader.isField("c"));
+    }
+
+    @Test
+    public void testReadExpenseRoundTrip() throws DukeException {
+        Expense expense = new Expense.Builder().setAmount("4.99").setDescription("Mighty Zinger: Burger")
+                .setTag("FOOD").setTime("12:00 08/11/2019").setTentative(true).build();
+        StorageRecordReader reader = new StorageRecordReader(expense.toStorageString() + "\n\n");
+        assertTrue(reader.nextRecord());
+        assertEquals(expense.toStorageString(), TextExpenseSnapshotCodec.readExpense(reader).toStorageString());
+        assertFalse(reader.nextRecord());
+    }
+}
@@ -0,0 +1,156 @@
+package duke.storage.database;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.Income;
+import duke.model.IncomeList;
+import duke.model.Recurrence;
+import duke.model.payment.Payment;
+import duke.model.payment.PaymentList;
+import duke.storage.ExpenseFileFormat;
+import duke.storage.ExpenseListStorageManager;
+import duke.storage.IncomeListStorage;
+import duke.storage.payment.PaymentListStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatabaseStorageTest {
+    @TempDir
+    File userDirectory;
+
+    private Database database;
+
+    @BeforeEach
+    public void openDatabase() throws DukeException {
+        database = Database.open(userDirectory);
+    }
+
+    @AfterEach
+    public void closeDatabase() {
+        database.close();
+    }
+
+    @Test
+    public void testExpenseChangesSurviveReload() throws DukeException {
+        DatabaseExpenseListStorage storage = new DatabaseExpenseListStorage(database);
+        ExpenseList expenseList = storage.loadExpenseList();
+        Expense kopi = new Expense.Builder().setAmount("1.50").setDescription("Kopi").setTentative(true).build();
+        expenseList.add(kopi);
+        expenseList.add(new Expense.Builder().setAmount("3.50").setDescription("Chicken Rice").build());
+        storage.saveExpenseList(expenseList);
+
+        // Confirming a tentative expense removes it and adds it back.
+        expenseList.remove(expenseList.getExternalList().indexOf(kopi) + 1);
+        kopi.setTentative(false);
+        expenseList.add(kopi);
+        storage.saveExpenseList(expenseList);
+
+        ExpenseList reloaded = new DatabaseExpenseListStorage(database).loadExpenseList();
+        assertEquals(2, reloaded.internalSize());
+        assertEquals(new BigDecimal("5.00"), reloaded.getTotalAmount());
+    }
+
+    @Test
+    public void testOnlyCurrentMonthIsLoaded() throws DukeException {
+        Expense lastYear = new Expense.Builder().setAmount("7").setTime(LocalDate.now().minusYears(1).atTime(12, 0))
+                .build();
+        Expense thisMonth = new Expense.Builder().setAmount("3").build();
+        ExpenseList saved = new ExpenseList(new ArrayList<>(List.of(lastYear, thisMonth)));
+        new DatabaseExpenseListStorage(database).saveExpenseList(saved);
+
+        ExpenseList expenseList = new DatabaseExpenseListStorage(database).loadExpenseList();
+        assertEquals(1, expenseList.internalSize());
+        assertEquals(1, expenseList.getHistory().getUnloadedCount());
+        assertEquals(new BigDecimal("10.00"), expenseList.getTotalAmount());
+
+        YearMonth lastYearMonth = YearMonth.from(lastYear.getTime());
+        assertEquals(1, expenseList.getHistory().loadMonths(lastYearMonth, lastYearMonth).size());
+        assertEquals(0, expenseList.getHistory().getUnloadedCount());
+        assertTrue(expenseList.getHistory().loadAll().isEmpty());
+    }
+
+    @Test
+    public void testIncomesAndPaymentsSurviveReload() throws DukeException, IOException {
+        DatabaseIncomeListStorage incomeStorage = new DatabaseIncomeListStorage(database);
+        IncomeList incomeList = incomeStorage.loadIncomeList();
+        incomeList.add(new Income.Builder().setAmount("400").setDescription("Pocket Money").build());
+        incomeList.add(new Income.Builder().setAmount("250.70").setDescription("Part-Time Job").build());
+        incomeStorage.saveIncomeList(incomeList);
+        incomeList.remove(1);
+        incomeStorage.saveIncomeList(incomeList);
+
+        DatabasePaymentListStorage paymentStorage = new DatabasePaymentListStorage(database);
+        PaymentList paymentList = paymentStorage.readPaymentList().get();
+        paymentList.add(new Payment.Builder().setDescription("Rent").setDue("01/12/2019").setAmount("800.5")
+                .setPriority("high").setRecurrence("monthly").setRecurrenceStart("31/10/2019").build());
+        paymentStorage.savePaymentList(paymentList);
+
+        assertEquals(1, new DatabaseIncomeListStorage(database).loadIncomeList().internalSize());
+        Payment payment = new DatabasePaymentListStorage(database).readPaymentList().get().getInternalList().get(0);
+        assertEquals("Rent", payment.getDescription());
+        assertEquals(LocalDate.of(2019, 12, 1), payment.getDue());
+        assertEquals(new BigDecimal("800.5"), payment.getAmount());
+        assertEquals(Payment.Priority.HIGH, payment.getPriority());
+        assertEquals(Recurrence.MONTHLY, payment.getRecurrence());
+        assertEquals(LocalDate.of(2019, 10, 31), payment.getRecurrenceStart());
+    }
+
+    @Test
+    public void testFilesAreMigratedOnce() throws DukeException {
+        ExpenseListStorageManager fileStorage = new ExpenseListStorageManager(userDirectory, ExpenseFileFormat.TEXT);
+        ExpenseList files = fileStorage.loadExpenseList();
+        files.add(new Expense.Builder().setAmount("2").build());
+        files.add(new Expense.Builder().setAmount("9").setTime(LocalDate.now().minusYears(2).atTime(8, 0)).build());
+        fileStorage.saveExpenseList(files);
+
+        DatabaseMigrator migrator = new DatabaseMigrator(database);
+        assertTrue(migrator.migrateOnce(fileStorage, new EmptyIncomeListStorage(), new EmptyPaymentListStorage()));
+        assertFalse(migrator.migrateOnce(fileStorage, new EmptyIncomeListStorage(), new EmptyPaymentListStorage()));
+
+        ExpenseList migrated = new DatabaseExpenseListStorage(database).loadExpenseList();
+        assertEquals(new BigDecimal("11.00"), migrated.getTotalAmount());
+    }
+
+    private static class EmptyIncomeListStorage implements IncomeListStorage {
+        @Override
+        public void saveIncomeList(IncomeList incomeList) {
+        }
+
+        @Override
+        public IncomeList loadIncomeList() {
+            return new IncomeList(new ArrayList<>());
+        }
+    }
+
+    private static class EmptyPaymentListStorage implements PaymentListStorage {
+        @Override
+        public Optional<PaymentList> readPaymentList() {
+            return Optional.of(new PaymentList());
+        }
+
+        @Override
+        public void savePaymentList(PaymentList paymentList) {
+        }
+
+        @Override
+        public void exportPaymentList(PaymentList paymentList, Path exportPath) {
+        }
+    }
+}
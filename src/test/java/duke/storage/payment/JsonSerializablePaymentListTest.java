@@ -0,0 +1,88 @@
+package duke.storage.payment;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import duke.exception.DukeException;
+import duke.model.payment.Payment;
+import duke.model.payment.PaymentList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonSerializablePaymentListTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String PRETTY_PAYMENT_LIST = "{\n"
+            + "  \"payments\" : [ {\n"
+            + "    \"description\" : \"Orientation Fee\",\n"
+            + "    \"receiver\" : \"OSA\",\n"
+            + "    \"due\" : \"09/09/2019\",\n"
+            + "    \"remark\" : \"School Life\",\n"
+            + "    \"amount\" : \"30.5\",\n"
+            + "    \"priority\" : \"High\",\n"
+            + "    \"unknown\" : { \"nested\" : [ 1, 2 ] }\n"
+            + "  } ]\n"
+            + "}";
+
+    private static PaymentList read(String json) throws IOException, DukeException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return JsonSerializablePaymentList.readFrom(parser).toModelType();
+        }
+    }
+
+    private static String write(PaymentList paymentList) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            new JsonSerializablePaymentList(paymentList).writeTo(generator);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    public void readFrom_prettyPrintedFile_readsPayments() throws IOException, DukeException {
+        PaymentList paymentList = read(PRETTY_PAYMENT_LIST);
+
+        assertEquals(1, paymentList.getInternalList().size());
+        Payment payment = paymentList.getInternalList().get(0);
+        assertEquals("Orientation Fee", payment.getDescription());
+        assertEquals("OSA", payment.getReceiver());
+        assertEquals("SCHOOL LIFE", payment.getTag());
+        assertEquals("High", payment.getPriority().toString());
+    }
+
+    @Test
+    public void writeTo_compactOutput_roundTrips() throws IOException, DukeException {
+        List<Payment> payments = new ArrayList<>();
+        payments.add(new Payment.Builder().setDescription("Phone Bill").setReceiver("Singtel")
+                .setDue("01/12/2019").setAmount("42.90").setPriority("Low").build());
+        payments.add(new Payment.Builder().setDescription("Rent \"Room\"").setDue("05/12/2019")
+                .setAmount("800").setRecurrence("monthly until 05/06/2020").build());
+        PaymentList paymentList = new PaymentList(payments);
+
+        String json = write(paymentList);
+        assertFalse(json.contains("\n"));
+        assertEquals(json, write(read(json)));
+        Payment rent = read(json).getInternalList().get(1);
+        assertEquals("monthly until 05/06/2020", rent.getRecurrence().toString());
+        assertEquals(rent.getDue(), rent.getRecurrenceStart());
+    }
+
+    @Test
+    public void readFrom_missingField_throwsDukeException() {
+        assertThrows(DukeException.class, () -> read("{\"payments\":[{\"description\":\"Fee\"}]}"));
+    }
+
+    @Test
+    public void readFrom_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> read(PRETTY_PAYMENT_LIST.substring(0, 80)));
+    }
+}